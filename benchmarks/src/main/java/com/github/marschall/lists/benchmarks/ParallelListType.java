@@ -0,0 +1,135 @@
+package com.github.marschall.lists.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.github.marschall.lists.DictionaryList;
+import com.github.marschall.lists.GeneratedList;
+import com.github.marschall.lists.MappedList;
+import com.github.marschall.lists.PrefixedList;
+import com.github.marschall.lists.RepeatingList;
+import com.github.marschall.lists.SingletonList;
+
+/**
+ * The list and delegate types whose spliterators are measured by
+ * {@link ParallelScalingBenchmarks} and {@link SplitTreeShape}.
+ */
+public enum ParallelListType {
+
+  ARRAY_LIST {
+    @Override
+    List<Integer> create(int size) {
+      return arrayList(size);
+    }
+  },
+
+  LINKED_LIST {
+    @Override
+    List<Integer> create(int size) {
+      return new LinkedList<>(arrayList(size));
+    }
+  },
+
+  REPEATING {
+    @Override
+    List<Integer> create(int size) {
+      return new RepeatingList<>(1, size);
+    }
+  },
+
+  SINGLETON {
+    @Override
+    List<Integer> create(int size) {
+      // can not grow, shows the overhead of a list that does not split
+      return new SingletonList<>(1);
+    }
+  },
+
+  GENERATED {
+    @Override
+    List<Integer> create(int size) {
+      return new GeneratedList<>(size, Integer::valueOf);
+    }
+  },
+
+  DICTIONARY {
+    @Override
+    List<Integer> create(int size) {
+      List<Integer> values = new ArrayList<>(size);
+      for (int i = 0; i < size; ++i) {
+        values.add(i % 100);
+      }
+      return DictionaryList.copyOf(values);
+    }
+  },
+
+  MAPPED_ARRAY_LIST {
+    @Override
+    List<Integer> create(int size) {
+      return new MappedList<>(increment(), arrayList(size));
+    }
+  },
+
+  MAPPED_LINKED_LIST {
+    @Override
+    List<Integer> create(int size) {
+      return new MappedList<>(increment(), new LinkedList<>(arrayList(size)));
+    }
+  },
+
+  PREFIXED_CHAIN {
+    @Override
+    List<Integer> create(int size) {
+      return prefixedChain(size);
+    }
+  },
+
+  MAPPED_PREFIXED_CHAIN {
+    @Override
+    List<Integer> create(int size) {
+      return new MappedList<>(increment(), prefixedChain(size));
+    }
+  },
+
+  NESTED_MAPPED {
+    @Override
+    List<Integer> create(int size) {
+      List<Integer> list = arrayList(size);
+      for (int i = 0; i < 3; ++i) {
+        list = new MappedList<>(increment(), list);
+      }
+      return list;
+    }
+  };
+
+  /**
+   * The number of {@link PrefixedList}s in front of the {@link ArrayList} of a chain.
+   */
+  static final int CHAIN_LENGTH = 64;
+
+  abstract List<Integer> create(int size);
+
+  static List<Integer> arrayList(int size) {
+    List<Integer> list = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) {
+      list.add(i);
+    }
+    return list;
+  }
+
+  static List<Integer> prefixedChain(int size) {
+    int prefixes = Math.min(CHAIN_LENGTH, size);
+    List<Integer> list = arrayList(size - prefixes);
+    for (int i = 0; i < prefixes; ++i) {
+      list = new PrefixedList<>(i, list);
+    }
+    return list;
+  }
+
+  static Function<Integer, Integer> increment() {
+    return i -> i + 1;
+  }
+
+}
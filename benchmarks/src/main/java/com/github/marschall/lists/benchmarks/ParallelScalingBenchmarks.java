@@ -0,0 +1,85 @@
+package com.github.marschall.lists.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.StreamSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how parallel streams over the spliterators of the lists scale
+ * with the number of cores.
+ *
+ * <p>Every element costs a fixed amount of CPU work so that the speedup
+ * only depends on how evenly the spliterator splits. The stream runs in
+ * a dedicated {@link ForkJoinPool} with the given parallelism, compare
+ * the results of a list type across parallelism levels to see where it
+ * stops scaling. The shape of the split tree is printed during setup,
+ * see also {@link SplitTreeShape}.</p>
+ *
+ * <p>The stream is created directly from {@link List#spliterator()} so
+ * that specialized stream implementations like the one of
+ * {@link com.github.marschall.lists.RepeatingList} do not hide the
+ * spliterator.</p>
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@State(Scope.Benchmark)
+public class ParallelScalingBenchmarks {
+
+  @Param({"1000000"})
+  public int size;
+
+  @Param({"1", "2", "4", "8", "16"})
+  public int parallelism;
+
+  @Param({"ARRAY_LIST", "LINKED_LIST", "REPEATING", "SINGLETON", "GENERATED", "DICTIONARY",
+    "MAPPED_ARRAY_LIST", "MAPPED_LINKED_LIST", "PREFIXED_CHAIN", "MAPPED_PREFIXED_CHAIN", "NESTED_MAPPED"})
+  public ParallelListType listType;
+
+  @Param({"10"})
+  public int tokensPerElement;
+
+  private List<Integer> list;
+
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setUp() {
+    this.list = this.listType.create(this.size);
+    this.pool = new ForkJoinPool(this.parallelism);
+    System.out.printf("%n%s parallelism %d: %s%n", this.listType, this.parallelism,
+            SplitTreeStatistics.of(this.list.spliterator(), this.parallelism));
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.pool.shutdown();
+  }
+
+  @Benchmark
+  public long parallelSum() throws InterruptedException, ExecutionException {
+    int tokens = this.tokensPerElement;
+    // streams started in a fork join pool run in that pool
+    return this.pool.submit(() -> StreamSupport.stream(this.list.spliterator(), true)
+            .mapToLong(each -> {
+              Blackhole.consumeCPU(tokens);
+              return each;
+            })
+            .sum())
+            .get();
+  }
+
+}
@@ -0,0 +1,159 @@
+package com.github.marschall.lists.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.marschall.lists.PairList;
+import com.github.marschall.lists.QuadrupleList;
+import com.github.marschall.lists.TripleList;
+
+/**
+ * Compares the throughput of the field based lists with
+ * {@link Arrays#asList(Object...)} and {@link List#of()}.
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class SmallListBenchmarks {
+
+  @Param({"2", "3", "4"})
+  public int size;
+
+  private String first;
+  private String second;
+  private String third;
+  private String fourth;
+
+  private List<String> fieldList;
+  private List<String> arraysAsList;
+  private List<String> listOf;
+
+  @Setup
+  public void setUp() {
+    this.first = "first";
+    this.second = "second";
+    this.third = "third";
+    this.fourth = "fourth";
+    this.fieldList = this.newFieldList();
+    this.arraysAsList = this.newArraysAsList();
+    this.listOf = this.newListOf();
+  }
+
+  private List<String> newFieldList() {
+    switch (this.size) {
+      case 2:
+        return new PairList<>(this.first, this.second);
+      case 3:
+        return new TripleList<>(this.first, this.second, this.third);
+      case 4:
+        return new QuadrupleList<>(this.first, this.second, this.third, this.fourth);
+      default:
+        throw new IllegalStateException("unsupported size: " + this.size);
+    }
+  }
+
+  private List<String> newArraysAsList() {
+    switch (this.size) {
+      case 2:
+        return Arrays.asList(this.first, this.second);
+      case 3:
+        return Arrays.asList(this.first, this.second, this.third);
+      case 4:
+        return Arrays.asList(this.first, this.second, this.third, this.fourth);
+      default:
+        throw new IllegalStateException("unsupported size: " + this.size);
+    }
+  }
+
+  private List<String> newListOf() {
+    switch (this.size) {
+      case 2:
+        return List.of(this.first, this.second);
+      case 3:
+        return List.of(this.first, this.second, this.third);
+      case 4:
+        return List.of(this.first, this.second, this.third, this.fourth);
+      default:
+        throw new IllegalStateException("unsupported size: " + this.size);
+    }
+  }
+
+  @Benchmark
+  public List<String> createFieldList() {
+    return this.newFieldList();
+  }
+
+  @Benchmark
+  public List<String> createArraysAsList() {
+    return this.newArraysAsList();
+  }
+
+  @Benchmark
+  public List<String> createListOf() {
+    return this.newListOf();
+  }
+
+  @Benchmark
+  public int hashCodeFieldList() {
+    return this.fieldList.hashCode();
+  }
+
+  @Benchmark
+  public int hashCodeArraysAsList() {
+    return this.arraysAsList.hashCode();
+  }
+
+  @Benchmark
+  public int hashCodeListOf() {
+    return this.listOf.hashCode();
+  }
+
+  @Benchmark
+  public void iterateFieldList(Blackhole blackhole) {
+    for (String each : this.fieldList) {
+      blackhole.consume(each);
+    }
+  }
+
+  @Benchmark
+  public void iterateArraysAsList(Blackhole blackhole) {
+    for (String each : this.arraysAsList) {
+      blackhole.consume(each);
+    }
+  }
+
+  @Benchmark
+  public void iterateListOf(Blackhole blackhole) {
+    for (String each : this.listOf) {
+      blackhole.consume(each);
+    }
+  }
+
+  @Benchmark
+  public boolean equalsFieldList() {
+    return this.fieldList.equals(this.arraysAsList);
+  }
+
+  @Benchmark
+  public boolean equalsArraysAsList() {
+    return this.arraysAsList.equals(this.listOf);
+  }
+
+  @Benchmark
+  public boolean equalsListOf() {
+    return this.listOf.equals(this.arraysAsList);
+  }
+
+}
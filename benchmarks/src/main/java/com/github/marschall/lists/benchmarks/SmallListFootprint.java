@@ -0,0 +1,52 @@
+package com.github.marschall.lists.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import com.github.marschall.lists.OctupleList;
+import com.github.marschall.lists.PairList;
+import com.github.marschall.lists.QuadrupleList;
+import com.github.marschall.lists.TripleList;
+
+/**
+ * Prints the retained size of the field based lists compared to
+ * {@link ArrayList}, {@link Arrays#asList(Object...)} and {@link List#of()}.
+ *
+ * <p>Only the list structure is measured, the elements are shared.</p>
+ */
+public final class SmallListFootprint {
+
+  public static void main(String[] args) {
+    String a = "a";
+    String b = "b";
+    String c = "c";
+    String d = "d";
+
+    print(2, new PairList<>(a, b), Arrays.asList(a, b), List.of(a, b), new ArrayList<>(List.of(a, b)));
+    print(3, new TripleList<>(a, b, c), Arrays.asList(a, b, c), List.of(a, b, c), new ArrayList<>(List.of(a, b, c)));
+    print(4, new QuadrupleList<>(a, b, c, d), Arrays.asList(a, b, c, d), List.of(a, b, c, d), new ArrayList<>(List.of(a, b, c, d)));
+    print(8, new OctupleList<>(a, b, c, d, a, b, c, d), Arrays.asList(a, b, c, d, a, b, c, d),
+            List.of(a, b, c, d, a, b, c, d), new ArrayList<>(List.of(a, b, c, d, a, b, c, d)));
+  }
+
+  private static void print(int size, List<?> fieldList, List<?> arraysAsList, List<?> listOf, List<?> arrayList) {
+    System.out.printf("size %d: %s %d bytes, Arrays.asList %d bytes, List.of %d bytes, ArrayList %d bytes%n",
+            size, fieldList.getClass().getSimpleName(), footprint(fieldList),
+            footprint(arraysAsList), footprint(listOf), footprint(arrayList));
+  }
+
+  private static long footprint(List<?> list) {
+    GraphLayout withElements = GraphLayout.parseInstance(list);
+    GraphLayout elements = GraphLayout.parseInstance(list.toArray());
+    // subtract the elements, only count the list structure
+    return withElements.subtract(elements).totalSize();
+  }
+
+  private SmallListFootprint() {
+    throw new AssertionError("not instantiable");
+  }
+
+}
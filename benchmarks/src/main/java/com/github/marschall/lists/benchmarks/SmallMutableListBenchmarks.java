@@ -0,0 +1,105 @@
+package com.github.marschall.lists.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.marschall.lists.SmallList;
+
+/**
+ * Compares {@link SmallList} with {@link ArrayList} for the sizes of
+ * typical per-request lists, mostly zero to two elements.
+ *
+ * <p>Run with {@code -prof gc} to see the allocation per operation.</p>
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class SmallMutableListBenchmarks {
+
+  @Param({"0", "1", "2", "3"})
+  public int size;
+
+  private String[] elements;
+
+  private List<String> smallList;
+  private List<String> arrayList;
+
+  @Setup
+  public void setUp() {
+    this.elements = new String[this.size];
+    for (int i = 0; i < this.size; ++i) {
+      this.elements[i] = "element" + i;
+    }
+    this.smallList = this.fill(new SmallList<>());
+    this.arrayList = this.fill(new ArrayList<>());
+  }
+
+  private List<String> fill(List<String> list) {
+    for (String element : this.elements) {
+      list.add(element);
+    }
+    return list;
+  }
+
+  @Benchmark
+  public List<String> createSmallList() {
+    return this.fill(new SmallList<>());
+  }
+
+  @Benchmark
+  public List<String> createArrayList() {
+    return this.fill(new ArrayList<>());
+  }
+
+  @Benchmark
+  public List<String> createPresizedArrayList() {
+    return this.fill(new ArrayList<>(this.size));
+  }
+
+  @Benchmark
+  public void iterateSmallList(Blackhole blackhole) {
+    for (String each : this.smallList) {
+      blackhole.consume(each);
+    }
+  }
+
+  @Benchmark
+  public void iterateArrayList(Blackhole blackhole) {
+    for (String each : this.arrayList) {
+      blackhole.consume(each);
+    }
+  }
+
+  @Benchmark
+  public void forEachSmallList(Blackhole blackhole) {
+    this.smallList.forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void forEachArrayList(Blackhole blackhole) {
+    this.arrayList.forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public boolean containsSmallList() {
+    return this.smallList.contains("missing");
+  }
+
+  @Benchmark
+  public boolean containsArrayList() {
+    return this.arrayList.contains("missing");
+  }
+
+}
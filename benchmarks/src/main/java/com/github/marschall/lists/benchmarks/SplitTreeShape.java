@@ -0,0 +1,32 @@
+package com.github.marschall.lists.benchmarks;
+
+import java.util.List;
+
+/**
+ * Prints the split tree depth and leaf size distribution of the
+ * spliterator of every {@link ParallelListType} for several levels of
+ * parallelism.
+ *
+ * <p>A largest leaf share close to {@code 1 / (parallelism * 4)} means the
+ * spliterator splits evenly, a share close to 1 means it does not split at
+ * all and parallel streams can not scale.</p>
+ */
+public final class SplitTreeShape {
+
+  public static void main(String[] args) {
+    int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+    int maxParallelism = Runtime.getRuntime().availableProcessors();
+    for (ParallelListType type : ParallelListType.values()) {
+      List<Integer> list = type.create(size);
+      for (int parallelism = 1; parallelism <= maxParallelism; parallelism *= 2) {
+        SplitTreeStatistics statistics = SplitTreeStatistics.of(list.spliterator(), parallelism);
+        System.out.printf("%-22s parallelism %3d: %s%n", type, parallelism, statistics);
+      }
+    }
+  }
+
+  private SplitTreeShape() {
+    throw new AssertionError("not instantiable");
+  }
+
+}
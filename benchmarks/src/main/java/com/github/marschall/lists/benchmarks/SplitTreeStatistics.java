@@ -0,0 +1,107 @@
+package com.github.marschall.lists.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * The shape of the tree created by recursively splitting a spliterator
+ * the way parallel streams do.
+ *
+ * <p>Like the stream implementation a spliterator is split as long as
+ * its estimated size is larger than {@code size / (parallelism * 4)} and
+ * {@link Spliterator#trySplit()} succeeds. The leaves are traversed to
+ * record their exact size.</p>
+ */
+public final class SplitTreeStatistics {
+
+  private final int maxDepth;
+  private final List<Long> leafSizes;
+
+  private SplitTreeStatistics(int maxDepth, List<Long> leafSizes) {
+    this.maxDepth = maxDepth;
+    this.leafSizes = leafSizes;
+  }
+
+  /**
+   * Splits a spliterator and records the shape of the split tree.
+   *
+   * @param spliterator the spliterator to split, will be consumed
+   * @param parallelism the parallelism to compute the target leaf size for
+   * @return the shape of the split tree
+   */
+  public static SplitTreeStatistics of(Spliterator<?> spliterator, int parallelism) {
+    long estimate = spliterator.estimateSize();
+    long targetSize = Math.max(1L, estimate / (parallelism * 4L));
+    List<Long> leafSizes = new ArrayList<>();
+    int maxDepth = split(spliterator, targetSize, 0, leafSizes);
+    Collections.sort(leafSizes);
+    return new SplitTreeStatistics(maxDepth, leafSizes);
+  }
+
+  private static int split(Spliterator<?> spliterator, long targetSize, int depth, List<Long> leafSizes) {
+    if (spliterator.estimateSize() > targetSize) {
+      Spliterator<?> prefix = spliterator.trySplit();
+      if (prefix != null) {
+        int prefixDepth = split(prefix, targetSize, depth + 1, leafSizes);
+        int suffixDepth = split(spliterator, targetSize, depth + 1, leafSizes);
+        return Math.max(prefixDepth, suffixDepth);
+      }
+    }
+    long[] count = new long[1];
+    spliterator.forEachRemaining(each -> count[0] += 1L);
+    leafSizes.add(count[0]);
+    return depth;
+  }
+
+  public int getMaxDepth() {
+    return this.maxDepth;
+  }
+
+  public int getLeafCount() {
+    return this.leafSizes.size();
+  }
+
+  public long getMinLeafSize() {
+    return this.leafSizes.get(0);
+  }
+
+  public long getMedianLeafSize() {
+    return this.leafSizes.get(this.leafSizes.size() / 2);
+  }
+
+  public long getMaxLeafSize() {
+    return this.leafSizes.get(this.leafSizes.size() - 1);
+  }
+
+  public long getTotalSize() {
+    long total = 0L;
+    for (Long each : this.leafSizes) {
+      total += each;
+    }
+    return total;
+  }
+
+  /**
+   * The share of the largest leaf of all elements, an upper bound for the
+   * achievable speedup is {@code 1 / largestLeafShare}.
+   *
+   * @return the share of the largest leaf, between 0 and 1
+   */
+  public double getLargestLeafShare() {
+    long total = this.getTotalSize();
+    if (total == 0L) {
+      return 0.0d;
+    }
+    return (double) this.getMaxLeafSize() / total;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("depth: %d, leaves: %d, leaf size min: %d median: %d max: %d, largest leaf share: %.3f",
+            this.maxDepth, this.getLeafCount(), this.getMinLeafSize(), this.getMedianLeafSize(),
+            this.getMaxLeafSize(), this.getLargestLeafShare());
+  }
+
+}
@@ -0,0 +1,122 @@
+package com.github.marschall.lists.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.github.marschall.lists.MappedList;
+
+/**
+ * Compares serializing a {@link MappedList} of ids with its source list
+ * of entities against serializing only the ids through
+ * {@link MappedList#withValueSerialization()}.
+ *
+ * <p>The stream sizes are printed during setup.</p>
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+public class ValueSerializationBenchmarks {
+
+  @Param({"100", "10000"})
+  public int size;
+
+  private MappedList<Long, Entity> sourceSerialized;
+  private MappedList<Long, Entity> valueSerialized;
+
+  private byte[] sourceBytes;
+  private byte[] valueBytes;
+
+  @Setup
+  public void setUp() throws IOException {
+    List<Entity> entities = new ArrayList<>(this.size);
+    for (int i = 0; i < this.size; ++i) {
+      entities.add(new Entity(i, "name " + i, "a description of entity " + i + " that is much longer than its id"));
+    }
+    Function<Entity, Long> getId = (Function<Entity, Long> & Serializable) Entity::getId;
+    this.sourceSerialized = new MappedList<>(getId, entities);
+    this.valueSerialized = this.sourceSerialized.withValueSerialization();
+    this.sourceBytes = serialize(this.sourceSerialized);
+    this.valueBytes = serialize(this.valueSerialized);
+    System.out.printf("%nsize: %d source stream: %d bytes, value stream: %d bytes%n",
+            this.size, this.sourceBytes.length, this.valueBytes.length);
+  }
+
+  private static byte[] serialize(Object object) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (ObjectOutputStream stream = new ObjectOutputStream(bos)) {
+      stream.writeObject(object);
+    }
+    return bos.toByteArray();
+  }
+
+  private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return stream.readObject();
+    }
+  }
+
+  @Benchmark
+  public byte[] serializeSource() throws IOException {
+    return serialize(this.sourceSerialized);
+  }
+
+  @Benchmark
+  public byte[] serializeValues() throws IOException {
+    return serialize(this.valueSerialized);
+  }
+
+  @Benchmark
+  public Object deserializeSource() throws IOException, ClassNotFoundException {
+    return deserialize(this.sourceBytes);
+  }
+
+  @Benchmark
+  public Object deserializeValues() throws IOException, ClassNotFoundException {
+    return deserialize(this.valueBytes);
+  }
+
+  static final class Entity implements Serializable {
+
+    private final long id;
+    private final String name;
+    private final String description;
+
+    Entity(long id, String name, String description) {
+      this.id = id;
+      this.name = name;
+      this.description = description;
+    }
+
+    long getId() {
+      return this.id;
+    }
+
+    String getName() {
+      return this.name;
+    }
+
+    String getDescription() {
+      return this.description;
+    }
+
+  }
+
+}
@@ -0,0 +1,307 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Base class for the fixed size lists that store their elements in
+ * instance variables instead of an array.
+ *
+ * <p>Subclasses implement {@link #get(int)}, {@link #set(int, Object)},
+ * {@link #size()} and the bulk methods that benefit from unrolling
+ * like {@link #toArray()}, {@link #forEach(Consumer)} and
+ * {@link #hashCode()}.</p>
+ *
+ * @param <E> the element type
+ */
+abstract class AbstractFieldList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+
+  static IndexOutOfBoundsException invalidIndex(int index, int size) {
+    return new IndexOutOfBoundsException("invalid index: " + index + " only 0 to " + (size - 1) + " allowed");
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return this.indexOf(o) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    int size = this.size();
+    for (int i = 0; i < size; ++i) {
+      if (Objects.equals(o, this.get(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    for (int i = this.size() - 1; i >= 0; --i) {
+      if (Objects.equals(o, this.get(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    int size = this.size();
+    if (other.size() != size) {
+      return false;
+    }
+    if (other instanceof RandomAccess) {
+      for (int i = 0; i < size; ++i) {
+        if (!Objects.equals(this.get(i), other.get(i))) {
+          return false;
+        }
+      }
+    } else {
+      int i = 0;
+      for (Object each : other) {
+        if (!Objects.equals(this.get(i), each)) {
+          return false;
+        }
+        i += 1;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // because arrays don't play well with generics
+  public <T> T[] toArray(T[] a) {
+    int size = this.size();
+    T[] result;
+    if (a.length < size) {
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+    } else {
+      result = a;
+    }
+    for (int i = 0; i < size; ++i) {
+      result[i] = (T) this.get(i);
+    }
+    if (result.length > size) {
+      result[size] = null;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    int size = this.size();
+    StringBuilder buffer = new StringBuilder();
+    buffer.append('[');
+    for (int i = 0; i < size; ++i) {
+      if (i > 0) {
+        buffer.append(',').append(' ');
+      }
+      this.appendElement(buffer, this.get(i));
+    }
+    buffer.append(']');
+    return buffer.toString();
+  }
+
+  private void appendElement(StringBuilder buffer, Object element) {
+    if (element == this) {
+      buffer.append("(this Collection)");
+    } else {
+      buffer.append(element);
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new FieldListIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new FieldListIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || index > this.size()) {
+      throw new IndexOutOfBoundsException("invalid index: " + index + " only 0 to " + this.size() + " allowed");
+    }
+    return new FieldListIterator(index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new IndexedSpliterator<>(this, 0, this.size(), Spliterator.ORDERED);
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    int size = this.size();
+    if (fromIndex < 0 || toIndex > size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (toIndex == fromIndex) {
+      return Collections.emptyList();
+    } else if (fromIndex == 0 && toIndex == size) {
+      return this;
+    } else {
+      return new SubListView<>(this, fromIndex, toIndex - fromIndex);
+    }
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  final class FieldListIterator implements ListIterator<E> {
+    // non-static because #set can modify the list
+
+    private int index;
+    private int lastReturned;
+
+    FieldListIterator(int index) {
+      this.index = index;
+      this.lastReturned = -1;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < size();
+    }
+
+    @Override
+    public E next() {
+      int i = this.index;
+      if (i >= size()) {
+        throw new NoSuchElementException();
+      }
+      this.index = i + 1;
+      this.lastReturned = i;
+      return get(i);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      int size = size();
+      while (this.index < size) {
+        this.lastReturned = this.index;
+        action.accept(get(this.index));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.index > 0;
+    }
+
+    @Override
+    public E previous() {
+      if (this.index == 0) {
+        throw new NoSuchElementException();
+      }
+      this.index -= 1;
+      this.lastReturned = this.index;
+      return get(this.index);
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.index;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.index - 1;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(E e) {
+      if (this.lastReturned == -1) {
+        throw new IllegalStateException();
+      }
+      AbstractFieldList.this.set(this.lastReturned, e);
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+}
@@ -0,0 +1,377 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Base class for the lists whose elements are computed from their index.
+ *
+ * <p>A list covers the index range {@code [offset, offset + size)} of its
+ * generator, {@link #subList(int, int)} only shifts the range.</p>
+ *
+ * @param <E> the element type
+ */
+abstract class AbstractGeneratedList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+
+  final int offset;
+
+  final int size;
+
+  AbstractGeneratedList(int offset, int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative but was: " + size);
+    }
+    this.offset = offset;
+    this.size = size;
+  }
+
+  /**
+   * Computes the element at the given index of the generator.
+   *
+   * @param index the index of the generator, {@link #offset} already added
+   * @return the element
+   */
+  abstract E generate(int index);
+
+  /**
+   * Creates a list covering a different range of the same generator.
+   *
+   * @param newOffset the index of the generator of the first element
+   * @param newSize the size of the new list
+   * @return the new list
+   */
+  abstract AbstractGeneratedList<E> newSubList(int newOffset, int newSize);
+
+  void checkIndex(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.size) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  @Override
+  public E get(int index) {
+    this.checkIndex(index);
+    return this.generate(this.offset + index);
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    int fence = this.offset + this.size;
+    for (int i = this.offset; i < fence; ++i) {
+      action.accept(this.generate(i));
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return this.indexOf(o) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    for (int i = 0; i < this.size; ++i) {
+      if (Objects.equals(o, this.generate(this.offset + i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    for (int i = this.size - 1; i >= 0; --i) {
+      if (Objects.equals(o, this.generate(this.offset + i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    int fence = this.offset + this.size;
+    for (int i = this.offset; i < fence; ++i) {
+      hashCode = 31 * hashCode + Objects.hashCode(this.generate(i));
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    if (other.size() != this.size) {
+      return false;
+    }
+    Iterator<?> otherIterator = other.iterator();
+    int fence = this.offset + this.size;
+    for (int i = this.offset; i < fence; ++i) {
+      if (!Objects.equals(this.generate(i), otherIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] result = new Object[this.size];
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = this.generate(this.offset + i);
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked") // because arrays don't play well with generics
+  @Override
+  public <T> T[] toArray(T[] a) {
+    T[] result;
+    if (a.length < this.size) {
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), this.size);
+    } else {
+      result = a;
+    }
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = (T) this.generate(this.offset + i);
+    }
+    if (result.length > this.size) {
+      result[this.size] = null;
+    }
+    return result;
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > this.size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex == 0 && toIndex == this.size) {
+      return this;
+    }
+    return this.newSubList(this.offset + fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new GeneratedIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new GeneratedIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || index > this.size) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+    return new GeneratedIterator(index);
+  }
+
+  @Override
+  public void sort(Comparator<? super E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E set(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  final class GeneratedIterator implements ListIterator<E> {
+
+    private int index;
+
+    GeneratedIterator(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < size;
+    }
+
+    @Override
+    public E next() {
+      if (this.index >= size) {
+        throw new NoSuchElementException();
+      }
+      E next = generate(offset + this.index);
+      this.index += 1;
+      return next;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (this.index < size) {
+        action.accept(generate(offset + this.index));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.index > 0;
+    }
+
+    @Override
+    public E previous() {
+      if (this.index == 0) {
+        throw new NoSuchElementException();
+      }
+      this.index -= 1;
+      return generate(offset + this.index);
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.index;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.index - 1;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+  abstract static class GeneratedSpliterator<T, S extends Spliterator<T>> implements Spliterator<T> {
+    // index based, splits exactly in the middle
+
+    int index;
+    final int fence;
+
+    GeneratedSpliterator(int index, int fence) {
+      this.index = index;
+      this.fence = fence;
+    }
+
+    abstract S split(int start, int end);
+
+    @Override
+    public S trySplit() {
+      int left = this.fence - this.index;
+      if (left <= 1) {
+        return null;
+      }
+      int start = this.index;
+      this.index += left / 2;
+      return this.split(start, this.index);
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.fence - this.index;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+      return this.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED
+              | Spliterator.SIZED
+              | Spliterator.SUBSIZED
+              | Spliterator.IMMUTABLE;
+    }
+
+  }
+
+}
@@ -0,0 +1,487 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A read only view on a list repeated several times.
+ *
+ * <p>This list is intended to be used when you need a pattern repeated
+ * many times, for example a round-robin schedule, without materializing
+ * it. Like {@link RepeatingList} but for a sequence of elements instead
+ * of a single element.</p>
+ *
+ * <p>Elements are accessed through {@link List#get(int)} of the base list
+ * which is therefore expected to implement {@link RandomAccess}.</p>
+ *
+ * <p>This list does not support modification.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;String&gt; schedule = new CyclingList&lt;&gt;(Arrays.asList("a", "b", "c"), 1_000_000);
+ * </code></pre>
+ *
+ * @param <E> the element type
+ */
+@NotThreadSafe
+public final class CyclingList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+  // RandomAccess because likely the base list implements it as well (eg. ArrayList)
+
+  @Nonnull
+  private final List<E> base;
+
+  private final int cycles;
+
+  /**
+   * Constructor.
+   *
+   * @param base the list to repeat
+   * @param cycles how many times to repeat {@code base}, must be positive
+   * @throws IllegalArgumentException if the resulting size would overflow {@code int}
+   */
+  public CyclingList(@Nonnull List<E> base, int cycles) {
+    if (cycles <= 0) {
+      throw new IllegalArgumentException("cycles must be positive but was: " + cycles);
+    }
+    if ((long) base.size() * cycles > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("size too large: " + base.size() + " * " + cycles);
+    }
+    this.base = base;
+    this.cycles = cycles;
+  }
+
+  @Override
+  public int size() {
+    return this.base.size() * this.cycles;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.base.isEmpty();
+  }
+
+  @Override
+  public E get(int index) {
+    int baseSize = this.base.size();
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= baseSize * this.cycles) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+    return this.base.get(index % baseSize);
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (int i = 0; i < this.cycles; ++i) {
+      this.base.forEach(action);
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return this.base.contains(o);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return this.base.indexOf(o);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    int baseIndex = this.base.lastIndexOf(o);
+    if (baseIndex == -1) {
+      return -1;
+    } else {
+      return (this.cycles - 1) * this.base.size() + baseIndex;
+    }
+  }
+
+  @Override
+  public void sort(Comparator<? super E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int hashCode() {
+    // one cycle maps the hash h to P * h + S with P = 31^baseSize
+    // apply the affine map cycles times starting from 1
+    // in O(log cycles) through repeated squaring of the map
+    int factor = pow31(this.base.size());
+    int summand = this.base.hashCode() - factor;
+
+    int resultFactor = 1;
+    int resultSummand = 0;
+    int exponent = this.cycles;
+    while (exponent > 0) {
+      if ((exponent & 1) != 0) {
+        // result := map o result
+        resultSummand = factor * resultSummand + summand;
+        resultFactor = factor * resultFactor;
+      }
+      // map := map o map
+      summand = factor * summand + summand;
+      factor = factor * factor;
+      exponent >>>= 1;
+    }
+    return resultFactor + resultSummand;
+  }
+
+  private static int pow31(int exponent) {
+    int result = 1;
+    int base = 31;
+    int e = exponent;
+    while (e > 0) {
+      if ((e & 1) != 0) {
+        result *= base;
+      }
+      base *= base;
+      e >>>= 1;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    int baseSize = this.base.size();
+    if (other.size() != baseSize * this.cycles) {
+      return false;
+    }
+    Iterator<?> otherIterator = other.iterator();
+    for (int cycle = 0; cycle < this.cycles; ++cycle) {
+      for (int i = 0; i < baseSize; ++i) {
+        if (!Objects.equals(this.base.get(i), otherIterator.next())) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] result = new Object[this.size()];
+    this.fill(result);
+    return result;
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    int size = this.size();
+    if (a.length < size) {
+      @SuppressWarnings("unchecked") // because arrays don't play well with generics
+      T[] result = (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+      this.fill(result);
+      return result;
+    } else {
+      this.fill(a);
+      if (a.length > size) {
+        a[size] = null;
+      }
+      return a;
+    }
+  }
+
+  private void fill(Object[] destination) {
+    Object[] pattern = this.base.toArray();
+    int baseSize = pattern.length;
+    int size = baseSize * this.cycles;
+    if (size == 0) {
+      return;
+    }
+    System.arraycopy(pattern, 0, destination, 0, baseSize);
+    // double the filled prefix until the array is full
+    int filled = baseSize;
+    while (filled < size) {
+      int length = Math.min(filled, size - filled);
+      System.arraycopy(destination, 0, destination, filled, length);
+      filled += length;
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new CyclingIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new CyclingIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || index > this.size()) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+    return new CyclingIterator(index);
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    int baseSize = this.base.size();
+    if (fromIndex < 0 || toIndex > baseSize * this.cycles) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (toIndex == fromIndex) {
+      return Collections.emptyList();
+    }
+    if (fromIndex % baseSize == 0 && toIndex % baseSize == 0) {
+      // whole cycles
+      int subCycles = (toIndex - fromIndex) / baseSize;
+      if (subCycles == this.cycles) {
+        return this;
+      }
+      return new CyclingList<>(this.base, subCycles);
+    }
+    if (fromIndex / baseSize == (toIndex - 1) / baseSize) {
+      // within a single cycle
+      int offset = fromIndex - fromIndex % baseSize;
+      return Collections.unmodifiableList(this.base.subList(fromIndex - offset, toIndex - offset));
+    }
+    return new SubListView<>(this, fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new CyclingSpliterator<>(this.base, this.cycles);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  final class CyclingIterator implements ListIterator<E> {
+
+    private int index;
+
+    CyclingIterator(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < size();
+    }
+
+    @Override
+    public E next() {
+      if (this.index >= size()) {
+        throw new NoSuchElementException();
+      }
+      E next = base.get(this.index % base.size());
+      this.index += 1;
+      return next;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      int size = size();
+      int baseSize = base.size();
+      while (this.index < size) {
+        action.accept(base.get(this.index % baseSize));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.index > 0;
+    }
+
+    @Override
+    public E previous() {
+      if (this.index == 0) {
+        throw new NoSuchElementException();
+      }
+      this.index -= 1;
+      return base.get(this.index % base.size());
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.index;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.index - 1;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+  static final class CyclingSpliterator<E> implements Spliterator<E> {
+    // splits on cycle boundaries first, the last cycle is split by the spliterator of the base list
+
+    private final List<E> base;
+    private final int baseSize;
+    private int cyclesLeft;
+    private Spliterator<E> current;
+
+    CyclingSpliterator(List<E> base, int cycles) {
+      this.base = base;
+      this.baseSize = base.size();
+      this.cyclesLeft = cycles;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      if (this.current != null) {
+        this.current.forEachRemaining(action);
+        this.current = null;
+      }
+      while (this.cyclesLeft > 0) {
+        this.base.forEach(action);
+        this.cyclesLeft -= 1;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      while (true) {
+        if (this.current != null && this.current.tryAdvance(action)) {
+          return true;
+        }
+        if (this.cyclesLeft == 0) {
+          this.current = null;
+          return false;
+        }
+        this.current = this.base.spliterator();
+        this.cyclesLeft -= 1;
+      }
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      if (this.current != null) {
+        if (this.cyclesLeft > 0) {
+          // hand off the cycle in progress, keep the whole cycles
+          Spliterator<E> prefix = this.current;
+          this.current = null;
+          return prefix;
+        }
+        return this.current.trySplit();
+      }
+      if (this.cyclesLeft > 1) {
+        int half = this.cyclesLeft / 2;
+        this.cyclesLeft -= half;
+        return new CyclingSpliterator<>(this.base, half);
+      }
+      if (this.cyclesLeft == 1) {
+        this.current = this.base.spliterator();
+        this.cyclesLeft = 0;
+        return this.current.trySplit();
+      }
+      return null;
+    }
+
+    @Override
+    public long estimateSize() {
+      long size = (long) this.cyclesLeft * this.baseSize;
+      if (this.current != null) {
+        size += this.current.estimateSize();
+      }
+      return size;
+    }
+
+    @Override
+    public int characteristics() {
+      int characteristics = Spliterator.ORDERED | Spliterator.SIZED;
+      if (this.current == null || this.current.hasCharacteristics(Spliterator.SUBSIZED)) {
+        characteristics |= Spliterator.SUBSIZED;
+      }
+      return characteristics;
+    }
+
+  }
+
+}
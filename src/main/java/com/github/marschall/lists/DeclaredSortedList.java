@@ -0,0 +1,343 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A read only view on a list that is known to be sorted.
+ *
+ * <p>This class is intended to be used when you have a list that is sorted
+ * but the type does not tell, for example events ordered by time in an
+ * {@link java.util.ArrayList}. {@link #contains(Object)},
+ * {@link #indexOf(Object)}, {@link #lastIndexOf(Object)},
+ * {@link #headIndex(Object, boolean)} and {@link #tailIndex(Object, boolean)}
+ * use binary search and need only O(log n) calls to {@link List#get(int)}.
+ * The underlying list should therefore support fast random access.</p>
+ *
+ * <p>The order is not verified, if the underlying list is not sorted the
+ * results are undefined. {@link #contains(Object)}, {@link #indexOf(Object)}
+ * and {@link #lastIndexOf(Object)} return {@code false} or {@code -1} for
+ * an object that can not be compared with the first element, eg. of a
+ * different type or {@code null} with natural ordering.
+ * Only the first element is checked, if the list contains elements of
+ * different types the search may still throw {@link ClassCastException}.
+ * {@link #headIndex(Object, boolean)} and {@link #tailIndex(Object, boolean)}
+ * do no such check and may throw {@link ClassCastException} or
+ * {@link NullPointerException}.</p>
+ *
+ * <p>A {@link MappedList} with a monotone mapping function, see
+ * {@link MappingProperties#monotone(Comparator)}, over this list is
+ * sorted as well and also uses binary search.</p>
+ *
+ * <p>This list does not support modification.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;Event&gt; events = &hellip;; // ordered by time
+ * DeclaredSortedList&lt;Event&gt; sortedEvents = new DeclaredSortedList&lt;&gt;(events, Comparator.comparing(Event::getTimestamp));
+ * List&lt;Instant&gt; timestamps = new MappedList&lt;&gt;(Event::getTimestamp, sortedEvents,
+ *     MappingProperties.&lt;Instant&gt;none().monotone(null));
+ * int firstToday = timestamps.tailIndex(startOfDay, true);
+ * </code></pre>
+ *
+ * @param <E> the element type
+ */
+@NotThreadSafe
+public final class DeclaredSortedList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+  // RandomAccess because likely the underlying list implements it as well (eg. ArrayList)
+
+  @Nonnull
+  private final List<E> delegate;
+
+  @CheckForNull
+  private final Comparator<? super E> comparator;
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the sorted list
+   * @param comparator the order of {@code delegate}, {@code null} for natural order
+   */
+  public DeclaredSortedList(@Nonnull List<E> delegate, @Nullable Comparator<? super E> comparator) {
+    this.delegate = delegate;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Returns the order of this list.
+   *
+   * @return the comparator, {@code null} for natural order
+   */
+  @CheckForNull
+  public Comparator<? super E> comparator() {
+    return this.comparator;
+  }
+
+  /**
+   * Returns the end index of the elements less than {@code toElement}
+   * or less than or equal to if {@code inclusive}.
+   *
+   * <p>Together with {@link #tailIndex(Object, boolean)} the result can be
+   * passed to {@link #subList(int, int)} to get a range of elements.</p>
+   *
+   * @param toElement the upper bound
+   * @param inclusive whether elements equal to {@code toElement} are included
+   * @return the exclusive end index of the elements in the range
+   */
+  public int headIndex(E toElement, boolean inclusive) {
+    return SortedSearch.headIndex(this.delegate, toElement, inclusive, this.comparator);
+  }
+
+  /**
+   * Returns the start index of the elements greater than or equal to
+   * {@code fromElement} or greater than if not {@code inclusive}.
+   *
+   * @param fromElement the lower bound
+   * @param inclusive whether elements equal to {@code fromElement} are included
+   * @return the index of the first element in the range, {@link #size()} if none
+   */
+  public int tailIndex(E fromElement, boolean inclusive) {
+    return SortedSearch.tailIndex(this.delegate, fromElement, inclusive, this.comparator);
+  }
+
+  @Override
+  public int size() {
+    return this.delegate.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.delegate.isEmpty();
+  }
+
+  @Override
+  public E get(int index) {
+    return this.delegate.get(index);
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    this.delegate.forEach(action);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return SortedSearch.indexOf(this.delegate, o, this.comparator) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return SortedSearch.indexOf(this.delegate, o, this.comparator);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return SortedSearch.lastIndexOf(this.delegate, o, this.comparator);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.delegate.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    return this.delegate.equals(obj);
+  }
+
+  @Override
+  public String toString() {
+    return this.delegate.toString();
+  }
+
+  @Override
+  public Object[] toArray() {
+    return this.delegate.toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    return this.delegate.toArray(a);
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    int size = this.delegate.size();
+    if (fromIndex < 0 || toIndex > size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex == toIndex) {
+      return Collections.emptyList();
+    }
+    if (fromIndex == 0 && toIndex == size) {
+      return this;
+    }
+    return new DeclaredSortedList<>(this.delegate.subList(fromIndex, toIndex), this.comparator);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new DeclaredSortedIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new DeclaredSortedIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || index > this.delegate.size()) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+    return new DeclaredSortedIterator(index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new IndexedSpliterator<>(this.delegate, 0, this.delegate.size(),
+            Spliterator.ORDERED | Spliterator.SORTED, this.comparator);
+  }
+
+  @Override
+  public void sort(Comparator<? super E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E set(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  final class DeclaredSortedIterator implements ListIterator<E> {
+
+    private int index;
+
+    DeclaredSortedIterator(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < delegate.size();
+    }
+
+    @Override
+    public E next() {
+      if (this.index >= delegate.size()) {
+        throw new NoSuchElementException();
+      }
+      E next = delegate.get(this.index);
+      this.index += 1;
+      return next;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.index > 0;
+    }
+
+    @Override
+    public E previous() {
+      if (this.index == 0) {
+        throw new NoSuchElementException();
+      }
+      this.index -= 1;
+      return delegate.get(this.index);
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.index;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.index - 1;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+}
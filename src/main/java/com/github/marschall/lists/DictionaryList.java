@@ -0,0 +1,718 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An immutable list that stores every distinct element only once and
+ * for every index only the code of the element in this dictionary.
+ *
+ * <p>Up to 256 distinct elements a code takes one byte, up to 65536
+ * distinct elements two bytes, instead of a reference per index. This
+ * makes the list useful for large lists of few distinct values like
+ * status codes, countries or currencies.</p>
+ *
+ * <p>{@link #contains(Object)}, {@link #indexOf(Object)} and
+ * {@link #lastIndexOf(Object)} look up the code of the element in a hash
+ * table and then only compare codes. The hash codes of the distinct
+ * elements are computed once so {@link #hashCode()} does not call
+ * {@link Object#hashCode()} at all.</p>
+ *
+ * <p>This list does not support modification, {@link #subList(int, int)}
+ * shares the dictionary and codes.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;Currency&gt; currencies = trades.stream()
+ *     .map(Trade::getCurrency)
+ *     .collect(DictionaryList.toDictionaryList());
+ * </code></pre>
+ *
+ * @param <E> the element type
+ */
+@Immutable
+public final class DictionaryList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+
+  static final int MAX_BYTE_CARDINALITY = 1 << Byte.SIZE;
+
+  static final int MAX_SHORT_CARDINALITY = 1 << Short.SIZE;
+
+  private final Object[] dictionary;
+
+  // exactly one of byteCodes and shortCodes is not null
+  private final byte[] byteCodes;
+
+  private final short[] shortCodes;
+
+  private final int offset;
+
+  private final int size;
+
+  // derived from the dictionary and shared with sub lists, not serialized
+  // because hash codes may differ between JVMs, eg. for enums
+  private final transient int[] hashCodes;
+
+  // open addressing hash table of dictionary codes plus one, 0 is an empty slot
+  private final transient int[] lookup;
+
+  private DictionaryList(Object[] dictionary, byte[] byteCodes, short[] shortCodes, int offset, int size) {
+    this(dictionary, byteCodes, shortCodes, offset, size, hashCodes(dictionary));
+  }
+
+  private DictionaryList(Object[] dictionary, byte[] byteCodes, short[] shortCodes, int offset, int size, int[] hashCodes) {
+    this(dictionary, byteCodes, shortCodes, offset, size, hashCodes, lookupTable(hashCodes));
+  }
+
+  private DictionaryList(Object[] dictionary, byte[] byteCodes, short[] shortCodes, int offset, int size,
+          int[] hashCodes, int[] lookup) {
+    this.dictionary = dictionary;
+    this.byteCodes = byteCodes;
+    this.shortCodes = shortCodes;
+    this.offset = offset;
+    this.size = size;
+    this.hashCodes = hashCodes;
+    this.lookup = lookup;
+  }
+
+  private static int[] hashCodes(Object[] dictionary) {
+    int[] hashCodes = new int[dictionary.length];
+    for (int i = 0; i < dictionary.length; ++i) {
+      hashCodes[i] = Objects.hashCode(dictionary[i]);
+    }
+    return hashCodes;
+  }
+
+  private static int[] lookupTable(int[] hashCodes) {
+    // power of two with a load factor between 0.25 and 0.5
+    int[] table = new int[Integer.highestOneBit(Math.max(hashCodes.length, 1)) << 2];
+    int mask = table.length - 1;
+    for (int code = 0; code < hashCodes.length; ++code) {
+      int slot = spread(hashCodes[code]) & mask;
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = code + 1;
+    }
+    return table;
+  }
+
+  private static int spread(int hashCode) {
+    // same as HashMap
+    return hashCode ^ (hashCode >>> 16);
+  }
+
+  private Object readResolve() {
+    // recompute the transient hash codes and lookup table
+    return new DictionaryList<>(this.dictionary, this.byteCodes, this.shortCodes, this.offset, this.size);
+  }
+
+  /**
+   * Encodes the elements of a collection.
+   *
+   * @param elements the elements to encode, not {@code null}, may contain {@code null}
+   * @param <E> the element type
+   * @return a new list with the same elements in iteration order
+   * @throws IllegalArgumentException if there are more than 65536 distinct elements
+   */
+  public static <E> DictionaryList<E> copyOf(Collection<? extends E> elements) {
+    Builder<E> builder = new Builder<>(elements.size());
+    for (E element : elements) {
+      builder.add(element);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a builder that encodes elements as they are added.
+   *
+   * @param <E> the element type
+   * @return a new builder
+   */
+  public static <E> Builder<E> builder() {
+    return new Builder<>(16);
+  }
+
+  /**
+   * Returns a collector that encodes the elements of a stream in one pass.
+   *
+   * @param <E> the element type
+   * @return a collector into a {@link DictionaryList}
+   */
+  public static <E> Collector<E, ?, DictionaryList<E>> toDictionaryList() {
+    return Collector.of(DictionaryList::<E>builder, Builder<E>::add, Builder<E>::addAll, Builder<E>::build);
+  }
+
+  /**
+   * Returns the distinct elements in the order of their first occurrence.
+   *
+   * <p>For a sub list this may contain elements that are only present
+   * in the parent list.</p>
+   *
+   * @return the dictionary of this list, not modifiable
+   */
+  @SuppressWarnings("unchecked") // only E is ever added to the dictionary
+  public List<E> distinctValues() {
+    return (List<E>) Collections.unmodifiableList(Arrays.asList(this.dictionary));
+  }
+
+  int code(int index) {
+    if (this.byteCodes != null) {
+      return Byte.toUnsignedInt(this.byteCodes[index]);
+    } else {
+      return Short.toUnsignedInt(this.shortCodes[index]);
+    }
+  }
+
+  @SuppressWarnings("unchecked") // only E is ever added to the dictionary
+  E decode(int index) {
+    return (E) this.dictionary[this.code(index)];
+  }
+
+  private int dictionaryCode(Object o) {
+    int hashCode = Objects.hashCode(o);
+    int mask = this.lookup.length - 1;
+    int slot = spread(hashCode) & mask;
+    int entry;
+    while ((entry = this.lookup[slot]) != 0) {
+      int code = entry - 1;
+      if (this.hashCodes[code] == hashCode && Objects.equals(o, this.dictionary[code])) {
+        return code;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  @Override
+  public E get(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.size) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+    return this.decode(this.offset + index);
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    int fence = this.offset + this.size;
+    for (int i = this.offset; i < fence; ++i) {
+      action.accept(this.decode(i));
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return this.indexOf(o) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    int code = this.dictionaryCode(o);
+    if (code == -1) {
+      return -1;
+    }
+    int fence = this.offset + this.size;
+    if (this.byteCodes != null) {
+      byte byteCode = (byte) code;
+      for (int i = this.offset; i < fence; ++i) {
+        if (this.byteCodes[i] == byteCode) {
+          return i - this.offset;
+        }
+      }
+    } else {
+      short shortCode = (short) code;
+      for (int i = this.offset; i < fence; ++i) {
+        if (this.shortCodes[i] == shortCode) {
+          return i - this.offset;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    int code = this.dictionaryCode(o);
+    if (code == -1) {
+      return -1;
+    }
+    if (this.byteCodes != null) {
+      byte byteCode = (byte) code;
+      for (int i = this.offset + this.size - 1; i >= this.offset; --i) {
+        if (this.byteCodes[i] == byteCode) {
+          return i - this.offset;
+        }
+      }
+    } else {
+      short shortCode = (short) code;
+      for (int i = this.offset + this.size - 1; i >= this.offset; --i) {
+        if (this.shortCodes[i] == shortCode) {
+          return i - this.offset;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    int fence = this.offset + this.size;
+    for (int i = this.offset; i < fence; ++i) {
+      hashCode = 31 * hashCode + this.hashCodes[this.code(i)];
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    if (other.size() != this.size) {
+      return false;
+    }
+    if (other instanceof DictionaryList) {
+      DictionaryList<?> otherList = (DictionaryList<?>) other;
+      if (otherList.dictionary == this.dictionary) {
+        // same encoding, codes can be compared directly
+        for (int i = 0; i < this.size; ++i) {
+          if (this.code(this.offset + i) != otherList.code(otherList.offset + i)) {
+            return false;
+          }
+        }
+        return true;
+      }
+    }
+    Iterator<?> otherIterator = other.iterator();
+    int fence = this.offset + this.size;
+    for (int i = this.offset; i < fence; ++i) {
+      if (!Objects.equals(this.decode(i), otherIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] result = new Object[this.size];
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = this.decode(this.offset + i);
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked") // because arrays don't play well with generics
+  @Override
+  public <T> T[] toArray(T[] a) {
+    T[] result;
+    if (a.length < this.size) {
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), this.size);
+    } else {
+      result = a;
+    }
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = (T) this.decode(this.offset + i);
+    }
+    if (result.length > this.size) {
+      result[this.size] = null;
+    }
+    return result;
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > this.size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex == 0 && toIndex == this.size) {
+      return this;
+    }
+    return new DictionaryList<>(this.dictionary, this.byteCodes, this.shortCodes, this.offset + fromIndex, toIndex - fromIndex,
+            this.hashCodes, this.lookup);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new DictionaryIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new DictionaryIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || index > this.size) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+    return new DictionaryIterator(index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new DictionarySpliterator<>(this, this.offset, this.offset + this.size);
+  }
+
+  @Override
+  public void sort(Comparator<? super E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E set(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Encodes elements into a {@link DictionaryList}.
+   *
+   * <p>Starts with one byte codes and widens them to two bytes when the
+   * 257th distinct element is added.</p>
+   *
+   * @param <E> the element type
+   */
+  @NotThreadSafe
+  public static final class Builder<E> {
+
+    private final Map<Object, Integer> codes;
+
+    private final List<Object> dictionary;
+
+    private byte[] byteCodes;
+
+    private short[] shortCodes;
+
+    private int size;
+
+    Builder(int initialCapacity) {
+      this.codes = new HashMap<>();
+      this.dictionary = new ArrayList<>();
+      this.byteCodes = new byte[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Adds an element at the end.
+     *
+     * @param element the element to add, can be {@code null}
+     * @return this builder
+     * @throws IllegalArgumentException if this would be the 65537th distinct element
+     */
+    @Nonnull
+    public Builder<E> add(E element) {
+      Integer code = this.codes.get(element);
+      int newCode;
+      if (code != null) {
+        newCode = code;
+      } else {
+        newCode = this.dictionary.size();
+        if (newCode == MAX_SHORT_CARDINALITY) {
+          throw new IllegalArgumentException("more than " + MAX_SHORT_CARDINALITY + " distinct elements");
+        }
+        if (newCode == MAX_BYTE_CARDINALITY) {
+          this.widen();
+        }
+        this.codes.put(element, newCode);
+        this.dictionary.add(element);
+      }
+      if (this.byteCodes != null) {
+        if (this.size == this.byteCodes.length) {
+          this.byteCodes = Arrays.copyOf(this.byteCodes, newCapacity(this.size));
+        }
+        this.byteCodes[this.size] = (byte) newCode;
+      } else {
+        if (this.size == this.shortCodes.length) {
+          this.shortCodes = Arrays.copyOf(this.shortCodes, newCapacity(this.size));
+        }
+        this.shortCodes[this.size] = (short) newCode;
+      }
+      this.size += 1;
+      return this;
+    }
+
+    private static int newCapacity(int capacity) {
+      int newCapacity = capacity + (capacity >> 1) + 1;
+      if (newCapacity < 0) {
+        // overflow
+        throw new OutOfMemoryError();
+      }
+      return newCapacity;
+    }
+
+    private void widen() {
+      short[] widened = new short[this.byteCodes.length];
+      for (int i = 0; i < this.size; ++i) {
+        widened[i] = (short) Byte.toUnsignedInt(this.byteCodes[i]);
+      }
+      this.shortCodes = widened;
+      this.byteCodes = null;
+    }
+
+    /**
+     * Adds all elements of an other builder at the end.
+     *
+     * @param other the builder whose elements to add
+     * @return this builder
+     * @throws IllegalArgumentException if this would result in more than 65536 distinct elements
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked") // only E is ever added to the dictionary
+    public Builder<E> addAll(Builder<? extends E> other) {
+      // read the state up front, other may be this builder
+      int otherSize = other.size;
+      byte[] otherByteCodes = other.byteCodes;
+      short[] otherShortCodes = other.shortCodes;
+      for (int i = 0; i < otherSize; ++i) {
+        int code;
+        if (otherByteCodes != null) {
+          code = Byte.toUnsignedInt(otherByteCodes[i]);
+        } else {
+          code = Short.toUnsignedInt(otherShortCodes[i]);
+        }
+        this.add((E) other.dictionary.get(code));
+      }
+      return this;
+    }
+
+    /**
+     * Creates a list of the elements added so far.
+     *
+     * <p>The builder can still be used afterwards, this does not affect
+     * the returned list.</p>
+     *
+     * @return a new list containing all added elements in order
+     */
+    @Nonnull
+    public DictionaryList<E> build() {
+      Object[] dictionaryArray = this.dictionary.toArray();
+      if (this.byteCodes != null) {
+        return new DictionaryList<>(dictionaryArray, Arrays.copyOf(this.byteCodes, this.size), null, 0, this.size);
+      } else {
+        return new DictionaryList<>(dictionaryArray, null, Arrays.copyOf(this.shortCodes, this.size), 0, this.size);
+      }
+    }
+
+  }
+
+  final class DictionaryIterator implements ListIterator<E> {
+
+    private int index;
+
+    DictionaryIterator(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < size;
+    }
+
+    @Override
+    public E next() {
+      if (this.index >= size) {
+        throw new NoSuchElementException();
+      }
+      E element = decode(offset + this.index);
+      this.index += 1;
+      return element;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (this.index < size) {
+        action.accept(decode(offset + this.index));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.index > 0;
+    }
+
+    @Override
+    public E previous() {
+      if (this.index <= 0) {
+        throw new NoSuchElementException();
+      }
+      this.index -= 1;
+      return decode(offset + this.index);
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.index;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.index - 1;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+  static final class DictionarySpliterator<E> implements Spliterator<E> {
+
+    private final DictionaryList<E> list;
+    private int index;
+    private final int fence;
+
+    DictionarySpliterator(DictionaryList<E> list, int index, int fence) {
+      this.list = list;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (this.index < this.fence) {
+        action.accept(this.list.decode(this.index));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      if (this.index < this.fence) {
+        action.accept(this.list.decode(this.index));
+        this.index += 1;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      int left = this.fence - this.index;
+      if (left <= 1) {
+        return null;
+      }
+      int start = this.index;
+      this.index += left / 2;
+      return new DictionarySpliterator<>(this.list, start, this.index);
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.fence - this.index;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+      return this.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.SIZED
+              | Spliterator.SUBSIZED
+              | Spliterator.ORDERED
+              | Spliterator.IMMUTABLE;
+    }
+
+  }
+
+}
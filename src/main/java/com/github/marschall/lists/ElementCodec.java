@@ -0,0 +1,64 @@
+package com.github.marschall.lists;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts list elements to and from bytes for {@link ListChannels}.
+ *
+ * <p>A codec either encodes every element with the same number of bytes,
+ * then {@link #fixedSize()} returns that number, or with a varying number
+ * of bytes, then {@link ListChannels} stores the size in front of every
+ * element. In both cases the codec does not have to store the size
+ * itself.</p>
+ *
+ * <p>Implementations for common types are available from {@link ElementCodecs}.</p>
+ *
+ * @param <E> the element type
+ */
+public interface ElementCodec<E> {
+
+  /**
+   * Returned by {@link #fixedSize()} if the elements are encoded with a
+   * varying number of bytes.
+   */
+  int VARIABLE_SIZE = -1;
+
+  /**
+   * Returns the number of bytes of every encoded element.
+   *
+   * @return the number of bytes of every encoded element or
+   *  {@link #VARIABLE_SIZE} if it depends on the element
+   */
+  default int fixedSize() {
+    return VARIABLE_SIZE;
+  }
+
+  /**
+   * Computes the number of bytes {@link #encode(Object, ByteBuffer)} will write.
+   *
+   * <p>Only called if {@link #fixedSize()} returns {@link #VARIABLE_SIZE}.</p>
+   *
+   * @param element the element to encode
+   * @return the number of bytes needed to encode {@code element}
+   */
+  int encodedSize(E element);
+
+  /**
+   * Writes an element at the current position of a buffer.
+   *
+   * @param element the element to encode
+   * @param buffer the buffer to write to, has at least
+   *  {@link #encodedSize(Object)} bytes remaining
+   */
+  void encode(E element, ByteBuffer buffer);
+
+  /**
+   * Reads an element from the current position of a buffer.
+   *
+   * @param buffer the buffer to read from
+   * @param size the number of bytes of the encoded element
+   * @return the decoded element
+   */
+  E decode(ByteBuffer buffer, int size);
+
+}
@@ -0,0 +1,260 @@
+package com.github.marschall.lists;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Factory methods for commonly used {@link ElementCodec}s.
+ *
+ * <p>Unless wrapped with {@link #nullable(ElementCodec)} the codecs do
+ * not support {@code null} elements.</p>
+ */
+public final class ElementCodecs {
+
+  private ElementCodecs() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Returns a codec for {@link Integer}, four bytes per element.
+   *
+   * @return a codec for {@link Integer}
+   */
+  @Nonnull
+  public static ElementCodec<Integer> integers() {
+    return IntegerCodec.INSTANCE;
+  }
+
+  /**
+   * Returns a codec for {@link Long}, eight bytes per element.
+   *
+   * @return a codec for {@link Long}
+   */
+  @Nonnull
+  public static ElementCodec<Long> longs() {
+    return LongCodec.INSTANCE;
+  }
+
+  /**
+   * Returns a codec for {@link Double}, eight bytes per element.
+   *
+   * @return a codec for {@link Double}
+   */
+  @Nonnull
+  public static ElementCodec<Double> doubles() {
+    return DoubleCodec.INSTANCE;
+  }
+
+  /**
+   * Returns a codec for {@link String} using UTF-8.
+   *
+   * @return a codec for {@link String}
+   */
+  @Nonnull
+  public static ElementCodec<String> strings() {
+    return StringCodec.INSTANCE;
+  }
+
+  /**
+   * Returns a codec that supports {@code null} elements by writing a
+   * flag byte in front of every element.
+   *
+   * @param codec the codec to use for non-{@code null} elements
+   * @param <E> the element type
+   * @return a codec supporting {@code null} elements
+   */
+  @Nonnull
+  public static <E> ElementCodec<E> nullable(@Nonnull ElementCodec<E> codec) {
+    return new NullableCodec<>(Objects.requireNonNull(codec, "codec"));
+  }
+
+  enum IntegerCodec implements ElementCodec<Integer> {
+
+    INSTANCE;
+
+    @Override
+    public int fixedSize() {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public int encodedSize(Integer element) {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public void encode(Integer element, ByteBuffer buffer) {
+      buffer.putInt(element);
+    }
+
+    @Override
+    public Integer decode(ByteBuffer buffer, int size) {
+      return buffer.getInt();
+    }
+
+  }
+
+  enum LongCodec implements ElementCodec<Long> {
+
+    INSTANCE;
+
+    @Override
+    public int fixedSize() {
+      return Long.BYTES;
+    }
+
+    @Override
+    public int encodedSize(Long element) {
+      return Long.BYTES;
+    }
+
+    @Override
+    public void encode(Long element, ByteBuffer buffer) {
+      buffer.putLong(element);
+    }
+
+    @Override
+    public Long decode(ByteBuffer buffer, int size) {
+      return buffer.getLong();
+    }
+
+  }
+
+  enum DoubleCodec implements ElementCodec<Double> {
+
+    INSTANCE;
+
+    @Override
+    public int fixedSize() {
+      return Double.BYTES;
+    }
+
+    @Override
+    public int encodedSize(Double element) {
+      return Double.BYTES;
+    }
+
+    @Override
+    public void encode(Double element, ByteBuffer buffer) {
+      buffer.putDouble(element);
+    }
+
+    @Override
+    public Double decode(ByteBuffer buffer, int size) {
+      return buffer.getDouble();
+    }
+
+  }
+
+  enum StringCodec implements ElementCodec<String> {
+
+    INSTANCE;
+
+    @Override
+    public int encodedSize(String element) {
+      // count instead of encoding twice
+      int length = 0;
+      int stringLength = element.length();
+      for (int i = 0; i < stringLength; ++i) {
+        char c = element.charAt(i);
+        if (c < 0x80) {
+          length += 1;
+        } else if (c < 0x800) {
+          length += 2;
+        } else if (Character.isHighSurrogate(c) && i + 1 < stringLength && Character.isLowSurrogate(element.charAt(i + 1))) {
+          length += 4;
+          i += 1;
+        } else if (Character.isSurrogate(c)) {
+          // unpaired surrogates are replaced with '?'
+          length += 1;
+        } else {
+          length += 3;
+        }
+      }
+      return length;
+    }
+
+    @Override
+    public void encode(String element, ByteBuffer buffer) {
+      buffer.put(element.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String decode(ByteBuffer buffer, int size) {
+      if (buffer.hasArray()) {
+        int position = buffer.position();
+        String decoded = new String(buffer.array(), buffer.arrayOffset() + position, size, StandardCharsets.UTF_8);
+        buffer.position(position + size);
+        return decoded;
+      }
+      byte[] bytes = new byte[size];
+      buffer.get(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+  }
+
+  static final class NullableCodec<E> implements ElementCodec<E> {
+
+    private static final byte NULL = 0;
+
+    private static final byte NOT_NULL = 1;
+
+    private final ElementCodec<E> codec;
+
+    NullableCodec(ElementCodec<E> codec) {
+      this.codec = codec;
+    }
+
+    @Override
+    public int fixedSize() {
+      int fixedSize = this.codec.fixedSize();
+      if (fixedSize == VARIABLE_SIZE) {
+        return VARIABLE_SIZE;
+      }
+      return fixedSize + 1;
+    }
+
+    @Override
+    public int encodedSize(E element) {
+      if (element == null) {
+        return 1;
+      }
+      return 1 + this.codec.encodedSize(element);
+    }
+
+    @Override
+    public void encode(E element, ByteBuffer buffer) {
+      if (element == null) {
+        buffer.put(NULL);
+        int fixedSize = this.codec.fixedSize();
+        if (fixedSize != VARIABLE_SIZE) {
+          // pad so that every element has the same size
+          for (int i = 0; i < fixedSize; ++i) {
+            buffer.put((byte) 0);
+          }
+        }
+      } else {
+        buffer.put(NOT_NULL);
+        this.codec.encode(element, buffer);
+      }
+    }
+
+    @Override
+    public E decode(ByteBuffer buffer, int size) {
+      if (buffer.get() == NULL) {
+        int fixedSize = this.codec.fixedSize();
+        if (fixedSize != VARIABLE_SIZE) {
+          buffer.position(buffer.position() + fixedSize);
+        }
+        return null;
+      }
+      return this.codec.decode(buffer, size - 1);
+    }
+
+  }
+
+}
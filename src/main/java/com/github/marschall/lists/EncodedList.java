@@ -0,0 +1,75 @@
+package com.github.marschall.lists;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A read only view on elements encoded in a buffer, decoded on every access.
+ *
+ * <p>Created by {@link ListChannels#map(java.nio.channels.FileChannel, ElementCodec)}.</p>
+ *
+ * @param <E> the element type
+ */
+@ThreadSafe
+final class EncodedList<E> extends AbstractList<E> implements RandomAccess {
+
+  private final ByteBuffer buffer;
+
+  private final ElementCodec<E> codec;
+
+  private final int dataStart;
+
+  private final int size;
+
+  private final int fixedSize;
+
+  // start of every element, null if fixedSize is used
+  private final int[] offsets;
+
+  EncodedList(ByteBuffer buffer, ElementCodec<E> codec, int dataStart, int size, int fixedSize, int[] offsets) {
+    this.buffer = buffer;
+    this.codec = codec;
+    this.dataStart = dataStart;
+    this.size = size;
+    this.fixedSize = fixedSize;
+    this.offsets = offsets;
+  }
+
+  @Override
+  public E get(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.size) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+    // the position of a shared buffer can not be changed concurrently
+    ByteBuffer source = this.buffer.duplicate();
+    source.order(this.buffer.order());
+    int elementSize;
+    if (this.offsets != null) {
+      int offset = this.offsets[index];
+      elementSize = source.getInt(offset - Integer.BYTES);
+      source.position(offset);
+    } else {
+      elementSize = this.fixedSize;
+      source.position(this.dataStart + index * this.fixedSize);
+    }
+    return ListChannels.decode(source, this.codec, elementSize);
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new IndexedSpliterator<>(this, 0, this.size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+  }
+
+}
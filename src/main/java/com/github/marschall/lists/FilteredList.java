@@ -0,0 +1,493 @@
+package com.github.marschall.lists;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A read only view on the elements of a list that match a predicate.
+ *
+ * <p>This class is intended to be used when you already have a potentially
+ * large list and need random access to the matching elements without
+ * copying them. The positions of the matching elements are indexed lazily
+ * in an {@code int[]}, accessing the element at index {@code i} only scans
+ * the underlying list as far as necessary to find the {@code i}-th match.
+ * Once indexed access is O(1). The index uses one {@code int} per match
+ * instead of one reference per match.</p>
+ *
+ * <p>Operations that need the size like {@link #size()}, {@link #hashCode()}
+ * or {@link #toArray()} index the whole underlying list.</p>
+ *
+ * <p>This list behaves similar to {@link java.util.stream.Stream#filter(Predicate)}.</p>
+ *
+ * <p>This list does not support modification. The underlying list must not
+ * be structurally modified and the predicate must return the same result
+ * for an element once this list has been accessed.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;Order&gt; orders = &hellip;;
+ * List&lt;Order&gt; openOrders = new FilteredList&lt;&gt;(Order::isOpen, orders);
+ * </code></pre>
+ *
+ * @param <E> the type of elements in this list
+ */
+@NotThreadSafe
+public final class FilteredList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+  // RandomAccess because likely the underlying list implements it as well (eg. ArrayList)
+
+  private static final int[] EMPTY = new int[0];
+
+  @Nonnull
+  private final Predicate<? super E> predicate;
+
+  @Nonnull
+  private final List<E> delegate;
+
+  /**
+   * Indices into {@link #delegate} of the elements that match,
+   * only the first {@link #matchCount} entries are valid.
+   */
+  private transient int[] matches;
+
+  private transient int matchCount;
+
+  /**
+   * The number of elements of {@link #delegate} already tested.
+   */
+  private transient int scanned;
+
+  /**
+   * Constructor.
+   *
+   * @param predicate the predicate elements have to match to be included in this list
+   * @param delegate the list to filter
+   */
+  public FilteredList(@Nonnull Predicate<? super E> predicate, @Nonnull List<E> delegate) {
+    this.predicate = predicate;
+    this.delegate = delegate;
+    this.matches = EMPTY;
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    this.matches = EMPTY;
+  }
+
+  /**
+   * Scans the underlying list until the match with the given index is found.
+   *
+   * @param index the index of the match
+   * @return whether there are at least {@code index + 1} matches
+   */
+  private boolean indexUpTo(int index) {
+    if (index < this.matchCount) {
+      return true;
+    }
+    int delegateSize = this.delegate.size();
+    while (this.matchCount <= index && this.scanned < delegateSize) {
+      if (this.predicate.test(this.delegate.get(this.scanned))) {
+        this.addMatch(this.scanned);
+      }
+      this.scanned += 1;
+    }
+    return index < this.matchCount;
+  }
+
+  private void indexAll() {
+    this.indexUpTo(Integer.MAX_VALUE - 1);
+  }
+
+  private boolean isFullyIndexed() {
+    return this.scanned == this.delegate.size();
+  }
+
+  private void addMatch(int delegateIndex) {
+    if (this.matchCount == this.matches.length) {
+      int newLength = Math.max(8, this.matches.length + (this.matches.length >> 1));
+      // never larger than the underlying list
+      this.matches = Arrays.copyOf(this.matches, Math.min(newLength, this.delegate.size()));
+    }
+    this.matches[this.matchCount] = delegateIndex;
+    this.matchCount += 1;
+  }
+
+  @Override
+  public E get(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (!this.indexUpTo(index)) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+    return this.delegate.get(this.matches[index]);
+  }
+
+  @Override
+  public int size() {
+    this.indexAll();
+    return this.matchCount;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return !this.indexUpTo(0);
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (int i = 0; this.indexUpTo(i); ++i) {
+      action.accept(this.delegate.get(this.matches[i]));
+    }
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super E> predicate) {
+    // only index as far as necessary
+    for (int i = 0; this.indexUpTo(i); ++i) {
+      if (!predicate.test(this.delegate.get(this.matches[i]))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return this.indexOf(o) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    for (int i = 0; this.indexUpTo(i); ++i) {
+      if (Objects.equals(o, this.delegate.get(this.matches[i]))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    this.indexAll();
+    for (int i = this.matchCount - 1; i >= 0; --i) {
+      if (Objects.equals(o, this.delegate.get(this.matches[i]))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; this.indexUpTo(i); ++i) {
+      hashCode = 31 * hashCode + Objects.hashCode(this.delegate.get(this.matches[i]));
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    int size = this.size();
+    if (size != other.size()) {
+      return false;
+    }
+    Iterator<?> otherIterator = other.iterator();
+    for (int i = 0; i < size; ++i) {
+      if (!Objects.equals(this.delegate.get(this.matches[i]), otherIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Object[] toArray() {
+    int size = this.size();
+    Object[] result = new Object[size];
+    for (int i = 0; i < size; ++i) {
+      result[i] = this.delegate.get(this.matches[i]);
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked") // because arrays don't play well with generics
+  @Override
+  public <T> T[] toArray(T[] a) {
+    int size = this.size();
+    T[] result;
+    if (a.length < size) {
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+    } else {
+      result = a;
+    }
+    for (int i = 0; i < size; ++i) {
+      result[i] = (T) this.delegate.get(this.matches[i]);
+    }
+    if (result.length > size) {
+      result[size] = null;
+    }
+    return result;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new FilteredIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new FilteredIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || (index > 0 && !this.indexUpTo(index - 1))) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+    return new FilteredIterator(index);
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (toIndex > 0 && !this.indexUpTo(toIndex - 1)) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    return new SubListView<>(this, fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If this list has been fully indexed the spliterator is based on the
+   * index and has an exact size. Otherwise the underlying list is split
+   * and each part is filtered independently.</p>
+   */
+  @Override
+  public Spliterator<E> spliterator() {
+    if (this.isFullyIndexed()) {
+      return new IndexedSpliterator<>(this, 0, this.matchCount, Spliterator.ORDERED);
+    }
+    return new FilteredSpliterator<>(this.predicate, this.delegate.spliterator());
+  }
+
+  @Override
+  public E set(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  final class FilteredIterator implements ListIterator<E> {
+
+    private int index;
+
+    FilteredIterator(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return indexUpTo(this.index);
+    }
+
+    @Override
+    public E next() {
+      if (!indexUpTo(this.index)) {
+        throw new NoSuchElementException();
+      }
+      E next = delegate.get(matches[this.index]);
+      this.index += 1;
+      return next;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (indexUpTo(this.index)) {
+        action.accept(delegate.get(matches[this.index]));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.index > 0;
+    }
+
+    @Override
+    public E previous() {
+      if (this.index == 0) {
+        throw new NoSuchElementException();
+      }
+      this.index -= 1;
+      return delegate.get(matches[this.index]);
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.index;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.index - 1;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+  static final class FilteredSpliterator<E> implements Spliterator<E>, Consumer<E> {
+    // does not use the index so that parts can be filtered in parallel
+
+    private final Predicate<? super E> predicate;
+    private final Spliterator<E> delegate;
+    private E current;
+
+    FilteredSpliterator(Predicate<? super E> predicate, Spliterator<E> delegate) {
+      this.predicate = predicate;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void accept(E t) {
+      this.current = t;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      this.delegate.forEachRemaining(each -> {
+        if (this.predicate.test(each)) {
+          action.accept(each);
+        }
+      });
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      while (this.delegate.tryAdvance(this)) {
+        E element = this.current;
+        this.current = null;
+        if (this.predicate.test(element)) {
+          action.accept(element);
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      Spliterator<E> splitted = this.delegate.trySplit();
+      if (splitted != null) {
+        return new FilteredSpliterator<>(this.predicate, splitted);
+      } else {
+        return null;
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      // upper bound
+      return this.delegate.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      // the number of matches is not known
+      return this.delegate.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    @Override
+    public Comparator<? super E> getComparator() {
+      return this.delegate.getComparator();
+    }
+
+  }
+
+}
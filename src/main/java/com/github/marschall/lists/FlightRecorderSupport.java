@@ -0,0 +1,112 @@
+package com.github.marschall.lists;
+
+import java.util.List;
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+/**
+ * Emits Java Flight Recorder events if JFR is available.
+ *
+ * <p>This class does not reference any JFR classes so that it can be
+ * loaded on a JVM without JFR. The events are implemented by
+ * {@code ListEvents} in the separately compiled {@code src/main/jfr}
+ * source set which is only built on JDK 11 or later. It is loaded
+ * reflectively if both JFR and the class are available. Since
+ * {@link #ENABLED} is a constant the JIT removes the checks if JFR
+ * is not available.</p>
+ *
+ * <p>Emitting events can be switched off completely with the system
+ * property {@value #PROPERTY} set to {@code false}. {@code ListMapping}
+ * events are emitted from the element access path of {@link MappedList},
+ * they have to be switched on explicitly with the system property
+ * {@value #MAPPING_PROPERTY} set to {@code true}.</p>
+ */
+final class FlightRecorderSupport {
+
+  static final String PROPERTY = "com.github.marschall.lists.jfr";
+
+  private static final String EVENTS_CLASS = "com.github.marschall.lists.ListEvents";
+
+  @CheckForNull
+  private static final ListEventEmitter EVENTS = loadEvents();
+
+  static final boolean ENABLED = EVENTS != null;
+
+  static final String MAPPING_PROPERTY = "com.github.marschall.lists.jfr.mapping";
+
+  /**
+   * Whether to emit {@code ListMapping} events, callers should check this
+   * before calling {@link #map(Function, Object, List, String)} so that
+   * the access path stays a plain invocation of the mapping function.
+   */
+  static final boolean MAPPING_ENABLED = ENABLED && Boolean.getBoolean(MAPPING_PROPERTY);
+
+  private FlightRecorderSupport() {
+    throw new AssertionError("not instantiable");
+  }
+
+  @CheckForNull
+  private static ListEventEmitter loadEvents() {
+    if ("false".equals(System.getProperty(PROPERTY))) {
+      return null;
+    }
+    ClassLoader classLoader = FlightRecorderSupport.class.getClassLoader();
+    try {
+      Class.forName("jdk.jfr.Event", false, classLoader);
+      Class<?> eventsClass = Class.forName(EVENTS_CLASS, true, classLoader);
+      return (ListEventEmitter) eventsClass.getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      // JFR not available or built without the jfr source set
+      return null;
+    }
+  }
+
+  /**
+   * Applies a mapping function and emits a {@code ListMapping} event
+   * if that takes longer than the configured threshold.
+   *
+   * @param mapFunction the mapping function
+   * @param element the argument to the mapping function
+   * @param list the list that is mapped, only used to determine the size
+   * @param operation the name of the list operation
+   * @return the result of the mapping function
+   */
+  static <O, E> E map(Function<O, E> mapFunction, O element, List<?> list, String operation) {
+    if (MAPPING_ENABLED) {
+      return EVENTS.map(mapFunction, element, list, operation);
+    }
+    return mapFunction.apply(element);
+  }
+
+  /**
+   * Starts a {@code ListPass} event for an operation visiting every element.
+   *
+   * @return the event to pass to {@link #commitPass(Object, Class, String, int)},
+   *  {@code null} if events are disabled
+   */
+  @CheckForNull
+  static Object beginPass() {
+    if (ENABLED) {
+      return EVENTS.beginPass();
+    }
+    return null;
+  }
+
+  /**
+   * Ends a {@code ListPass} event and emits it if the operation took longer
+   * than the configured threshold.
+   *
+   * @param event the return value of {@link #beginPass()}
+   * @param listClass the class of the list
+   * @param operation the name of the list operation
+   * @param size the size of the list
+   */
+  static void commitPass(@Nullable Object event, Class<?> listClass, String operation, int size) {
+    if (event != null) {
+      EVENTS.commitPass(event, listClass, operation, size);
+    }
+  }
+
+}
@@ -0,0 +1,152 @@
+package com.github.marschall.lists;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A list of {@code double} values computed from their index.
+ *
+ * <p>Like {@link GeneratedList} but with a primitive generator function.
+ * {@link #getDouble(int)}, {@link #doubleSpliterator()} and {@link #doubleStream()}
+ * give access to the values without boxing.</p>
+ *
+ * <p>This list does not support modification. The generator function
+ * is expected to be side effect free.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * GeneratedDoubleList values = new GeneratedDoubleList(1_000_000, i -&gt; Math.sin(i * 0.001));
+ * </code></pre>
+ */
+@Immutable
+public final class GeneratedDoubleList extends AbstractGeneratedList<Double> {
+
+  @Nonnull
+  private final IntToDoubleFunction generator;
+
+  /**
+   * Constructor.
+   *
+   * @param size the size of the list, must not be negative
+   * @param generator the function computing the value from the index,
+   *  will be invoked with indices from {@code 0} to {@code size - 1}
+   */
+  public GeneratedDoubleList(int size, @Nonnull IntToDoubleFunction generator) {
+    this(generator, 0, size);
+  }
+
+  private GeneratedDoubleList(IntToDoubleFunction generator, int offset, int size) {
+    super(offset, size);
+    this.generator = generator;
+  }
+
+  @Override
+  Double generate(int index) {
+    return this.generator.applyAsDouble(index);
+  }
+
+  @Override
+  AbstractGeneratedList<Double> newSubList(int newOffset, int newSize) {
+    return new GeneratedDoubleList(this.generator, newOffset, newSize);
+  }
+
+  /**
+   * Returns the value at the specified position without boxing.
+   *
+   * @param index index of the value to return
+   * @return the value at the specified position
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public double getDouble(int index) {
+    this.checkIndex(index);
+    return this.generator.applyAsDouble(this.offset + index);
+  }
+
+  /**
+   * Returns a primitive spliterator over the values of this list.
+   *
+   * @return a spliterator that splits exactly in the middle
+   */
+  public Spliterator.OfDouble doubleSpliterator() {
+    return new GeneratedDoubleSpliterator(this.generator, this.offset, this.offset + this.size);
+  }
+
+  /**
+   * Returns a sequential primitive stream over the values of this list.
+   *
+   * @return a stream of the values of this list
+   */
+  public DoubleStream doubleStream() {
+    return StreamSupport.doubleStream(this.doubleSpliterator(), false);
+  }
+
+  @Override
+  public Spliterator<Double> spliterator() {
+    return this.doubleSpliterator();
+  }
+
+  static final class GeneratedDoubleSpliterator extends GeneratedSpliterator<Double, Spliterator.OfDouble> implements Spliterator.OfDouble {
+
+    private final IntToDoubleFunction generator;
+
+    GeneratedDoubleSpliterator(IntToDoubleFunction generator, int index, int fence) {
+      super(index, fence);
+      this.generator = generator;
+    }
+
+    @Override
+    Spliterator.OfDouble split(int start, int end) {
+      return new GeneratedDoubleSpliterator(this.generator, start, end);
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+      while (this.index < this.fence) {
+        action.accept(this.generator.applyAsDouble(this.index));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+      if (this.index < this.fence) {
+        action.accept(this.generator.applyAsDouble(this.index));
+        this.index += 1;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Double> action) {
+      if (action instanceof DoubleConsumer) {
+        this.forEachRemaining((DoubleConsumer) action);
+      } else {
+        this.forEachRemaining((DoubleConsumer) action::accept);
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Double> action) {
+      if (action instanceof DoubleConsumer) {
+        return this.tryAdvance((DoubleConsumer) action);
+      } else {
+        return this.tryAdvance((DoubleConsumer) action::accept);
+      }
+    }
+
+    @Override
+    public int characteristics() {
+      return super.characteristics() | Spliterator.NONNULL;
+    }
+
+  }
+
+}
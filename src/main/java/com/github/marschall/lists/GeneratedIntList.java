@@ -0,0 +1,152 @@
+package com.github.marschall.lists;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A list of {@code int} values computed from their index.
+ *
+ * <p>Like {@link GeneratedList} but with a primitive generator function.
+ * {@link #getInt(int)}, {@link #intSpliterator()} and {@link #intStream()}
+ * give access to the values without boxing.</p>
+ *
+ * <p>This list does not support modification. The generator function
+ * is expected to be side effect free.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * GeneratedIntList values = new GeneratedIntList(1_000_000, i -&gt; i * i);
+ * </code></pre>
+ */
+@Immutable
+public final class GeneratedIntList extends AbstractGeneratedList<Integer> {
+
+  @Nonnull
+  private final IntUnaryOperator generator;
+
+  /**
+   * Constructor.
+   *
+   * @param size the size of the list, must not be negative
+   * @param generator the function computing the value from the index,
+   *  will be invoked with indices from {@code 0} to {@code size - 1}
+   */
+  public GeneratedIntList(int size, @Nonnull IntUnaryOperator generator) {
+    this(generator, 0, size);
+  }
+
+  private GeneratedIntList(IntUnaryOperator generator, int offset, int size) {
+    super(offset, size);
+    this.generator = generator;
+  }
+
+  @Override
+  Integer generate(int index) {
+    return this.generator.applyAsInt(index);
+  }
+
+  @Override
+  AbstractGeneratedList<Integer> newSubList(int newOffset, int newSize) {
+    return new GeneratedIntList(this.generator, newOffset, newSize);
+  }
+
+  /**
+   * Returns the value at the specified position without boxing.
+   *
+   * @param index index of the value to return
+   * @return the value at the specified position
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public int getInt(int index) {
+    this.checkIndex(index);
+    return this.generator.applyAsInt(this.offset + index);
+  }
+
+  /**
+   * Returns a primitive spliterator over the values of this list.
+   *
+   * @return a spliterator that splits exactly in the middle
+   */
+  public Spliterator.OfInt intSpliterator() {
+    return new GeneratedIntSpliterator(this.generator, this.offset, this.offset + this.size);
+  }
+
+  /**
+   * Returns a sequential primitive stream over the values of this list.
+   *
+   * @return a stream of the values of this list
+   */
+  public IntStream intStream() {
+    return StreamSupport.intStream(this.intSpliterator(), false);
+  }
+
+  @Override
+  public Spliterator<Integer> spliterator() {
+    return this.intSpliterator();
+  }
+
+  static final class GeneratedIntSpliterator extends GeneratedSpliterator<Integer, Spliterator.OfInt> implements Spliterator.OfInt {
+
+    private final IntUnaryOperator generator;
+
+    GeneratedIntSpliterator(IntUnaryOperator generator, int index, int fence) {
+      super(index, fence);
+      this.generator = generator;
+    }
+
+    @Override
+    Spliterator.OfInt split(int start, int end) {
+      return new GeneratedIntSpliterator(this.generator, start, end);
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      while (this.index < this.fence) {
+        action.accept(this.generator.applyAsInt(this.index));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      if (this.index < this.fence) {
+        action.accept(this.generator.applyAsInt(this.index));
+        this.index += 1;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Integer> action) {
+      if (action instanceof IntConsumer) {
+        this.forEachRemaining((IntConsumer) action);
+      } else {
+        this.forEachRemaining((IntConsumer) action::accept);
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Integer> action) {
+      if (action instanceof IntConsumer) {
+        return this.tryAdvance((IntConsumer) action);
+      } else {
+        return this.tryAdvance((IntConsumer) action::accept);
+      }
+    }
+
+    @Override
+    public int characteristics() {
+      return super.characteristics() | Spliterator.NONNULL;
+    }
+
+  }
+
+}
@@ -0,0 +1,102 @@
+package com.github.marschall.lists;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A list whose elements are computed from their index.
+ *
+ * <p>This list has no backing storage, every access invokes the generator
+ * function. It is intended for synthetic data or lookup tables that are
+ * cheaper to compute than to store. {@link #subList(int, int)} only shifts
+ * the index passed to the generator and does not copy.</p>
+ *
+ * <p>This list does not support modification. The generator function
+ * is expected to be side effect free.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;String&gt; labels = new GeneratedList&lt;&gt;(1_000_000, i -&gt; "item-" + i);
+ * </code></pre>
+ *
+ * @param <E> the element type
+ * @see GeneratedIntList
+ * @see GeneratedLongList
+ * @see GeneratedDoubleList
+ */
+@Immutable
+public final class GeneratedList<E> extends AbstractGeneratedList<E> {
+
+  @Nonnull
+  private final IntFunction<E> generator;
+
+  /**
+   * Constructor.
+   *
+   * @param size the size of the list, must not be negative
+   * @param generator the function computing the element from the index,
+   *  will be invoked with indices from {@code 0} to {@code size - 1}
+   */
+  public GeneratedList(int size, @Nonnull IntFunction<E> generator) {
+    this(generator, 0, size);
+  }
+
+  private GeneratedList(IntFunction<E> generator, int offset, int size) {
+    super(offset, size);
+    this.generator = generator;
+  }
+
+  @Override
+  E generate(int index) {
+    return this.generator.apply(index);
+  }
+
+  @Override
+  AbstractGeneratedList<E> newSubList(int newOffset, int newSize) {
+    return new GeneratedList<>(this.generator, newOffset, newSize);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new GeneratedObjectSpliterator<>(this.generator, this.offset, this.offset + this.size);
+  }
+
+  static final class GeneratedObjectSpliterator<E> extends GeneratedSpliterator<E, Spliterator<E>> {
+
+    private final IntFunction<E> generator;
+
+    GeneratedObjectSpliterator(IntFunction<E> generator, int index, int fence) {
+      super(index, fence);
+      this.generator = generator;
+    }
+
+    @Override
+    Spliterator<E> split(int start, int end) {
+      return new GeneratedObjectSpliterator<>(this.generator, start, end);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (this.index < this.fence) {
+        action.accept(this.generator.apply(this.index));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      if (this.index < this.fence) {
+        action.accept(this.generator.apply(this.index));
+        this.index += 1;
+        return true;
+      }
+      return false;
+    }
+
+  }
+
+}
@@ -0,0 +1,152 @@
+package com.github.marschall.lists;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.IntToLongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A list of {@code long} values computed from their index.
+ *
+ * <p>Like {@link GeneratedList} but with a primitive generator function.
+ * {@link #getLong(int)}, {@link #longSpliterator()} and {@link #longStream()}
+ * give access to the values without boxing.</p>
+ *
+ * <p>This list does not support modification. The generator function
+ * is expected to be side effect free.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * GeneratedLongList values = new GeneratedLongList(1_000_000, i -&gt; 1L &lt;&lt; (i % 64));
+ * </code></pre>
+ */
+@Immutable
+public final class GeneratedLongList extends AbstractGeneratedList<Long> {
+
+  @Nonnull
+  private final IntToLongFunction generator;
+
+  /**
+   * Constructor.
+   *
+   * @param size the size of the list, must not be negative
+   * @param generator the function computing the value from the index,
+   *  will be invoked with indices from {@code 0} to {@code size - 1}
+   */
+  public GeneratedLongList(int size, @Nonnull IntToLongFunction generator) {
+    this(generator, 0, size);
+  }
+
+  private GeneratedLongList(IntToLongFunction generator, int offset, int size) {
+    super(offset, size);
+    this.generator = generator;
+  }
+
+  @Override
+  Long generate(int index) {
+    return this.generator.applyAsLong(index);
+  }
+
+  @Override
+  AbstractGeneratedList<Long> newSubList(int newOffset, int newSize) {
+    return new GeneratedLongList(this.generator, newOffset, newSize);
+  }
+
+  /**
+   * Returns the value at the specified position without boxing.
+   *
+   * @param index index of the value to return
+   * @return the value at the specified position
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long getLong(int index) {
+    this.checkIndex(index);
+    return this.generator.applyAsLong(this.offset + index);
+  }
+
+  /**
+   * Returns a primitive spliterator over the values of this list.
+   *
+   * @return a spliterator that splits exactly in the middle
+   */
+  public Spliterator.OfLong longSpliterator() {
+    return new GeneratedLongSpliterator(this.generator, this.offset, this.offset + this.size);
+  }
+
+  /**
+   * Returns a sequential primitive stream over the values of this list.
+   *
+   * @return a stream of the values of this list
+   */
+  public LongStream longStream() {
+    return StreamSupport.longStream(this.longSpliterator(), false);
+  }
+
+  @Override
+  public Spliterator<Long> spliterator() {
+    return this.longSpliterator();
+  }
+
+  static final class GeneratedLongSpliterator extends GeneratedSpliterator<Long, Spliterator.OfLong> implements Spliterator.OfLong {
+
+    private final IntToLongFunction generator;
+
+    GeneratedLongSpliterator(IntToLongFunction generator, int index, int fence) {
+      super(index, fence);
+      this.generator = generator;
+    }
+
+    @Override
+    Spliterator.OfLong split(int start, int end) {
+      return new GeneratedLongSpliterator(this.generator, start, end);
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      while (this.index < this.fence) {
+        action.accept(this.generator.applyAsLong(this.index));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (this.index < this.fence) {
+        action.accept(this.generator.applyAsLong(this.index));
+        this.index += 1;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Long> action) {
+      if (action instanceof LongConsumer) {
+        this.forEachRemaining((LongConsumer) action);
+      } else {
+        this.forEachRemaining((LongConsumer) action::accept);
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Long> action) {
+      if (action instanceof LongConsumer) {
+        return this.tryAdvance((LongConsumer) action);
+      } else {
+        return this.tryAdvance((LongConsumer) action::accept);
+      }
+    }
+
+    @Override
+    public int characteristics() {
+      return super.characteristics() | Spliterator.NONNULL;
+    }
+
+  }
+
+}
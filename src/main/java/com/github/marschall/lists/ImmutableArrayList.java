@@ -0,0 +1,64 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable list backed by an array of the exact size.
+ *
+ * <p>Used as the deserialized form of value snapshots, the array is not copied.</p>
+ *
+ * @param <E> the element type
+ */
+@Immutable
+final class ImmutableArrayList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+  private final Object[] elements;
+
+  ImmutableArrayList(Object[] elements) {
+    this.elements = elements;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // only E is ever stored
+  public E get(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.elements.length) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+    return (E) this.elements[index];
+  }
+
+  @Override
+  public int size() {
+    return this.elements.length;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // only E is ever stored
+  public void forEach(Consumer<? super E> action) {
+    for (Object each : this.elements) {
+      action.accept((E) each);
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    return Arrays.copyOf(this.elements, this.elements.length, Object[].class);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return Spliterators.spliterator(this.elements, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+  }
+
+}
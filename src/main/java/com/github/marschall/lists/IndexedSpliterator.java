@@ -0,0 +1,93 @@
+package com.github.marschall.lists;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over a range of a random access list using
+ * {@link List#get(int)}.
+ *
+ * <p>Splits exactly in the middle of the remaining range and is
+ * therefore always {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.</p>
+ *
+ * @param <E> the element type
+ */
+final class IndexedSpliterator<E> implements Spliterator<E> {
+
+  private final List<E> list;
+  private int index;
+  private final int fence;
+  private final int characteristics;
+  private final Comparator<? super E> comparator;
+
+  IndexedSpliterator(List<E> list, int index, int fence, int characteristics) {
+    this(list, index, fence, characteristics, null);
+  }
+
+  /**
+   * Constructor for a spliterator over a sorted list, the characteristics
+   * must contain {@link Spliterator#SORTED}.
+   */
+  IndexedSpliterator(List<E> list, int index, int fence, int characteristics, Comparator<? super E> comparator) {
+    this.list = list;
+    this.index = index;
+    this.fence = fence;
+    this.characteristics = characteristics | Spliterator.SIZED | Spliterator.SUBSIZED;
+    this.comparator = comparator;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super E> action) {
+    while (this.index < this.fence) {
+      action.accept(this.list.get(this.index));
+      this.index += 1;
+    }
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super E> action) {
+    if (this.index < this.fence) {
+      action.accept(this.list.get(this.index));
+      this.index += 1;
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public Spliterator<E> trySplit() {
+    int left = this.fence - this.index;
+    if (left <= 1) {
+      return null;
+    }
+    int start = this.index;
+    this.index += left / 2;
+    return new IndexedSpliterator<>(this.list, start, this.index, this.characteristics, this.comparator);
+  }
+
+  @Override
+  public long estimateSize() {
+    return this.fence - this.index;
+  }
+
+  @Override
+  public long getExactSizeIfKnown() {
+    return this.estimateSize();
+  }
+
+  @Override
+  public int characteristics() {
+    return this.characteristics;
+  }
+
+  @Override
+  public Comparator<? super E> getComparator() {
+    if ((this.characteristics & Spliterator.SORTED) == 0) {
+      throw new IllegalStateException("not sorted");
+    }
+    return this.comparator;
+  }
+
+}
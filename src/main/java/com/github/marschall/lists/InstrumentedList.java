@@ -0,0 +1,296 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * A list that records its invocations in a {@link ListMetrics}.
+ *
+ * @param <E> the element type
+ * @see ListMetrics#instrument(List)
+ */
+final class InstrumentedList<E> implements List<E>, Serializable, RandomAccess {
+  // RandomAccess because likely the underlying list implements it as well (eg. ArrayList)
+
+  private final List<E> delegate;
+
+  private final transient ListMetrics metrics;
+
+  InstrumentedList(List<E> delegate, ListMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  private Object writeReplace() {
+    // serialize as the original list
+    return this.delegate;
+  }
+
+  @Override
+  public E get(int index) {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.get(index);
+    } finally {
+      this.metrics.record(ListOperation.GET, start);
+    }
+  }
+
+  @Override
+  public int size() {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.size();
+    } finally {
+      this.metrics.record(ListOperation.SIZE, start);
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.isEmpty();
+    } finally {
+      this.metrics.record(ListOperation.SIZE, start);
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.contains(o);
+    } finally {
+      this.metrics.record(ListOperation.CONTAINS, start);
+    }
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.containsAll(c);
+    } finally {
+      this.metrics.record(ListOperation.CONTAINS, start);
+    }
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.indexOf(o);
+    } finally {
+      this.metrics.record(ListOperation.INDEX_OF, start);
+    }
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.lastIndexOf(o);
+    } finally {
+      this.metrics.record(ListOperation.INDEX_OF, start);
+    }
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    long start = this.metrics.start();
+    try {
+      this.delegate.forEach(action);
+    } finally {
+      this.metrics.record(ListOperation.FOR_EACH, start);
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.toArray();
+    } finally {
+      this.metrics.record(ListOperation.TO_ARRAY, start);
+    }
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.toArray(a);
+    } finally {
+      this.metrics.record(ListOperation.TO_ARRAY, start);
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    long start = this.metrics.start();
+    try {
+      return this.delegate.equals(obj);
+    } finally {
+      this.metrics.record(ListOperation.EQUALS, start);
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.hashCode();
+    } finally {
+      this.metrics.record(ListOperation.HASH_CODE, start);
+    }
+  }
+
+  @Override
+  public String toString() {
+    long start = this.metrics.start();
+    try {
+      return this.delegate.toString();
+    } finally {
+      this.metrics.record(ListOperation.TO_STRING, start);
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    this.metrics.count(ListOperation.ITERATOR);
+    return this.delegate.iterator();
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    this.metrics.count(ListOperation.ITERATOR);
+    return this.delegate.listIterator();
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    this.metrics.count(ListOperation.ITERATOR);
+    return this.delegate.listIterator(index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    this.metrics.count(ListOperation.SPLITERATOR);
+    return this.delegate.spliterator();
+  }
+
+  @Override
+  public Stream<E> stream() {
+    this.metrics.count(ListOperation.SPLITERATOR);
+    return this.delegate.stream();
+  }
+
+  @Override
+  public Stream<E> parallelStream() {
+    this.metrics.count(ListOperation.SPLITERATOR);
+    return this.delegate.parallelStream();
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    long start = this.metrics.start();
+    try {
+      return new InstrumentedList<>(this.delegate.subList(fromIndex, toIndex), this.metrics);
+    } finally {
+      this.metrics.record(ListOperation.SUB_LIST, start);
+    }
+  }
+
+  @Override
+  public E set(int index, E element) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    return this.delegate.set(index, element);
+  }
+
+  @Override
+  public boolean add(E e) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    return this.delegate.add(e);
+  }
+
+  @Override
+  public void add(int index, E element) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    this.delegate.add(index, element);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    return this.delegate.remove(o);
+  }
+
+  @Override
+  public E remove(int index) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    return this.delegate.remove(index);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    return this.delegate.addAll(c);
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    return this.delegate.addAll(index, c);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    return this.delegate.removeAll(c);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    return this.delegate.retainAll(c);
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super E> filter) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    return this.delegate.removeIf(filter);
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    this.delegate.replaceAll(operator);
+  }
+
+  @Override
+  public void sort(Comparator<? super E> c) {
+    this.metrics.count(ListOperation.MODIFICATION);
+    this.delegate.sort(c);
+  }
+
+  @Override
+  public void clear() {
+    this.metrics.count(ListOperation.MODIFICATION);
+    this.delegate.clear();
+  }
+
+}
@@ -0,0 +1,342 @@
+package com.github.marschall.lists;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Writes lists to and reads lists from NIO channels in a compact binary format.
+ *
+ * <p>Elements are converted to bytes with an {@link ElementCodec} and
+ * written through a {@link ByteBuffer}, ideally a direct one that is
+ * reused for several calls. A {@link RepeatingList} is written as its
+ * element and the number of repetitions and read back as a
+ * {@link RepeatingList}.</p>
+ *
+ * <p>The format is big endian and consists of a header followed by the
+ * elements. If the codec does not have a fixed size every element is
+ * preceded by its size as an {@code int}.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * ByteBuffer buffer = ByteBuffer.allocateDirect(ListChannels.DEFAULT_BUFFER_SIZE);
+ * try (FileChannel channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+ *   ListChannels.write(ids, ElementCodecs.longs(), channel, buffer);
+ * }
+ * try (FileChannel channel = FileChannel.open(path, READ)) {
+ *   List&lt;Long&gt; view = ListChannels.map(channel, ElementCodecs.longs());
+ * }
+ * </code></pre>
+ */
+public final class ListChannels {
+
+  /**
+   * The size of the buffers allocated when none is passed.
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  // "LIST" in ASCII
+  static final int MAGIC = 0x4C495354;
+
+  static final byte VERSION = 1;
+
+  static final byte ELEMENTS = 0;
+
+  static final byte REPEATED = 1;
+
+  // magic, version, kind and element count
+  static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Byte.BYTES + Integer.BYTES;
+
+  private ListChannels() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Writes a list to a channel using a newly allocated direct buffer.
+   *
+   * @param list the list to write
+   * @param codec the codec to use for the elements
+   * @param channel the channel to write to
+   * @param <E> the element type
+   * @throws IOException if writing to {@code channel} fails
+   */
+  public static <E> void write(@Nonnull List<? extends E> list, @Nonnull ElementCodec<? super E> codec,
+          @Nonnull WritableByteChannel channel) throws IOException {
+    write(list, codec, channel, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE));
+  }
+
+  /**
+   * Writes a list to a channel.
+   *
+   * @param list the list to write
+   * @param codec the codec to use for the elements
+   * @param channel the channel to write to
+   * @param buffer the buffer to use, will be cleared and set to big endian,
+   *  should be a direct buffer, at least 10 bytes
+   * @param <E> the element type
+   * @throws IOException if writing to {@code channel} fails
+   */
+  public static <E> void write(@Nonnull List<? extends E> list, @Nonnull ElementCodec<? super E> codec,
+          @Nonnull WritableByteChannel channel, @Nonnull ByteBuffer buffer) throws IOException {
+    if (buffer.capacity() < HEADER_SIZE) {
+      throw new IllegalArgumentException("buffer needs at least " + HEADER_SIZE + " bytes");
+    }
+    buffer.clear();
+    buffer.order(ByteOrder.BIG_ENDIAN);
+    buffer.putInt(MAGIC);
+    buffer.put(VERSION);
+    int fixedSize = codec.fixedSize();
+    if (list instanceof RepeatingList) {
+      buffer.put(REPEATED);
+      buffer.putInt(list.size());
+      writeElement(((RepeatingList<? extends E>) list).getFirst(), codec, fixedSize, channel, buffer);
+    } else {
+      buffer.put(ELEMENTS);
+      buffer.putInt(list.size());
+      for (E each : list) {
+        writeElement(each, codec, fixedSize, channel, buffer);
+      }
+    }
+    flush(channel, buffer);
+  }
+
+  private static <E> void writeElement(E element, ElementCodec<? super E> codec, int fixedSize,
+          WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+    int size;
+    int needed;
+    if (fixedSize == ElementCodec.VARIABLE_SIZE) {
+      size = codec.encodedSize(element);
+      needed = Integer.BYTES + size;
+    } else {
+      size = fixedSize;
+      needed = fixedSize;
+    }
+    if (buffer.remaining() < needed) {
+      flush(channel, buffer);
+    }
+    ByteBuffer target = buffer;
+    if (needed > buffer.capacity()) {
+      // a single element larger than the buffer
+      target = ByteBuffer.allocate(needed);
+    }
+    if (fixedSize == ElementCodec.VARIABLE_SIZE) {
+      target.putInt(size);
+    }
+    int start = target.position();
+    codec.encode(element, target);
+    if (target.position() - start != size) {
+      throw new IllegalStateException("codec wrote: " + (target.position() - start) + " bytes but announced: " + size);
+    }
+    if (target != buffer) {
+      flush(channel, target);
+    }
+  }
+
+  private static void flush(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Reads a list written by {@link #write(List, ElementCodec, WritableByteChannel)}
+   * using a newly allocated direct buffer.
+   *
+   * @param channel the channel to read from
+   * @param codec the codec used to write the elements
+   * @param <E> the element type
+   * @return the list, a {@link RepeatingList} if one was written, otherwise
+   *  a mutable list
+   * @throws IOException if reading from {@code channel} fails or the
+   *  content is not a list
+   */
+  public static <E> List<E> read(@Nonnull ReadableByteChannel channel, @Nonnull ElementCodec<E> codec) throws IOException {
+    return read(channel, codec, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE));
+  }
+
+  /**
+   * Reads a list written by {@link #write(List, ElementCodec, WritableByteChannel, ByteBuffer)}.
+   *
+   * <p>The list is read completely into memory. Up to the size of
+   * {@code buffer} bytes following the list may be read from {@code channel}
+   * as well.</p>
+   *
+   * @param channel the channel to read from
+   * @param codec the codec used to write the elements
+   * @param buffer the buffer to use, will be cleared and set to big endian,
+   *  should be a direct buffer, at least 10 bytes
+   * @param <E> the element type
+   * @return the list, a {@link RepeatingList} if one was written, otherwise
+   *  a mutable list
+   * @throws IOException if reading from {@code channel} fails or the
+   *  content is not a list
+   */
+  public static <E> List<E> read(@Nonnull ReadableByteChannel channel, @Nonnull ElementCodec<E> codec,
+          @Nonnull ByteBuffer buffer) throws IOException {
+    if (buffer.capacity() < HEADER_SIZE) {
+      throw new IllegalArgumentException("buffer needs at least " + HEADER_SIZE + " bytes");
+    }
+    buffer.clear();
+    buffer.order(ByteOrder.BIG_ENDIAN);
+    // start empty in read mode
+    buffer.limit(0);
+    ByteBuffer header = fill(channel, buffer, HEADER_SIZE);
+    byte kind = readHeader(header);
+    int count = header.getInt();
+    int fixedSize = codec.fixedSize();
+    if (kind == REPEATED) {
+      E element = readElement(channel, buffer, codec, fixedSize);
+      return repeated(element, count);
+    }
+    List<E> elements = new ArrayList<>(count);
+    for (int i = 0; i < count; ++i) {
+      elements.add(readElement(channel, buffer, codec, fixedSize));
+    }
+    return elements;
+  }
+
+  private static <E> List<E> repeated(E element, int count) {
+    if (count == 0) {
+      return Collections.emptyList();
+    }
+    return new RepeatingList<>(element, count);
+  }
+
+  private static byte readHeader(ByteBuffer buffer) throws IOException {
+    if (buffer.getInt() != MAGIC) {
+      throw new StreamCorruptedException("not a list");
+    }
+    byte version = buffer.get();
+    if (version != VERSION) {
+      throw new StreamCorruptedException("unsupported version: " + version);
+    }
+    byte kind = buffer.get();
+    if (kind != ELEMENTS && kind != REPEATED) {
+      throw new StreamCorruptedException("unknown list kind: " + kind);
+    }
+    return kind;
+  }
+
+  private static <E> E readElement(ReadableByteChannel channel, ByteBuffer buffer, ElementCodec<E> codec, int fixedSize) throws IOException {
+    int size;
+    if (fixedSize == ElementCodec.VARIABLE_SIZE) {
+      size = fill(channel, buffer, Integer.BYTES).getInt();
+    } else {
+      size = fixedSize;
+    }
+    ByteBuffer source = fill(channel, buffer, size);
+    return decode(source, codec, size);
+  }
+
+  static <E> E decode(ByteBuffer source, ElementCodec<E> codec, int size) {
+    int start = source.position();
+    E element = codec.decode(source, size);
+    // do not depend on the codec to consume exactly size bytes
+    source.position(start + size);
+    return element;
+  }
+
+  /**
+   * Makes sure at least {@code length} bytes are available for reading.
+   *
+   * @return {@code buffer} or a new buffer if {@code length} is larger than {@code buffer}
+   */
+  private static ByteBuffer fill(ReadableByteChannel channel, ByteBuffer buffer, int length) throws IOException {
+    if (buffer.remaining() >= length) {
+      return buffer;
+    }
+    if (length > buffer.capacity()) {
+      // a single element larger than the buffer
+      ByteBuffer large = ByteBuffer.allocate(length);
+      large.put(buffer);
+      readFully(channel, large);
+      large.flip();
+      return large;
+    }
+    buffer.compact();
+    while (buffer.position() < length) {
+      if (channel.read(buffer) < 0) {
+        throw new EOFException("end of channel reached while reading list");
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new EOFException("end of channel reached while reading list");
+      }
+    }
+  }
+
+  /**
+   * Returns a view on a list written to a file by
+   * {@link #write(List, ElementCodec, WritableByteChannel)}.
+   *
+   * <p>The file is memory mapped and elements are decoded on every
+   * access. If the codec does not have a fixed size the file is scanned
+   * once to record where every element starts. The view stays valid after
+   * {@code channel} is closed, the file must not be modified.</p>
+   *
+   * @param channel the channel to map, the list must start at position 0
+   * @param codec the codec used to write the elements
+   * @param <E> the element type
+   * @return a read only view, a {@link RepeatingList} if one was written
+   * @throws IOException if mapping {@code channel} fails or the content is not a list
+   * @throws IllegalArgumentException if the file is larger than 2 GB
+   */
+  public static <E> List<E> map(@Nonnull FileChannel channel, @Nonnull ElementCodec<E> codec) throws IOException {
+    long fileSize = channel.size();
+    if (fileSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("file of size: " + fileSize + " too large to map");
+    }
+    if (fileSize < HEADER_SIZE) {
+      throw new EOFException("file too small for a list");
+    }
+    ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0L, fileSize);
+    buffer.order(ByteOrder.BIG_ENDIAN);
+    byte kind = readHeader(buffer);
+    int count = buffer.getInt();
+    int fixedSize = codec.fixedSize();
+    if (kind == REPEATED) {
+      int size = fixedSize == ElementCodec.VARIABLE_SIZE ? buffer.getInt() : fixedSize;
+      return repeated(decode(buffer, codec, size), count);
+    }
+    int dataStart = buffer.position();
+    int[] offsets = null;
+    if (fixedSize == ElementCodec.VARIABLE_SIZE) {
+      offsets = new int[count];
+      int position = dataStart;
+      for (int i = 0; i < count; ++i) {
+        if (position > buffer.limit() - Integer.BYTES) {
+          throw new EOFException("file too small for: " + count + " elements");
+        }
+        int size = buffer.getInt(position);
+        offsets[i] = position + Integer.BYTES;
+        position += Integer.BYTES + size;
+      }
+      if (position > buffer.limit()) {
+        throw new EOFException("file too small for: " + count + " elements");
+      }
+    } else if (dataStart + (long) fixedSize * count > buffer.limit()) {
+      throw new EOFException("file too small for: " + count + " elements");
+    }
+    return new EncodedList<>(buffer, codec, dataStart, count, fixedSize, offsets);
+  }
+
+}
@@ -0,0 +1,24 @@
+package com.github.marschall.lists;
+
+import java.util.List;
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+
+/**
+ * Emits the Java Flight Recorder events, only implemented by
+ * {@code ListEvents} which is compiled separately because it references
+ * {@code jdk.jfr}.
+ *
+ * <p>Must only be accessed through {@link FlightRecorderSupport}.</p>
+ */
+interface ListEventEmitter {
+
+  <O, E> E map(Function<O, E> mapFunction, O element, List<?> list, String operation);
+
+  @CheckForNull
+  Object beginPass();
+
+  void commitPass(Object event, Class<?> listClass, String operation, int size);
+
+}
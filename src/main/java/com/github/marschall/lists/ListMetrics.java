@@ -0,0 +1,299 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Records how lists are used, opt-in.
+ *
+ * <p>This class is intended to find views like {@link MappedList} that are
+ * traversed or accessed so often that they should have been materialized.
+ * {@link #instrument(List)} returns a list that records the number and
+ * latency of invocations of every {@link ListOperation},
+ * {@link #instrument(Function)} does the same for a mapping function.</p>
+ *
+ * <p>The recorded values are available through {@link #snapshot()} and
+ * through JMX after calling {@link #registerMBean()}.</p>
+ *
+ * <p>While disabled an instrumented list only does a volatile read per
+ * invocation. Instrumented lists serialize as the original list.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * ListMetrics metrics = new ListMetrics("classNames");
+ * metrics.registerMBean();
+ * List&lt;String&gt; classNames = metrics.instrument(
+ *     new MappedList&lt;&gt;(metrics.instrument(Class::getName), classes));
+ * </code></pre>
+ */
+@ThreadSafe
+public final class ListMetrics implements ListMetricsMXBean {
+
+  static final long NOT_TIMED = Long.MIN_VALUE;
+
+  private static final int BUCKETS = 64;
+
+  @Nonnull
+  private final String name;
+
+  private final Recorder[] recorders;
+
+  private volatile boolean enabled;
+
+  /**
+   * Constructor, the new instance is enabled.
+   *
+   * @param name the name used for JMX registration
+   */
+  public ListMetrics(@Nonnull String name) {
+    this.name = Objects.requireNonNull(name, "name");
+    ListOperation[] operations = ListOperation.values();
+    this.recorders = new Recorder[operations.length];
+    for (int i = 0; i < operations.length; ++i) {
+      this.recorders[i] = new Recorder();
+    }
+    this.enabled = true;
+  }
+
+  /**
+   * Returns a list that records its invocations in this instance.
+   *
+   * @param list the list to instrument
+   * @param <E> the element type
+   * @return the instrumented list, {@code list} is not copied
+   */
+  @Nonnull
+  public <E> List<E> instrument(@Nonnull List<E> list) {
+    return new InstrumentedList<>(list, this);
+  }
+
+  /**
+   * Returns a function that records its invocations as
+   * {@link ListOperation#MAP} in this instance.
+   *
+   * @param function the function to instrument
+   * @param <T> the argument type
+   * @param <R> the result type
+   * @return the instrumented function
+   */
+  @Nonnull
+  public <T, R> Function<T, R> instrument(@Nonnull Function<T, R> function) {
+    return new InstrumentedFunction<>(function, this);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  @Override
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Starts timing an invocation.
+   *
+   * @return the start time to pass to {@link #record(ListOperation, long)},
+   *  {@link #NOT_TIMED} if disabled
+   */
+  long start() {
+    return this.enabled ? System.nanoTime() : NOT_TIMED;
+  }
+
+  /**
+   * Records a timed invocation.
+   *
+   * @param operation the invoked operation
+   * @param start the return value of {@link #start()}
+   */
+  void record(ListOperation operation, long start) {
+    if (start != NOT_TIMED) {
+      this.recorders[operation.ordinal()].record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Records an invocation without timing it.
+   *
+   * @param operation the invoked operation
+   */
+  void count(ListOperation operation) {
+    if (this.enabled) {
+      this.recorders[operation.ordinal()].count.increment();
+    }
+  }
+
+  /**
+   * Returns the statistics of a single operation.
+   *
+   * @param operation the operation
+   * @return the statistics recorded so far
+   */
+  @Nonnull
+  public OperationStatistics getStatistics(@Nonnull ListOperation operation) {
+    return this.recorders[operation.ordinal()].snapshot(operation);
+  }
+
+  /**
+   * Returns the statistics of all operations.
+   *
+   * @return the statistics recorded so far by operation
+   */
+  @Nonnull
+  public Map<ListOperation, OperationStatistics> snapshot() {
+    Map<ListOperation, OperationStatistics> snapshot = new EnumMap<>(ListOperation.class);
+    for (ListOperation operation : ListOperation.values()) {
+      snapshot.put(operation, this.getStatistics(operation));
+    }
+    return snapshot;
+  }
+
+  @Override
+  public Map<String, Long> getCounts() {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (ListOperation operation : ListOperation.values()) {
+      counts.put(operation.name(), this.recorders[operation.ordinal()].count.sum());
+    }
+    return counts;
+  }
+
+  @Override
+  public Map<String, Long> getTotalNanos() {
+    Map<String, Long> totalNanos = new LinkedHashMap<>();
+    for (ListOperation operation : ListOperation.values()) {
+      totalNanos.put(operation.name(), this.recorders[operation.ordinal()].totalNanos.sum());
+    }
+    return totalNanos;
+  }
+
+  @Override
+  public long getTraversalCount() {
+    long traversals = 0L;
+    for (ListOperation operation : ListOperation.values()) {
+      if (operation.isTraversal()) {
+        traversals += this.recorders[operation.ordinal()].count.sum();
+      }
+    }
+    return traversals;
+  }
+
+  @Override
+  public void reset() {
+    for (Recorder recorder : this.recorders) {
+      recorder.reset();
+    }
+  }
+
+  /**
+   * Returns the name under which this instance is registered in JMX.
+   *
+   * @return the object name
+   * @throws JMException if the name is not a valid object name
+   */
+  @Nonnull
+  public ObjectName getObjectName() throws JMException {
+    return new ObjectName("com.github.marschall.lists:type=ListMetrics,name=" + ObjectName.quote(this.name));
+  }
+
+  /**
+   * Registers this instance in the platform MBean server.
+   *
+   * @return the name under which this instance was registered
+   * @throws JMException if registration fails, eg. because the name is already registered
+   */
+  @Nonnull
+  public ObjectName registerMBean() throws JMException {
+    ObjectName objectName = this.getObjectName();
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+    return objectName;
+  }
+
+  /**
+   * Unregisters this instance from the platform MBean server.
+   *
+   * @throws JMException if this instance is not registered
+   */
+  public void unregisterMBean() throws JMException {
+    ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.getObjectName());
+  }
+
+  static final class Recorder {
+
+    final LongAdder count;
+    final LongAdder totalNanos;
+    private final AtomicLongArray histogram;
+
+    Recorder() {
+      this.count = new LongAdder();
+      this.totalNanos = new LongAdder();
+      this.histogram = new AtomicLongArray(BUCKETS);
+    }
+
+    void record(long nanos) {
+      this.count.increment();
+      this.totalNanos.add(nanos);
+      // bucket of the highest bit, 0 and 1 end up in bucket 0
+      int bucket = Math.max(0, 63 - Long.numberOfLeadingZeros(nanos));
+      this.histogram.incrementAndGet(bucket);
+    }
+
+    void reset() {
+      this.count.reset();
+      this.totalNanos.reset();
+      for (int i = 0; i < BUCKETS; ++i) {
+        this.histogram.set(i, 0L);
+      }
+    }
+
+    OperationStatistics snapshot(ListOperation operation) {
+      long[] buckets = new long[BUCKETS];
+      for (int i = 0; i < BUCKETS; ++i) {
+        buckets[i] = this.histogram.get(i);
+      }
+      return new OperationStatistics(operation, this.count.sum(), this.totalNanos.sum(), buckets);
+    }
+
+  }
+
+  static final class InstrumentedFunction<T, R> implements Function<T, R>, Serializable {
+
+    private final Function<T, R> function;
+    private final transient ListMetrics metrics;
+
+    InstrumentedFunction(Function<T, R> function, ListMetrics metrics) {
+      this.function = function;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public R apply(T t) {
+      long start = this.metrics.start();
+      try {
+        return this.function.apply(t);
+      } finally {
+        this.metrics.record(ListOperation.MAP, start);
+      }
+    }
+
+    private Object writeReplace() {
+      // serialize as the original function
+      return this.function;
+    }
+
+  }
+
+}
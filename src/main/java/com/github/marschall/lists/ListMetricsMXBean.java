@@ -0,0 +1,52 @@
+package com.github.marschall.lists;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link ListMetrics}.
+ */
+public interface ListMetricsMXBean {
+
+  /**
+   * Whether invocations are currently recorded.
+   *
+   * @return whether invocations are currently recorded
+   */
+  boolean isEnabled();
+
+  /**
+   * Starts or stops recording invocations.
+   *
+   * @param enabled whether invocations should be recorded
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * Returns the number of invocations per {@link ListOperation}.
+   *
+   * @return the number of invocations by operation name
+   */
+  Map<String, Long> getCounts();
+
+  /**
+   * Returns the total duration of the invocations per {@link ListOperation}.
+   *
+   * @return the total duration in nanoseconds by operation name
+   */
+  Map<String, Long> getTotalNanos();
+
+  /**
+   * Returns the number of invocations of operations that potentially
+   * visit every element.
+   *
+   * @return the number of traversals
+   * @see ListOperation#isTraversal()
+   */
+  long getTraversalCount();
+
+  /**
+   * Resets all recorded invocations.
+   */
+  void reset();
+
+}
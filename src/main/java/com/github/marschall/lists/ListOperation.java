@@ -0,0 +1,100 @@
+package com.github.marschall.lists;
+
+/**
+ * The operations recorded by {@link ListMetrics}.
+ */
+public enum ListOperation {
+
+  /**
+   * {@link java.util.List#get(int)}.
+   */
+  GET(false),
+
+  /**
+   * {@link java.util.List#size()} and {@link java.util.List#isEmpty()}.
+   */
+  SIZE(false),
+
+  /**
+   * {@link java.util.List#contains(Object)} and
+   * {@link java.util.List#containsAll(java.util.Collection)}.
+   */
+  CONTAINS(true),
+
+  /**
+   * {@link java.util.List#indexOf(Object)} and {@link java.util.List#lastIndexOf(Object)}.
+   */
+  INDEX_OF(true),
+
+  /**
+   * Creation of an {@link java.util.Iterator} or {@link java.util.ListIterator},
+   * the time is not recorded as the iteration happens later.
+   */
+  ITERATOR(true),
+
+  /**
+   * Creation of a {@link java.util.Spliterator} or stream,
+   * the time is not recorded as the iteration happens later.
+   */
+  SPLITERATOR(true),
+
+  /**
+   * {@link java.util.List#forEach(java.util.function.Consumer)}.
+   */
+  FOR_EACH(true),
+
+  /**
+   * {@link java.util.List#toArray()} and {@link java.util.List#toArray(Object[])}.
+   */
+  TO_ARRAY(true),
+
+  /**
+   * {@link java.util.List#equals(Object)}.
+   */
+  EQUALS(true),
+
+  /**
+   * {@link java.util.List#hashCode()}.
+   */
+  HASH_CODE(true),
+
+  /**
+   * {@link java.util.List#toString()}.
+   */
+  TO_STRING(true),
+
+  /**
+   * {@link java.util.List#subList(int, int)}.
+   */
+  SUB_LIST(false),
+
+  /**
+   * All methods modifying the list.
+   */
+  MODIFICATION(false),
+
+  /**
+   * An invocation of a mapping function instrumented with
+   * {@link ListMetrics#instrument(java.util.function.Function)}.
+   */
+  MAP(false);
+
+  private final boolean traversal;
+
+  ListOperation(boolean traversal) {
+    this.traversal = traversal;
+  }
+
+  /**
+   * Whether this operation potentially visits every element.
+   *
+   * <p>Frequent traversals of a view are an indication that it should
+   * have been materialized.</p>
+   *
+   * @return whether this operation potentially visits every element
+   */
+  public boolean isTraversal() {
+    return this.traversal;
+  }
+
+}
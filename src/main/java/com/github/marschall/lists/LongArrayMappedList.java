@@ -0,0 +1,125 @@
+package com.github.marschall.lists;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A read only view on a slice of a {@code long} array after applying a
+ * mapping function.
+ *
+ * <p>Like {@link MappedList} but the values are read directly from the
+ * array, no boxed delegate list is needed. {@link #subList(int, int)}
+ * shares the array and only narrows the slice, the spliterator splits
+ * exactly in the middle of the remaining array index range.</p>
+ *
+ * <p>This list does not support modification. Changes to the array are
+ * visible through this list.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * long[] millis = &hellip;;
+ * List&lt;Instant&gt; timestamps = new LongArrayMappedList&lt;&gt;(Instant::ofEpochMilli, millis);
+ * </code></pre>
+ *
+ * @param <E> the type of elements in this list
+ * @see IntArrayMappedList
+ * @see DoubleArrayMappedList
+ */
+@NotThreadSafe
+public final class LongArrayMappedList<E> extends AbstractGeneratedList<E> {
+
+  @Nonnull
+  private final LongFunction<E> mapFunction;
+
+  @Nonnull
+  private final long[] array;
+
+  /**
+   * Constructor covering the whole array.
+   *
+   * @param mapFunction the function to produce the items in this list
+   * @param array the values on which to run {@code mapFunction}, not copied
+   */
+  public LongArrayMappedList(@Nonnull LongFunction<E> mapFunction, @Nonnull long[] array) {
+    this(mapFunction, array, 0, array.length);
+  }
+
+  /**
+   * Constructor covering a slice of the array.
+   *
+   * @param mapFunction the function to produce the items in this list
+   * @param array the values on which to run {@code mapFunction}, not copied
+   * @param fromIndex the index of the first value, inclusive
+   * @param toIndex the index of the last value, exclusive
+   * @throws IndexOutOfBoundsException if the slice is not within the array
+   */
+  public LongArrayMappedList(@Nonnull LongFunction<E> mapFunction, @Nonnull long[] array, int fromIndex, int toIndex) {
+    super(fromIndex, Traversals.checkSlice(fromIndex, toIndex, array.length));
+    this.mapFunction = mapFunction;
+    this.array = array;
+  }
+
+  @Override
+  E generate(int index) {
+    return this.mapFunction.apply(this.array[index]);
+  }
+
+  @Override
+  AbstractGeneratedList<E> newSubList(int newOffset, int newSize) {
+    return new LongArrayMappedList<>(this.mapFunction, this.array, newOffset, newOffset + newSize);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new LongArrayMappedSpliterator<>(this.mapFunction, this.array, this.offset, this.offset + this.size);
+  }
+
+  static final class LongArrayMappedSpliterator<E> extends GeneratedSpliterator<E, Spliterator<E>> {
+
+    private final LongFunction<E> mapFunction;
+    private final long[] array;
+
+    LongArrayMappedSpliterator(LongFunction<E> mapFunction, long[] array, int index, int fence) {
+      super(index, fence);
+      this.mapFunction = mapFunction;
+      this.array = array;
+    }
+
+    @Override
+    Spliterator<E> split(int start, int end) {
+      return new LongArrayMappedSpliterator<>(this.mapFunction, this.array, start, end);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (this.index < this.fence) {
+        action.accept(this.mapFunction.apply(this.array[this.index]));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      if (this.index < this.fence) {
+        action.accept(this.mapFunction.apply(this.array[this.index]));
+        this.index += 1;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public int characteristics() {
+      // the array is not copied and may change
+      return Spliterator.ORDERED
+              | Spliterator.SIZED
+              | Spliterator.SUBSIZED;
+    }
+
+  }
+
+}
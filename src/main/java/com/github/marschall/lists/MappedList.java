@@ -4,16 +4,21 @@ import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -29,6 +34,17 @@ import javax.annotation.concurrent.NotThreadSafe;
  *
  * <p>This list does not support modification.</p>
  *
+ * <p>If the mapped elements are declared sorted through
+ * {@link MappingProperties} {@link #contains(Object)}, {@link #indexOf(Object)}
+ * and {@link #lastIndexOf(Object)} use binary search.</p>
+ *
+ * <p>If Java Flight Recorder is available and the system property
+ * {@code com.github.marschall.lists.jfr.mapping} is {@code true} slow
+ * invocations of the mapping function from {@link #get(int)} are recorded as
+ * {@code com.github.marschall.lists.ListMapping} events. Slow
+ * {@link #toArray()}, {@link #equals(Object)} and {@link #hashCode()} as
+ * {@code com.github.marschall.lists.ListPass} events.</p>
+ *
  * <h3>Example</h3>
  * <pre><code>
  * List&lt;Class&lt;?&gt;&gt; classes = &hellip;;
@@ -40,7 +56,7 @@ import javax.annotation.concurrent.NotThreadSafe;
  * @param <O> the original element type of the underlying list
  */
 @NotThreadSafe
-public final class MappedList<E, O> extends AbstractCollection<E> implements List<E>, Serializable, RandomAccess {
+public final class MappedList<E, O> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
   // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
   // RandomAccess because likely the underlying list implements it as well (eg. ArrayList)
 
@@ -50,6 +66,11 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
   @Nonnull
   private final List<O> delegate;
 
+  @Nonnull
+  private final MappingProperties<E> properties;
+
+  private final boolean serializeValues;
+
   /**
    * Constructor.
    *
@@ -57,8 +78,49 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
    * @param delegate the list on who to run {@code mapFunction}
    */
   public MappedList(@Nonnull Function<O, E> mapFunction, @Nonnull List<O> delegate) {
+    this(mapFunction, delegate, MappingProperties.none());
+  }
+
+  /**
+   * Constructor with declared properties of the mapping function.
+   *
+   * <p>The properties are used to report accurate characteristics
+   * from {@link #spliterator()}.</p>
+   *
+   * @param mapFunction the function to produce the items in this list
+   * @param delegate the list on who to run {@code mapFunction}
+   * @param properties the declared properties of {@code mapFunction}
+   */
+  public MappedList(@Nonnull Function<O, E> mapFunction, @Nonnull List<O> delegate, @Nonnull MappingProperties<E> properties) {
+    this(mapFunction, delegate, properties, false);
+  }
+
+  private MappedList(Function<O, E> mapFunction, List<O> delegate, MappingProperties<E> properties, boolean serializeValues) {
     this.mapFunction = mapFunction;
     this.delegate = delegate;
+    this.properties = Objects.requireNonNull(properties, "properties");
+    this.serializeValues = serializeValues;
+  }
+
+  /**
+   * Returns a view on the same elements that serializes only the mapped elements.
+   *
+   * <p>By default serialization writes the mapping function and the
+   * underlying list. The returned list instead applies the mapping function
+   * while writing and writes only the results, the mapping function and
+   * the underlying list do not have to be serializable. It is deserialized
+   * as an immutable list backed by an array of the exact size.</p>
+   *
+   * <p>This is smaller if the mapped elements are smaller than the
+   * elements of the underlying list, eg. ids of entities.</p>
+   *
+   * @return a view serializing the mapped elements
+   */
+  public MappedList<E, O> withValueSerialization() {
+    if (this.serializeValues) {
+      return this;
+    }
+    return new MappedList<>(this.mapFunction, this.delegate, this.properties, true);
   }
 
   @Override
@@ -76,8 +138,78 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
     this.delegate.forEach(e -> action.accept(this.mapFunction.apply(e)));
   }
 
+  @Override
+  public void forEachIndexed(ObjIntConsumer<? super E> action) {
+    if (this.delegate instanceof RandomAccess) {
+      int size = this.delegate.size();
+      for (int i = 0; i < size; ++i) {
+        action.accept(this.mapFunction.apply(this.delegate.get(i)), i);
+      }
+    } else {
+      int index = 0;
+      for (O each : this.delegate) {
+        action.accept(this.mapFunction.apply(each), index);
+        index += 1;
+      }
+    }
+  }
+
+  @Override
+  public void forEachInRange(int fromIndex, int toIndex, Consumer<? super E> action) {
+    Traversals.checkRange(fromIndex, toIndex, this.delegate.size());
+    if (this.delegate instanceof RandomAccess) {
+      for (int i = fromIndex; i < toIndex; ++i) {
+        action.accept(this.mapFunction.apply(this.delegate.get(i)));
+      }
+    } else {
+      ListIterator<O> iterator = this.delegate.listIterator(fromIndex);
+      for (int i = fromIndex; i < toIndex; ++i) {
+        action.accept(this.mapFunction.apply(iterator.next()));
+      }
+    }
+  }
+
+  @Override
+  public void copyInto(Object[] destination, int destinationPosition, int fromIndex, int toIndex) {
+    Traversals.checkCopy(destination, destinationPosition, fromIndex, toIndex, this.delegate.size());
+    if (this.delegate instanceof RandomAccess) {
+      int offset = destinationPosition - fromIndex;
+      for (int i = fromIndex; i < toIndex; ++i) {
+        destination[offset + i] = this.mapFunction.apply(this.delegate.get(i));
+      }
+    } else {
+      ListIterator<O> iterator = this.delegate.listIterator(fromIndex);
+      int end = destinationPosition + toIndex - fromIndex;
+      for (int i = destinationPosition; i < end; ++i) {
+        destination[i] = this.mapFunction.apply(iterator.next());
+      }
+    }
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super E> predicate) {
+    if (this.delegate instanceof RandomAccess) {
+      int size = this.delegate.size();
+      for (int i = 0; i < size; ++i) {
+        if (!predicate.test(this.mapFunction.apply(this.delegate.get(i)))) {
+          return false;
+        }
+      }
+    } else {
+      for (O each : this.delegate) {
+        if (!predicate.test(this.mapFunction.apply(each))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
   @Override
   public boolean contains(Object o) {
+    if (this.properties.isSorted(this.delegate)) {
+      return SortedSearch.indexOf(this, o, this.properties.getComparator()) != -1;
+    }
     int size = this.size();
     for (int i = 0; i < size; ++i) {
       if (Objects.equals(o, this.get(i))) {
@@ -104,10 +236,12 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
   }
 
   public int hashCode() {
+    Object event = FlightRecorderSupport.beginPass();
     int hashCode = 1;
     for (O each : this.delegate) {
       hashCode = 31 * hashCode + Objects.hashCode(this.mapFunction.apply(each));
     }
+    FlightRecorderSupport.commitPass(event, MappedList.class, "hashCode", this.delegate.size());
     return hashCode;
   }
 
@@ -124,35 +258,43 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
     if (size != other.size()) {
       return false;
     }
-    // TODO check if other implements RandomAccess
-    for (int i = 0; i < size; ++i) {
-      if (!Objects.equals(this.mapFunction.apply(this.delegate.get(i)), other.get(i))) {
-        return false;
+    Object event = FlightRecorderSupport.beginPass();
+    try {
+      // TODO check if other implements RandomAccess
+      for (int i = 0; i < size; ++i) {
+        if (!Objects.equals(this.mapFunction.apply(this.delegate.get(i)), other.get(i))) {
+          return false;
+        }
       }
+      return true;
+    } finally {
+      FlightRecorderSupport.commitPass(event, MappedList.class, "equals", size);
     }
-    return true;
   }
 
   @Override
   public Object[] toArray() {
+    Object event = FlightRecorderSupport.beginPass();
     int size = this.size();
     Object[] result = new Object[size];
     for (int i = 0; i < size; ++i) {
       result[i] = this.mapFunction.apply(this.delegate.get(i));
     }
+    FlightRecorderSupport.commitPass(event, MappedList.class, "toArray", size);
     return result;
   }
 
   @SuppressWarnings("unchecked") // because arrays don't play well with generics
   @Override
   public <T> T[] toArray(T[] a) {
+    Object event = FlightRecorderSupport.beginPass();
     int size = this.size();
+    T[] result;
     if (a.length < size) {
-      T[] result = (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), size);
       for (int i = 0; i < size; ++i) {
         result[i] = (T) this.mapFunction.apply(this.delegate.get(i));
       }
-      return result;
     } else {
       for (int i = 0; i < size; ++i) {
         a[i] = (T) this.mapFunction.apply(this.delegate.get(i));
@@ -160,8 +302,10 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
       if (a.length > size) {
         a[size] = null;
       }
-      return a;
+      result = a;
     }
+    FlightRecorderSupport.commitPass(event, MappedList.class, "toArray", size);
+    return result;
   }
 
   @Override
@@ -202,7 +346,117 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
 
   @Override
   public E get(int index) {
-    return this.mapFunction.apply(this.delegate.get(index));
+    O element = this.delegate.get(index);
+    if (FlightRecorderSupport.MAPPING_ENABLED) {
+      return FlightRecorderSupport.map(this.mapFunction, element, this.delegate, "get");
+    }
+    return this.mapFunction.apply(element);
+  }
+
+  /**
+   * Returns the first element of this list.
+   *
+   * @return the first element
+   * @throws NoSuchElementException if this list is empty
+   */
+  public E getFirst() {
+    if (this.delegate.isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    O element = this.delegate.get(0);
+    if (FlightRecorderSupport.MAPPING_ENABLED) {
+      return FlightRecorderSupport.map(this.mapFunction, element, this.delegate, "getFirst");
+    }
+    return this.mapFunction.apply(element);
+  }
+
+  /**
+   * Returns the last element of this list.
+   *
+   * @return the last element
+   * @throws NoSuchElementException if this list is empty
+   */
+  public E getLast() {
+    int size = this.delegate.size();
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    O element = this.delegate.get(size - 1);
+    if (FlightRecorderSupport.MAPPING_ENABLED) {
+      return FlightRecorderSupport.map(this.mapFunction, element, this.delegate, "getLast");
+    }
+    return this.mapFunction.apply(element);
+  }
+
+  /**
+   * Returns a view of this list in reverse order.
+   *
+   * <p>The mapping function is applied to a reversed view of the underlying list.</p>
+   *
+   * @return a reversed view of this list
+   */
+  public List<E> reversed() {
+    return new MappedList<>(this.mapFunction, RemappedList.reverse(this.delegate), this.properties.withoutOrder(), this.serializeValues);
+  }
+
+  /**
+   * Returns the end index of the mapped elements less than {@code toElement}
+   * or less than or equal to if {@code inclusive}.
+   *
+   * <p>Uses binary search and applies the mapping function O(log n) times.
+   * Requires this list to be sorted, either declared with
+   * {@link MappingProperties#sorted(Comparator)} or with
+   * {@link MappingProperties#monotone(Comparator)} over a {@link DeclaredSortedList}.</p>
+   *
+   * @param toElement the upper bound
+   * @param inclusive whether elements equal to {@code toElement} are included
+   * @return the exclusive end index of the elements in the range
+   * @throws IllegalStateException if this list is not known to be sorted
+   */
+  public int headIndex(E toElement, boolean inclusive) {
+    this.checkSorted();
+    return SortedSearch.headIndex(this, toElement, inclusive, this.properties.getComparator());
+  }
+
+  /**
+   * Returns the start index of the mapped elements greater than or equal to
+   * {@code fromElement} or greater than if not {@code inclusive}.
+   *
+   * <p>Uses binary search and applies the mapping function O(log n) times.
+   * Requires this list to be sorted, see {@link #headIndex(Object, boolean)}.</p>
+   *
+   * @param fromElement the lower bound
+   * @param inclusive whether elements equal to {@code fromElement} are included
+   * @return the index of the first element in the range, {@link #size()} if none
+   * @throws IllegalStateException if this list is not known to be sorted
+   */
+  public int tailIndex(E fromElement, boolean inclusive) {
+    this.checkSorted();
+    return SortedSearch.tailIndex(this, fromElement, inclusive, this.properties.getComparator());
+  }
+
+  private void checkSorted() {
+    if (!this.properties.isSorted(this.delegate)) {
+      throw new IllegalStateException("not declared sorted");
+    }
+  }
+
+  /**
+   * Returns a view of this list sorted by the mapped elements.
+   *
+   * <p>The mapping function is applied once per element to compute the
+   * sort keys, then an {@code int[]} of indices is sorted. The returned list
+   * applies the mapping function again on access and reports the order
+   * from its spliterator. The sort is stable.</p>
+   *
+   * @param comparator the order of the mapped elements, {@code null} for natural order
+   * @param parallel whether to sort in parallel in the common pool
+   * @return a sorted view of this list
+   * @see PermutedList#sortedBy(List, Function, Comparator, boolean)
+   */
+  public MappedList<E, O> sortedView(@Nullable Comparator<? super E> comparator, boolean parallel) {
+    List<O> sortedDelegate = PermutedList.sortedBy(this.delegate, this.mapFunction, comparator, parallel);
+    return new MappedList<>(this.mapFunction, sortedDelegate, this.properties.sorted(comparator), this.serializeValues);
   }
 
   @Override
@@ -222,6 +476,9 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
 
   @Override
   public int indexOf(Object o) {
+    if (this.properties.isSorted(this.delegate)) {
+      return SortedSearch.indexOf(this, o, this.properties.getComparator());
+    }
     int size = this.size();
     for (int i = 0; i < size; ++i) {
       if (Objects.equals(o, this.get(i))) {
@@ -233,6 +490,9 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
 
   @Override
   public int lastIndexOf(Object o) {
+    if (this.properties.isSorted(this.delegate)) {
+      return SortedSearch.lastIndexOf(this, o, this.properties.getComparator());
+    }
     for (int i = this.size() - 1; i >= 0; --i) {
       if (Objects.equals(o, this.get(i))) {
         return i;
@@ -253,12 +513,19 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
 
   @Override
   public List<E> subList(int fromIndex, int toIndex) {
-    return new MappedList<>(this.mapFunction, this.delegate.subList(fromIndex, toIndex));
+    return new MappedList<>(this.mapFunction, this.delegate.subList(fromIndex, toIndex), this.properties, this.serializeValues);
   }
 
   @Override
   public Spliterator<E> spliterator() {
-    return new MappedSpliterator<>(this.mapFunction, this.delegate.spliterator());
+    return new MappedSpliterator<>(this.mapFunction, this.delegate.spliterator(), this.properties);
+  }
+
+  private Object writeReplace() {
+    if (this.serializeValues) {
+      return new ValueSnapshot(this);
+    }
+    return this;
   }
 
   static final class MappedIterator<E, T> implements Iterator<E> {
@@ -352,15 +619,18 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
 
   static final class MappedSpliterator<E, O> implements Spliterator<E> {
     // done to preserve the characteristics of the Spliterator of the underlying list
-    // getComparator currently missing, would be slow
+    // SORTED, DISTINCT and NONNULL are only reported when declared through MappingProperties
 
     private final Function<O, E> mapFunction;
 
     private final Spliterator<O> delegate;
 
-    MappedSpliterator(Function<O, E> mapFunction, Spliterator<O> delegate) {
+    private final MappingProperties<E> properties;
+
+    MappedSpliterator(Function<O, E> mapFunction, Spliterator<O> delegate, MappingProperties<E> properties) {
       this.mapFunction = mapFunction;
       this.delegate = delegate;
+      this.properties = properties;
     }
 
     @Override
@@ -377,7 +647,7 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
     public Spliterator<E> trySplit() {
       Spliterator<O> splitted = this.delegate.trySplit();
       if (splitted != null) {
-        return new MappedSpliterator<>(this.mapFunction, splitted);
+        return new MappedSpliterator<>(this.mapFunction, splitted, this.properties);
       } else {
         return null;
       }
@@ -395,7 +665,15 @@ public final class MappedList<E, O> extends AbstractCollection<E> implements Lis
 
     @Override
     public int characteristics() {
-      return this.delegate.characteristics();
+      return this.properties.characteristics(this.delegate.characteristics());
+    }
+
+    @Override
+    public Comparator<? super E> getComparator() {
+      if ((this.characteristics() & Spliterator.SORTED) == 0) {
+        throw new IllegalStateException("not sorted");
+      }
+      return this.properties.getComparator();
     }
 
   }
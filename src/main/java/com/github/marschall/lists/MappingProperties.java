@@ -0,0 +1,207 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Declared properties of a mapping function used by {@link MappedList}.
+ *
+ * <p>The mapping function is opaque, therefore {@link MappedList} can
+ * not know whether a {@link Spliterator#DISTINCT},
+ * {@link Spliterator#SORTED} or {@link Spliterator#NONNULL} source stays
+ * so after mapping. With these properties the caller can declare it so
+ * that {@link MappedList#spliterator()} reports accurate characteristics
+ * and streams can skip {@code distinct()} and {@code sorted()}.</p>
+ *
+ * <p>The properties are not verified, declaring a property the mapping
+ * function does not have results in incorrect stream results.</p>
+ *
+ * <p>Note that streams only skip {@code sorted()} for the natural
+ * order, a spliterator with a comparator is treated as unsorted.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;Event&gt; events = &hellip;; // ordered by time
+ * List&lt;Instant&gt; timestamps = new MappedList&lt;&gt;(Event::getTimestamp, events,
+ *     MappingProperties.&lt;Instant&gt;none().sorted(null).nonNull());
+ * </code></pre>
+ *
+ * @param <E> the type of the mapped elements
+ */
+@Immutable
+public final class MappingProperties<E> implements Serializable {
+
+  private static final int INJECTIVE = 1;
+  private static final int MONOTONE = 2;
+  private static final int NONNULL = 4;
+  private static final int DISTINCT = 8;
+  private static final int SORTED = 16;
+
+  private static final MappingProperties<?> NONE = new MappingProperties<>(0, null);
+
+  private final int flags;
+
+  @CheckForNull
+  private final Comparator<? super E> comparator;
+
+  private MappingProperties(int flags, Comparator<? super E> comparator) {
+    this.flags = flags;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Returns the properties of a mapping function about which nothing is known.
+   *
+   * @param <E> the type of the mapped elements
+   * @return the properties of an arbitrary mapping function
+   */
+  @SuppressWarnings("unchecked") // no comparator, safe for any element type
+  public static <E> MappingProperties<E> none() {
+    return (MappingProperties<E>) NONE;
+  }
+
+  /**
+   * Declares the mapping function injective, different inputs map to
+   * different outputs. If the source is distinct the result will be as well.
+   *
+   * @return new properties with the additional declaration
+   */
+  public MappingProperties<E> injective() {
+    return new MappingProperties<>(this.flags | INJECTIVE, this.comparator);
+  }
+
+  /**
+   * Declares the mapping function monotone, if the source is sorted
+   * the result will be sorted according to {@code comparator}.
+   *
+   * @param comparator the order of the mapped elements,
+   *  {@code null} for natural order
+   * @return new properties with the additional declaration
+   */
+  public MappingProperties<E> monotone(@Nullable Comparator<? super E> comparator) {
+    return new MappingProperties<>((this.flags | MONOTONE) & ~SORTED, comparator);
+  }
+
+  /**
+   * Declares that the mapping function never returns {@code null}.
+   *
+   * @return new properties with the additional declaration
+   */
+  public MappingProperties<E> nonNull() {
+    return new MappingProperties<>(this.flags | NONNULL, this.comparator);
+  }
+
+  /**
+   * Declares that the mapped elements are distinct independent of whether
+   * the source reports to be distinct.
+   *
+   * <p>Useful if the source is known to be distinct but its
+   * {@link Spliterator} does not report it, eg. {@link java.util.ArrayList}.</p>
+   *
+   * @return new properties with the additional declaration
+   */
+  public MappingProperties<E> distinct() {
+    return new MappingProperties<>(this.flags | DISTINCT, this.comparator);
+  }
+
+  /**
+   * Declares that the mapped elements are sorted according to
+   * {@code comparator} independent of whether the source reports to be sorted.
+   *
+   * <p>Useful if the source is known to be sorted but its
+   * {@link Spliterator} does not report it, eg. {@link java.util.ArrayList}.</p>
+   *
+   * @param comparator the order of the mapped elements,
+   *  {@code null} for natural order
+   * @return new properties with the additional declaration
+   */
+  public MappingProperties<E> sorted(@Nullable Comparator<? super E> comparator) {
+    return new MappingProperties<>((this.flags | SORTED) & ~MONOTONE, comparator);
+  }
+
+  /**
+   * Returns these properties without a declared order, used when the
+   * order of the source is changed.
+   *
+   * @return new properties without a declared order
+   */
+  MappingProperties<E> withoutOrder() {
+    if (!this.hasOrder()) {
+      return this;
+    }
+    return new MappingProperties<>(this.flags & ~(SORTED | MONOTONE), null);
+  }
+
+  /**
+   * Whether the mapped elements are declared sorted, either directly
+   * or through a monotone mapping function.
+   *
+   * @return whether a sort order has been declared
+   */
+  boolean hasOrder() {
+    return (this.flags & (SORTED | MONOTONE)) != 0;
+  }
+
+  /**
+   * Whether the mapped elements are sorted, either because they are declared
+   * sorted or because the mapping function is monotone and {@code delegate}
+   * is a {@link DeclaredSortedList}.
+   *
+   * @param delegate the list that is mapped
+   * @return whether the mapped elements can be binary searched
+   */
+  boolean isSorted(List<?> delegate) {
+    return (this.flags & SORTED) != 0
+            || ((this.flags & MONOTONE) != 0 && delegate instanceof DeclaredSortedList);
+  }
+
+  /**
+   * Returns the comparator of the mapped elements.
+   *
+   * @return the comparator, {@code null} for natural order or if no order was declared
+   */
+  @CheckForNull
+  Comparator<? super E> getComparator() {
+    return this.comparator;
+  }
+
+  /**
+   * Computes the characteristics of the mapped spliterator.
+   *
+   * @param delegateCharacteristics the characteristics of the source spliterator
+   * @return the characteristics of the mapped spliterator
+   */
+  int characteristics(int delegateCharacteristics) {
+    // these are not affected by mapping
+    int characteristics = delegateCharacteristics
+            & (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                    | Spliterator.IMMUTABLE | Spliterator.CONCURRENT);
+    if ((this.flags & DISTINCT) != 0
+            || ((this.flags & INJECTIVE) != 0 && (delegateCharacteristics & Spliterator.DISTINCT) != 0)) {
+      characteristics |= Spliterator.DISTINCT;
+    }
+    if ((this.flags & NONNULL) != 0) {
+      characteristics |= Spliterator.NONNULL;
+    }
+    if ((this.flags & SORTED) != 0
+            || ((this.flags & MONOTONE) != 0 && (delegateCharacteristics & Spliterator.SORTED) != 0)) {
+      // SORTED implies ORDERED
+      characteristics |= Spliterator.SORTED | Spliterator.ORDERED;
+    }
+    return characteristics;
+  }
+
+  private Object readResolve() {
+    if (this.flags == 0) {
+      return NONE;
+    }
+    return this;
+  }
+
+}
@@ -0,0 +1,110 @@
+package com.github.marschall.lists;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A snapshot of the recorded invocations of a single {@link ListOperation}.
+ *
+ * <p>The latencies are recorded in a histogram with power of two
+ * buckets, bucket {@code i} counts the invocations that took at least
+ * {@code 2^i} and less than {@code 2^(i + 1)} nanoseconds, bucket
+ * {@code 0} also counts the invocations that took {@code 0} nanoseconds.</p>
+ */
+@Immutable
+public final class OperationStatistics {
+
+  @Nonnull
+  private final ListOperation operation;
+
+  private final long count;
+
+  private final long totalNanos;
+
+  @Nonnull
+  private final long[] histogram;
+
+  OperationStatistics(ListOperation operation, long count, long totalNanos, long[] histogram) {
+    this.operation = operation;
+    this.count = count;
+    this.totalNanos = totalNanos;
+    this.histogram = histogram;
+  }
+
+  /**
+   * Returns the operation these statistics are about.
+   *
+   * @return the operation
+   */
+  @Nonnull
+  public ListOperation getOperation() {
+    return this.operation;
+  }
+
+  /**
+   * Returns the number of invocations.
+   *
+   * @return the number of invocations
+   */
+  public long getCount() {
+    return this.count;
+  }
+
+  /**
+   * Returns the sum of the durations of all invocations.
+   *
+   * @return the total duration in nanoseconds
+   */
+  public long getTotalNanos() {
+    return this.totalNanos;
+  }
+
+  /**
+   * Returns the latency histogram.
+   *
+   * @return a copy of the histogram, the element at index {@code i}
+   *  is the number of invocations that took {@code [2^i, 2^(i + 1))} nanoseconds
+   */
+  @Nonnull
+  public long[] getHistogram() {
+    return this.histogram.clone();
+  }
+
+  /**
+   * Returns an upper bound of the latency of a percentile of the invocations.
+   *
+   * @param percentile the percentile, between {@code 0.0} and {@code 1.0}
+   * @return the upper bound of the bucket containing the percentile in nanoseconds,
+   *  {@code 0} if there were no timed invocations
+   */
+  public long getPercentileNanos(double percentile) {
+    if (percentile < 0.0d || percentile > 1.0d) {
+      throw new IllegalArgumentException("percentile must be between 0.0 and 1.0 but was: " + percentile);
+    }
+    long timed = 0L;
+    for (long bucket : this.histogram) {
+      timed += bucket;
+    }
+    if (timed == 0L) {
+      return 0L;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(percentile * timed));
+    long seen = 0L;
+    for (int i = 0; i < this.histogram.length; ++i) {
+      seen += this.histogram[i];
+      if (seen >= rank) {
+        return i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1L;
+      }
+    }
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public String toString() {
+    return this.operation + "[count=" + this.count + ", totalNanos=" + this.totalNanos
+            + ", histogram=" + Arrays.toString(this.histogram) + ']';
+  }
+
+}
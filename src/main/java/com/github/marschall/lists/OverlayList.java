@@ -0,0 +1,639 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A fixed size list consisting of a base list and a few overridden elements.
+ *
+ * <p>{@link #set(int, Object)} does not modify the base list, instead
+ * the element is stored in this list. The indices of the overridden
+ * elements are stored in a sorted {@code int[]}, {@link #get(int)}
+ * therefore needs {@code O(log k)} time for {@code k} overridden
+ * elements. Iteration merges the base list and the overridden elements
+ * without searching for every index.</p>
+ *
+ * <p>This list is useful for "all default except a few" lists, for
+ * example over a {@link RepeatingList}, or a few edits of a large
+ * immutable list like a {@link MappedList}. The size of the base list
+ * must not change.</p>
+ *
+ * <p>This list does not support structural modification.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;String&gt; statuses = new OverlayList&lt;&gt;(new RepeatingList&lt;&gt;("OK", 1_000_000));
+ * statuses.set(4711, "FAILED");
+ * </code></pre>
+ *
+ * @param <E> the element type
+ */
+@NotThreadSafe
+public final class OverlayList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+  // RandomAccess because likely the underlying list implements it as well (eg. ArrayList)
+
+  private static final int[] EMPTY_KEYS = new int[0];
+
+  private static final Object[] EMPTY_VALUES = new Object[0];
+
+  @Nonnull
+  private final List<E> base;
+
+  // sorted, only the first overrideCount entries are used
+  private int[] keys;
+
+  private Object[] values;
+
+  private int overrideCount;
+
+  /**
+   * Constructor.
+   *
+   * @param base the list providing the elements that are not overridden,
+   *  will not be modified, must not change its size
+   */
+  public OverlayList(@Nonnull List<E> base) {
+    this.base = Objects.requireNonNull(base, "base");
+    this.keys = EMPTY_KEYS;
+    this.values = EMPTY_VALUES;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.base.size()) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+  }
+
+  private int findOverride(int index) {
+    return Arrays.binarySearch(this.keys, 0, this.overrideCount, index);
+  }
+
+  /**
+   * Returns the position in {@link #keys} of the first override at or
+   * after {@code index}.
+   */
+  int firstOverrideAtOrAfter(int index) {
+    int position = this.findOverride(index);
+    if (position < 0) {
+      return -(position + 1);
+    }
+    return position;
+  }
+
+  /**
+   * Returns the position in {@link #keys} of the first override at or
+   * after {@code index}, reusing {@code hint} without searching if it is
+   * still that position.
+   */
+  int overridePosition(int index, int hint) {
+    if (hint >= 0 && hint <= this.overrideCount
+            && (hint == 0 || this.keys[hint - 1] < index)
+            && (hint == this.overrideCount || this.keys[hint] >= index)) {
+      return hint;
+    }
+    // overrides were added or reverted, or no hint
+    return this.firstOverrideAtOrAfter(index);
+  }
+
+  boolean isOverrideAt(int position, int index) {
+    return position < this.overrideCount && this.keys[position] == index;
+  }
+
+  @SuppressWarnings("unchecked") // only E is ever stored
+  E overrideValue(int position) {
+    return (E) this.values[position];
+  }
+
+  /**
+   * Returns the number of overridden elements.
+   *
+   * @return the number of indices for which {@link #set(int, Object)} has been called
+   */
+  public int overrideCount() {
+    return this.overrideCount;
+  }
+
+  /**
+   * Checks whether the element at an index has been overridden.
+   *
+   * @param index the index to check
+   * @return whether {@link #set(int, Object)} has been called for {@code index}
+   */
+  public boolean isOverridden(int index) {
+    this.checkIndex(index);
+    return this.findOverride(index) >= 0;
+  }
+
+  /**
+   * Removes the override of an element so that the element of the base
+   * list becomes visible again.
+   *
+   * @param index the index of the element to revert
+   * @return whether the element was overridden
+   */
+  public boolean revert(int index) {
+    this.checkIndex(index);
+    int position = this.findOverride(index);
+    if (position < 0) {
+      return false;
+    }
+    int moved = this.overrideCount - position - 1;
+    System.arraycopy(this.keys, position + 1, this.keys, position, moved);
+    System.arraycopy(this.values, position + 1, this.values, position, moved);
+    this.overrideCount -= 1;
+    this.values[this.overrideCount] = null;
+    return true;
+  }
+
+  @Override
+  public E get(int index) {
+    this.checkIndex(index);
+    int position = this.findOverride(index);
+    if (position >= 0) {
+      return this.overrideValue(position);
+    }
+    return this.base.get(index);
+  }
+
+  @Override
+  public E set(int index, @Nullable E element) {
+    this.checkIndex(index);
+    int position = this.findOverride(index);
+    if (position >= 0) {
+      E previous = this.overrideValue(position);
+      this.values[position] = element;
+      return previous;
+    }
+    E previous = this.base.get(index);
+    this.insertOverride(-(position + 1), index, element);
+    return previous;
+  }
+
+  private void insertOverride(int position, int index, E element) {
+    if (this.overrideCount == this.keys.length) {
+      int newCapacity = Math.max(4, this.overrideCount + (this.overrideCount >> 1));
+      this.keys = Arrays.copyOf(this.keys, newCapacity);
+      this.values = Arrays.copyOf(this.values, newCapacity);
+    }
+    int moved = this.overrideCount - position;
+    System.arraycopy(this.keys, position, this.keys, position + 1, moved);
+    System.arraycopy(this.values, position, this.values, position + 1, moved);
+    this.keys[position] = index;
+    this.values[position] = element;
+    this.overrideCount += 1;
+  }
+
+  /**
+   * Passes the elements in a range to a predicate as long as it returns
+   * {@code true}, merging the base list and the overrides.
+   */
+  boolean forEachMergedWhile(int fromIndex, int toIndex, Predicate<? super E> predicate) {
+    MergeCursor cursor = new MergeCursor(fromIndex);
+    for (int i = fromIndex; i < toIndex; ++i) {
+      if (!predicate.test(cursor.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void forEachMerged(int fromIndex, int toIndex, Consumer<? super E> action) {
+    MergeCursor cursor = new MergeCursor(fromIndex);
+    for (int i = fromIndex; i < toIndex; ++i) {
+      action.accept(cursor.next());
+    }
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    this.forEachMerged(0, this.base.size(), action);
+  }
+
+  @Override
+  public void forEachInRange(int fromIndex, int toIndex, Consumer<? super E> action) {
+    Traversals.checkRange(fromIndex, toIndex, this.base.size());
+    this.forEachMerged(fromIndex, toIndex, action);
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super E> predicate) {
+    return this.forEachMergedWhile(0, this.base.size(), predicate);
+  }
+
+  @Override
+  public int size() {
+    return this.base.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.base.isEmpty();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return this.indexOf(o) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    int size = this.base.size();
+    MergeCursor cursor = new MergeCursor(0);
+    for (int i = 0; i < size; ++i) {
+      if (Objects.equals(o, cursor.next())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    int size = this.base.size();
+    MergeCursor cursor = new MergeCursor(size);
+    for (int i = size - 1; i >= 0; --i) {
+      if (Objects.equals(o, cursor.previous())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    if (other.size() != this.base.size()) {
+      return false;
+    }
+    int size = this.base.size();
+    Iterator<?> otherIterator = other.iterator();
+    MergeCursor cursor = new MergeCursor(0);
+    for (int i = 0; i < size; ++i) {
+      if (!Objects.equals(cursor.next(), otherIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    int size = this.base.size();
+    MergeCursor cursor = new MergeCursor(0);
+    for (int i = 0; i < size; ++i) {
+      hashCode = 31 * hashCode + Objects.hashCode(cursor.next());
+    }
+    return hashCode;
+  }
+
+  @Override
+  public Object[] toArray() {
+    int size = this.base.size();
+    Object[] result = new Object[size];
+    MergeCursor cursor = new MergeCursor(0);
+    for (int i = 0; i < size; ++i) {
+      result[i] = cursor.next();
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked") // because arrays don't play well with generics
+  @Override
+  public <T> T[] toArray(T[] a) {
+    int size = this.base.size();
+    T[] result;
+    if (a.length < size) {
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+    } else {
+      result = a;
+    }
+    MergeCursor cursor = new MergeCursor(0);
+    for (int i = 0; i < size; ++i) {
+      result[i] = (T) cursor.next();
+    }
+    if (result.length > size) {
+      result[size] = null;
+    }
+    return result;
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    int size = this.base.size();
+    if (fromIndex < 0 || toIndex > size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    return new SubListView<>(this, fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new OverlayIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new OverlayIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || index > this.base.size()) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+    return new OverlayIterator(index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new OverlaySpliterator<>(this, 0, this.base.size());
+  }
+
+  @Override
+  public void sort(Comparator<? super E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Merges the base list and the overrides in both directions.
+   *
+   * <p>Keeps the position in {@link #keys} of the next override instead of
+   * searching for every index. The position is validated on every step so
+   * that overrides added or reverted in between are seen.</p>
+   */
+  final class MergeCursor {
+
+    private int index;
+
+    // position in keys of the first override at or after index, -1 if unknown
+    private int position;
+
+    // null if the base list is random access
+    private final ListIterator<E> baseIterator;
+
+    MergeCursor(int index) {
+      this.index = index;
+      this.position = -1;
+      this.baseIterator = base instanceof RandomAccess ? null : base.listIterator(index);
+    }
+
+    int nextIndex() {
+      return this.index;
+    }
+
+    E next() {
+      int current = this.index;
+      int nextPosition = overridePosition(current, this.position);
+      E baseElement = this.baseIterator != null ? this.baseIterator.next() : null;
+      this.index = current + 1;
+      if (isOverrideAt(nextPosition, current)) {
+        this.position = nextPosition + 1;
+        return overrideValue(nextPosition);
+      }
+      this.position = nextPosition;
+      return this.baseIterator != null ? baseElement : base.get(current);
+    }
+
+    E previous() {
+      int current = this.index - 1;
+      int hint = this.position;
+      if (hint > 0 && hint <= overrideCount && keys[hint - 1] >= current) {
+        hint -= 1;
+      }
+      int previousPosition = overridePosition(current, hint);
+      E baseElement = this.baseIterator != null ? this.baseIterator.previous() : null;
+      this.index = current;
+      this.position = previousPosition;
+      if (isOverrideAt(previousPosition, current)) {
+        return overrideValue(previousPosition);
+      }
+      return this.baseIterator != null ? baseElement : base.get(current);
+    }
+
+  }
+
+  final class OverlayIterator implements ListIterator<E> {
+
+    private final MergeCursor cursor;
+
+    private int lastReturned;
+
+    OverlayIterator(int index) {
+      this.cursor = new MergeCursor(index);
+      this.lastReturned = -1;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.cursor.nextIndex() < base.size();
+    }
+
+    @Override
+    public E next() {
+      int index = this.cursor.nextIndex();
+      if (index >= base.size()) {
+        throw new NoSuchElementException();
+      }
+      E element = this.cursor.next();
+      this.lastReturned = index;
+      return element;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      int size = base.size();
+      while (this.cursor.nextIndex() < size) {
+        this.lastReturned = this.cursor.nextIndex();
+        action.accept(this.cursor.next());
+      }
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.cursor.nextIndex() > 0;
+    }
+
+    @Override
+    public E previous() {
+      if (this.cursor.nextIndex() <= 0) {
+        throw new NoSuchElementException();
+      }
+      E element = this.cursor.previous();
+      this.lastReturned = this.cursor.nextIndex();
+      return element;
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.cursor.nextIndex();
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.cursor.nextIndex() - 1;
+    }
+
+    @Override
+    public void set(E e) {
+      if (this.lastReturned == -1) {
+        throw new IllegalStateException();
+      }
+      OverlayList.this.set(this.lastReturned, e);
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+  static final class OverlaySpliterator<E> implements Spliterator<E> {
+
+    private final OverlayList<E> list;
+    private int index;
+    private final int fence;
+    // created on first tryAdvance, after splitting is done
+    private OverlayList<E>.MergeCursor cursor;
+
+    OverlaySpliterator(OverlayList<E> list, int index, int fence) {
+      this.list = list;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      if (this.index < this.fence) {
+        int start = this.index;
+        this.index = this.fence;
+        this.list.forEachMerged(start, this.fence, action);
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      if (this.index < this.fence) {
+        if (this.cursor == null || this.cursor.nextIndex() != this.index) {
+          this.cursor = this.list.new MergeCursor(this.index);
+        }
+        E element = this.cursor.next();
+        this.index += 1;
+        action.accept(element);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      int left = this.fence - this.index;
+      if (left <= 1) {
+        return null;
+      }
+      int start = this.index;
+      this.index += left / 2;
+      return new OverlaySpliterator<>(this.list, start, this.index);
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.fence - this.index;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+      return this.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.SIZED
+              | Spliterator.SUBSIZED
+              | Spliterator.ORDERED;
+    }
+
+  }
+
+}
@@ -0,0 +1,95 @@
+package com.github.marschall.lists;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A list with exactly two elements.
+ *
+ * <p>The elements are stored in instance variables instead of an array
+ * which saves the array header and an indirection compared to
+ * {@link java.util.Arrays#asList(Object...)}.</p>
+ *
+ * <p>Unlike {@link java.util.Arrays#asList(Object...)} this list is a copy
+ * of the elements, the size can not be changed but the elements can be
+ * replaced.</p>
+ *
+ * @param <E> the element type
+ */
+@NotThreadSafe
+public final class PairList<E> extends AbstractFieldList<E> {
+
+  @CheckForNull
+  private E first;
+
+  @CheckForNull
+  private E second;
+
+  /**
+   * Constructs a mutable list with the specified elements.
+   *
+   * @param first the first element in the list, can be changed later, can be {@code null}
+   * @param second the second element in the list, can be changed later, can be {@code null}
+   */
+  public PairList(@Nullable E first, @Nullable E second) {
+    this.first = first;
+    this.second = second;
+  }
+
+  @Override
+  public E get(int index) {
+    switch (index) {
+      case 0:
+        return this.first;
+      case 1:
+        return this.second;
+      default:
+        throw invalidIndex(index, 2);
+    }
+  }
+
+  @Override
+  public E set(int index, E element) {
+    E old;
+    switch (index) {
+      case 0:
+        old = this.first;
+        this.first = element;
+        return old;
+      case 1:
+        old = this.second;
+        this.second = element;
+        return old;
+      default:
+        throw invalidIndex(index, 2);
+    }
+  }
+
+  @Override
+  public int size() {
+    return 2;
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    action.accept(this.first);
+    action.accept(this.second);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 31 + Objects.hashCode(this.first);
+    hashCode = 31 * hashCode + Objects.hashCode(this.second);
+    return hashCode;
+  }
+
+  @Override
+  public Object[] toArray() {
+    return new Object[]{this.first, this.second};
+  }
+
+}
@@ -0,0 +1,128 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A read only view on a list as consecutive batches of the same size.
+ *
+ * <p>This list is intended to be used to cut a large list into batches
+ * for example for JDBC batch inserts. Every batch is a
+ * {@link List#subList(int, int)} of the underlying list so no elements are
+ * copied and the specialized sub lists of the underlying list are used, eg.
+ * the batches of a {@link MappedList} are mapped lazily and the batches of a
+ * {@link RepeatingList} are {@link RepeatingList}s.</p>
+ *
+ * <p>All batches have the requested size except the last one which
+ * may be smaller.</p>
+ *
+ * <p>This list does not support modification.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;Row&gt; rows = &hellip;;
+ * for (List&lt;Row&gt; batch : new PartitionedList&lt;&gt;(rows, 1000)) {
+ *   insert(batch);
+ * }
+ * </code></pre>
+ *
+ * @param <E> the element type of the underlying list
+ */
+@NotThreadSafe
+public final class PartitionedList<E> extends AbstractList<List<E>> implements TraversableList<List<E>>, Serializable, RandomAccess {
+  // RandomAccess because likely the underlying list implements it as well (eg. ArrayList)
+
+  @Nonnull
+  private final List<E> delegate;
+
+  private final int batchSize;
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the list to partition
+   * @param batchSize the size of each batch, must be positive
+   */
+  public PartitionedList(@Nonnull List<E> delegate, int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batch size must be positive but was: " + batchSize);
+    }
+    this.delegate = delegate;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public List<E> get(int index) {
+    int delegateSize = this.delegate.size();
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    int fromIndex = index * this.batchSize;
+    if (index >= batchCount(delegateSize, this.batchSize)) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+    // fromIndex + batchSize may overflow
+    return this.delegate.subList(fromIndex, fromIndex + Math.min(this.batchSize, delegateSize - fromIndex));
+  }
+
+  private static int batchCount(int delegateSize, int batchSize) {
+    return (int) (((long) delegateSize + batchSize - 1) / batchSize);
+  }
+
+  @Override
+  public int size() {
+    return batchCount(this.delegate.size(), this.batchSize);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.delegate.isEmpty();
+  }
+
+  @Override
+  public void forEach(Consumer<? super List<E>> action) {
+    int delegateSize = this.delegate.size();
+    for (int fromIndex = 0; fromIndex < delegateSize; fromIndex += this.batchSize) {
+      action.accept(this.delegate.subList(fromIndex, Math.min(fromIndex + this.batchSize, delegateSize)));
+      if (fromIndex > delegateSize - this.batchSize) {
+        // avoid overflow
+        break;
+      }
+    }
+  }
+
+  @Override
+  public List<List<E>> subList(int fromIndex, int toIndex) {
+    int size = this.size();
+    if (fromIndex < 0 || toIndex > size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    int delegateSize = this.delegate.size();
+    // the last batch may be partial, clamp both ends
+    int delegateFrom = (int) Math.min((long) fromIndex * this.batchSize, delegateSize);
+    int delegateTo = (int) Math.min((long) toIndex * this.batchSize, delegateSize);
+    return new PartitionedList<>(this.delegate.subList(delegateFrom, delegateTo), this.batchSize);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator hands out whole batches and splits exactly
+   * in the middle of the remaining batches.</p>
+   */
+  @Override
+  public Spliterator<List<E>> spliterator() {
+    return new IndexedSpliterator<>(this, 0, this.size(), Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+
+}
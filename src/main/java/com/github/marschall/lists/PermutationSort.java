@@ -0,0 +1,129 @@
+package com.github.marschall.lists;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Stable sort of an {@code int[]} of indices with a comparator on the indices.
+ *
+ * <p>The JDK can only sort {@code int[]} by natural order and objects with a
+ * comparator, sorting boxed indices would allocate one object per element.</p>
+ */
+final class PermutationSort {
+
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+
+  /**
+   * Below this size parts are sorted sequentially,
+   * the same value {@link java.util.Arrays#parallelSort(int[])} uses.
+   */
+  private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+  private PermutationSort() {
+    throw new AssertionError("not instantiable");
+  }
+
+  static int[] identity(int size) {
+    int[] permutation = new int[size];
+    for (int i = 0; i < size; ++i) {
+      permutation[i] = i;
+    }
+    return permutation;
+  }
+
+  /**
+   * Sorts indices stable.
+   *
+   * @param permutation the indices to sort
+   * @param comparator compares two indices
+   * @param parallel whether to sort in parallel in the common pool
+   */
+  static void sort(int[] permutation, IntBinaryOperator comparator, boolean parallel) {
+    int[] buffer = permutation.clone();
+    if (parallel && permutation.length > PARALLEL_THRESHOLD) {
+      new MergeSortTask(buffer, permutation, 0, permutation.length, comparator).invoke();
+    } else {
+      mergeSort(buffer, permutation, 0, permutation.length, comparator);
+    }
+  }
+
+  /**
+   * Sorts the range of {@code source} into {@code destination}, both
+   * have to contain the same values in the range, their roles
+   * alternate at every level.
+   */
+  static void mergeSort(int[] source, int[] destination, int low, int high, IntBinaryOperator comparator) {
+    int length = high - low;
+    if (length < INSERTION_SORT_THRESHOLD) {
+      insertionSort(destination, low, high, comparator);
+      return;
+    }
+    int middle = (low + high) >>> 1;
+    mergeSort(destination, source, low, middle, comparator);
+    mergeSort(destination, source, middle, high, comparator);
+    merge(source, destination, low, middle, high, comparator);
+  }
+
+  private static void insertionSort(int[] array, int low, int high, IntBinaryOperator comparator) {
+    for (int i = low + 1; i < high; ++i) {
+      int current = array[i];
+      int j = i;
+      while (j > low && comparator.applyAsInt(array[j - 1], current) > 0) {
+        array[j] = array[j - 1];
+        j -= 1;
+      }
+      array[j] = current;
+    }
+  }
+
+  static void merge(int[] source, int[] destination, int low, int middle, int high, IntBinaryOperator comparator) {
+    if (comparator.applyAsInt(source[middle - 1], source[middle]) <= 0) {
+      // already in order
+      System.arraycopy(source, low, destination, low, high - low);
+      return;
+    }
+    int left = low;
+    int right = middle;
+    for (int i = low; i < high; ++i) {
+      // take from the left on ties for stability
+      if (right >= high || (left < middle && comparator.applyAsInt(source[left], source[right]) <= 0)) {
+        destination[i] = source[left];
+        left += 1;
+      } else {
+        destination[i] = source[right];
+        right += 1;
+      }
+    }
+  }
+
+  static final class MergeSortTask extends RecursiveAction {
+
+    private final int[] source;
+    private final int[] destination;
+    private final int low;
+    private final int high;
+    private final IntBinaryOperator comparator;
+
+    MergeSortTask(int[] source, int[] destination, int low, int high, IntBinaryOperator comparator) {
+      this.source = source;
+      this.destination = destination;
+      this.low = low;
+      this.high = high;
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.high - this.low <= PARALLEL_THRESHOLD) {
+        mergeSort(this.source, this.destination, this.low, this.high, this.comparator);
+        return;
+      }
+      int middle = (this.low + this.high) >>> 1;
+      invokeAll(new MergeSortTask(this.destination, this.source, this.low, middle, this.comparator),
+              new MergeSortTask(this.destination, this.source, middle, this.high, this.comparator));
+      merge(this.source, this.destination, this.low, middle, this.high, this.comparator);
+    }
+
+  }
+
+}
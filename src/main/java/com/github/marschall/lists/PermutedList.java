@@ -0,0 +1,479 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A read only view on a list in a different order.
+ *
+ * <p>The order is stored as an {@code int[]} of indices into the underlying
+ * list, the elements themselves are not copied. The factory methods like
+ * {@link #sortedBy(List, Function, Comparator, boolean)} create a view
+ * sorted by a key. The key of every element is computed only once before
+ * sorting instead of on every comparison, keys extracted with
+ * {@link #sortedByInt(List, ToIntFunction, boolean)} and the other
+ * primitive variants are not boxed. The sort is stable.</p>
+ *
+ * <p>This list does not support modification. The underlying list must not
+ * be structurally modified.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;Employee&gt; employees = &hellip;;
+ * List&lt;Employee&gt; bySalary = PermutedList.sortedByLong(employees, Employee::getSalary, false);
+ * </code></pre>
+ *
+ * @param <E> the element type
+ */
+@NotThreadSafe
+public final class PermutedList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+  // RandomAccess because likely the underlying list implements it as well (eg. ArrayList)
+
+  @Nonnull
+  private final List<E> delegate;
+
+  /**
+   * The element at index {@code i} of this list is at index
+   * {@code permutation[offset + i]} of {@link #delegate}.
+   */
+  @Nonnull
+  private final int[] permutation;
+
+  private final int offset;
+
+  private final int size;
+
+  private PermutedList(List<E> delegate, int[] permutation, int offset, int size) {
+    this.delegate = delegate;
+    this.permutation = permutation;
+    this.offset = offset;
+    this.size = size;
+  }
+
+  /**
+   * Creates a view on a list sorted by a key.
+   *
+   * @param list the list to sort
+   * @param keyFunction computes the sort key of an element, invoked once per element
+   * @param comparator the order of the keys, {@code null} for natural order
+   * @param parallel whether to sort in parallel in the common pool
+   * @param <E> the element type
+   * @param <K> the key type
+   * @return a sorted view of {@code list}
+   */
+  public static <E, K> PermutedList<E> sortedBy(@Nonnull List<E> list,
+          @Nonnull Function<? super E, ? extends K> keyFunction, @Nullable Comparator<? super K> comparator,
+          boolean parallel) {
+    Object[] keys = new Object[list.size()];
+    int i = 0;
+    for (E each : list) {
+      keys[i++] = keyFunction.apply(each);
+    }
+    @SuppressWarnings("unchecked") // we only put Ks into keys
+    Comparator<Object> keyComparator = (Comparator<Object>) (comparator != null ? comparator : Comparator.naturalOrder());
+    int[] permutation = PermutationSort.identity(keys.length);
+    PermutationSort.sort(permutation, (a, b) -> keyComparator.compare(keys[a], keys[b]), parallel);
+    return new PermutedList<>(list, permutation, 0, permutation.length);
+  }
+
+  /**
+   * Creates a view on a list sorted by an {@code int} key.
+   *
+   * <p>The keys and indices are packed into a single {@code long[]} which
+   * is sorted with {@link Arrays#sort(long[])} or
+   * {@link Arrays#parallelSort(long[])}.</p>
+   *
+   * @param list the list to sort
+   * @param keyFunction computes the sort key of an element, invoked once per element
+   * @param parallel whether to sort in parallel in the common pool
+   * @param <E> the element type
+   * @return a sorted view of {@code list}
+   */
+  public static <E> PermutedList<E> sortedByInt(@Nonnull List<E> list, @Nonnull ToIntFunction<? super E> keyFunction, boolean parallel) {
+    long[] packed = new long[list.size()];
+    int i = 0;
+    for (E each : list) {
+      // key in the high bits, index in the low bits breaks ties so the sort is stable
+      packed[i] = ((long) keyFunction.applyAsInt(each) << 32) | i;
+      i += 1;
+    }
+    if (parallel) {
+      Arrays.parallelSort(packed);
+    } else {
+      Arrays.sort(packed);
+    }
+    int[] permutation = new int[packed.length];
+    for (int j = 0; j < packed.length; ++j) {
+      permutation[j] = (int) packed[j];
+    }
+    return new PermutedList<>(list, permutation, 0, permutation.length);
+  }
+
+  /**
+   * Creates a view on a list sorted by a {@code long} key.
+   *
+   * @param list the list to sort
+   * @param keyFunction computes the sort key of an element, invoked once per element
+   * @param parallel whether to sort in parallel in the common pool
+   * @param <E> the element type
+   * @return a sorted view of {@code list}
+   */
+  public static <E> PermutedList<E> sortedByLong(@Nonnull List<E> list, @Nonnull ToLongFunction<? super E> keyFunction, boolean parallel) {
+    long[] keys = new long[list.size()];
+    int i = 0;
+    for (E each : list) {
+      keys[i++] = keyFunction.applyAsLong(each);
+    }
+    int[] permutation = PermutationSort.identity(keys.length);
+    PermutationSort.sort(permutation, (a, b) -> Long.compare(keys[a], keys[b]), parallel);
+    return new PermutedList<>(list, permutation, 0, permutation.length);
+  }
+
+  /**
+   * Creates a view on a list sorted by a {@code double} key.
+   *
+   * <p>Keys are ordered by {@link Double#compare(double, double)}.</p>
+   *
+   * @param list the list to sort
+   * @param keyFunction computes the sort key of an element, invoked once per element
+   * @param parallel whether to sort in parallel in the common pool
+   * @param <E> the element type
+   * @return a sorted view of {@code list}
+   */
+  public static <E> PermutedList<E> sortedByDouble(@Nonnull List<E> list, @Nonnull ToDoubleFunction<? super E> keyFunction, boolean parallel) {
+    double[] keys = new double[list.size()];
+    int i = 0;
+    for (E each : list) {
+      keys[i++] = keyFunction.applyAsDouble(each);
+    }
+    int[] permutation = PermutationSort.identity(keys.length);
+    PermutationSort.sort(permutation, (a, b) -> Double.compare(keys[a], keys[b]), parallel);
+    return new PermutedList<>(list, permutation, 0, permutation.length);
+  }
+
+  /**
+   * Returns the index in the underlying list of an element of this list.
+   *
+   * @param index the index in this list
+   * @return the index in the underlying list
+   */
+  public int delegateIndex(int index) {
+    this.checkIndex(index);
+    return this.permutation[this.offset + index];
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.size) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+  }
+
+  private boolean isComplete() {
+    return this.size == this.delegate.size();
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  @Override
+  public E get(int index) {
+    this.checkIndex(index);
+    return this.delegate.get(this.permutation[this.offset + index]);
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    int fence = this.offset + this.size;
+    for (int i = this.offset; i < fence; ++i) {
+      action.accept(this.delegate.get(this.permutation[i]));
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (this.isComplete()) {
+      // same elements, possibly faster
+      return this.delegate.contains(o);
+    }
+    return this.indexOf(o) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    for (int i = 0; i < this.size; ++i) {
+      if (Objects.equals(o, this.delegate.get(this.permutation[this.offset + i]))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    for (int i = this.size - 1; i >= 0; --i) {
+      if (Objects.equals(o, this.delegate.get(this.permutation[this.offset + i]))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    int fence = this.offset + this.size;
+    for (int i = this.offset; i < fence; ++i) {
+      hashCode = 31 * hashCode + Objects.hashCode(this.delegate.get(this.permutation[i]));
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    if (other.size() != this.size) {
+      return false;
+    }
+    Iterator<?> otherIterator = other.iterator();
+    int fence = this.offset + this.size;
+    for (int i = this.offset; i < fence; ++i) {
+      if (!Objects.equals(this.delegate.get(this.permutation[i]), otherIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] result = new Object[this.size];
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = this.delegate.get(this.permutation[this.offset + i]);
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked") // because arrays don't play well with generics
+  @Override
+  public <T> T[] toArray(T[] a) {
+    T[] result;
+    if (a.length < this.size) {
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), this.size);
+    } else {
+      result = a;
+    }
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = (T) this.delegate.get(this.permutation[this.offset + i]);
+    }
+    if (result.length > this.size) {
+      result[this.size] = null;
+    }
+    return result;
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > this.size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex == toIndex) {
+      return Collections.emptyList();
+    }
+    if (fromIndex == 0 && toIndex == this.size) {
+      return this;
+    }
+    return new PermutedList<>(this.delegate, this.permutation, this.offset + fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new PermutedIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new PermutedIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || index > this.size) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+    return new PermutedIterator(index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new IndexedSpliterator<>(this, 0, this.size, Spliterator.ORDERED);
+  }
+
+  @Override
+  public void sort(Comparator<? super E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E set(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  final class PermutedIterator implements ListIterator<E> {
+
+    private int index;
+
+    PermutedIterator(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < size;
+    }
+
+    @Override
+    public E next() {
+      if (this.index >= size) {
+        throw new NoSuchElementException();
+      }
+      E next = delegate.get(permutation[offset + this.index]);
+      this.index += 1;
+      return next;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (this.index < size) {
+        action.accept(delegate.get(permutation[offset + this.index]));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.index > 0;
+    }
+
+    @Override
+    public E previous() {
+      if (this.index == 0) {
+        throw new NoSuchElementException();
+      }
+      this.index -= 1;
+      return delegate.get(permutation[offset + this.index]);
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.index;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.index - 1;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+}
@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.RandomAccess;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
@@ -26,7 +28,7 @@ import javax.annotation.concurrent.NotThreadSafe;
  * @param <E> the element type
  */
 @NotThreadSafe
-public final class PrefixedList<E> extends AbstractList<E>implements List<E>, Serializable, RandomAccess {
+public final class PrefixedList<E> extends AbstractList<E>implements TraversableList<E>, Serializable, RandomAccess {
   // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
   // RandomAccess because likely the cdr list implements it as well (eg. ArrayList)
 
@@ -63,12 +65,122 @@ public final class PrefixedList<E> extends AbstractList<E>implements List<E>, Se
     return this.cdr.set(index - 1, element);
   }
 
+  /**
+   * Returns the head of this list.
+   *
+   * @return the head
+   */
+  public E getFirst() {
+    return this.car;
+  }
+
+  /**
+   * Returns the last element of this list.
+   *
+   * @return the last element of the tail or the head if the tail is empty
+   */
+  public E getLast() {
+    int cdrSize = this.cdr.size();
+    if (cdrSize == 0) {
+      return this.car;
+    }
+    return this.cdr.get(cdrSize - 1);
+  }
+
+  /**
+   * Returns a view of this list in reverse order.
+   *
+   * <p>The size of the view is fixed to the current size of this list.</p>
+   *
+   * @return a reversed view of this list
+   */
+  public List<E> reversed() {
+    return RemappedList.reverse(this);
+  }
+
   @Override
   public void forEach(Consumer<? super E> action) {
     action.accept(this.car);
     this.cdr.forEach(action);
   }
 
+  @Override
+  public void forEachIndexed(ObjIntConsumer<? super E> action) {
+    // walk chained prefixed lists in a loop instead of recursing through get
+    action.accept(this.car, 0);
+    int index = 1;
+    List<E> tail = this.cdr;
+    while (tail instanceof PrefixedList) {
+      PrefixedList<E> prefixed = (PrefixedList<E>) tail;
+      action.accept(prefixed.car, index);
+      index += 1;
+      tail = prefixed.cdr;
+    }
+    Traversals.forEachIndexed(tail, index, action);
+  }
+
+  @Override
+  public void forEachInRange(int fromIndex, int toIndex, Consumer<? super E> action) {
+    Traversals.checkRange(fromIndex, toIndex, this.size());
+    int index = 0;
+    List<E> tail = this;
+    while (tail instanceof PrefixedList && index < toIndex) {
+      PrefixedList<E> prefixed = (PrefixedList<E>) tail;
+      if (index >= fromIndex) {
+        action.accept(prefixed.car);
+      }
+      index += 1;
+      tail = prefixed.cdr;
+    }
+    if (index < toIndex) {
+      int tailFrom = Math.max(fromIndex - index, 0);
+      int tailTo = toIndex - index;
+      if (tail instanceof TraversableList) {
+        ((TraversableList<E>) tail).forEachInRange(tailFrom, tailTo, action);
+      } else {
+        Traversals.forEachInRange(tail, tailFrom, tailTo, action);
+      }
+    }
+  }
+
+  @Override
+  public void copyInto(Object[] destination, int destinationPosition, int fromIndex, int toIndex) {
+    Traversals.checkCopy(destination, destinationPosition, fromIndex, toIndex, this.size());
+    if (fromIndex == toIndex) {
+      return;
+    }
+    int position = destinationPosition;
+    if (fromIndex == 0) {
+      destination[position] = this.car;
+      position += 1;
+    }
+    int tailFrom = Math.max(fromIndex - 1, 0);
+    int tailTo = toIndex - 1;
+    if (tailFrom < tailTo) {
+      if (this.cdr instanceof TraversableList) {
+        ((TraversableList<E>) this.cdr).copyInto(destination, position, tailFrom, tailTo);
+      } else {
+        Traversals.copyInto(this.cdr, destination, position, tailFrom, tailTo);
+      }
+    }
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super E> predicate) {
+    List<E> tail = this;
+    while (tail instanceof PrefixedList) {
+      PrefixedList<E> prefixed = (PrefixedList<E>) tail;
+      if (!predicate.test(prefixed.car)) {
+        return false;
+      }
+      tail = prefixed.cdr;
+    }
+    if (tail instanceof TraversableList) {
+      return ((TraversableList<E>) tail).forEachWhile(predicate);
+    }
+    return Traversals.forEachWhile(tail, predicate);
+  }
+
   @Override
   public boolean isEmpty() {
     return false;
@@ -0,0 +1,121 @@
+package com.github.marschall.lists;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A list with exactly four elements.
+ *
+ * <p>The elements are stored in instance variables instead of an array
+ * which saves the array header and an indirection compared to
+ * {@link java.util.Arrays#asList(Object...)}.</p>
+ *
+ * <p>Unlike {@link java.util.Arrays#asList(Object...)} this list is a copy
+ * of the elements, the size can not be changed but the elements can be
+ * replaced.</p>
+ *
+ * @param <E> the element type
+ */
+@NotThreadSafe
+public final class QuadrupleList<E> extends AbstractFieldList<E> {
+
+  @CheckForNull
+  private E first;
+
+  @CheckForNull
+  private E second;
+
+  @CheckForNull
+  private E third;
+
+  @CheckForNull
+  private E fourth;
+
+  /**
+   * Constructs a mutable list with the specified elements.
+   *
+   * @param first the first element in the list, can be changed later, can be {@code null}
+   * @param second the second element in the list, can be changed later, can be {@code null}
+   * @param third the third element in the list, can be changed later, can be {@code null}
+   * @param fourth the fourth element in the list, can be changed later, can be {@code null}
+   */
+  public QuadrupleList(@Nullable E first, @Nullable E second, @Nullable E third, @Nullable E fourth) {
+    this.first = first;
+    this.second = second;
+    this.third = third;
+    this.fourth = fourth;
+  }
+
+  @Override
+  public E get(int index) {
+    switch (index) {
+      case 0:
+        return this.first;
+      case 1:
+        return this.second;
+      case 2:
+        return this.third;
+      case 3:
+        return this.fourth;
+      default:
+        throw invalidIndex(index, 4);
+    }
+  }
+
+  @Override
+  public E set(int index, E element) {
+    E old;
+    switch (index) {
+      case 0:
+        old = this.first;
+        this.first = element;
+        return old;
+      case 1:
+        old = this.second;
+        this.second = element;
+        return old;
+      case 2:
+        old = this.third;
+        this.third = element;
+        return old;
+      case 3:
+        old = this.fourth;
+        this.fourth = element;
+        return old;
+      default:
+        throw invalidIndex(index, 4);
+    }
+  }
+
+  @Override
+  public int size() {
+    return 4;
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    action.accept(this.first);
+    action.accept(this.second);
+    action.accept(this.third);
+    action.accept(this.fourth);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 31 + Objects.hashCode(this.first);
+    hashCode = 31 * hashCode + Objects.hashCode(this.second);
+    hashCode = 31 * hashCode + Objects.hashCode(this.third);
+    hashCode = 31 * hashCode + Objects.hashCode(this.fourth);
+    return hashCode;
+  }
+
+  @Override
+  public Object[] toArray() {
+    return new Object[]{this.first, this.second, this.third, this.fourth};
+  }
+
+}
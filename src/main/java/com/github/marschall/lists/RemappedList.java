@@ -0,0 +1,464 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A read only view on a list with remapped indices.
+ *
+ * <p>The element at index {@code i} of this list is the element at index
+ * {@code indexMapping(i)} of the underlying list. This allows reversing or
+ * subsampling a list without copying. {@link #reverse(List)} and
+ * {@link #stride(List, int, int)} create the common forms, nesting
+ * these and {@link #subList(int, int)} does not add indirections.</p>
+ *
+ * <p>This list does not support modification.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;Double&gt; samples = &hellip;;
+ * List&lt;Double&gt; everyTenth = RemappedList.stride(samples, 0, 10);
+ * List&lt;Double&gt; newestFirst = RemappedList.reverse(samples);
+ * </code></pre>
+ *
+ * @param <E> the element type
+ */
+@NotThreadSafe
+public final class RemappedList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+  // RandomAccess because likely the underlying list implements it as well (eg. ArrayList)
+
+  // the index into the delegate is indexMapping(offset + stride * index)
+  // keeping the affine part separate allows subList and reverse without nesting
+
+  @Nonnull
+  private final List<E> delegate;
+
+  @CheckForNull
+  private final IntUnaryOperator indexMapping;
+
+  private final int offset;
+
+  private final int stride;
+
+  private final int size;
+
+  /**
+   * Constructor.
+   *
+   * @param indexMapping the function mapping an index of this list to an
+   *  index of {@code delegate}, will be invoked with indices from {@code 0}
+   *  to {@code size - 1}
+   * @param delegate the underlying list
+   * @param size the size of this list, must not be negative
+   */
+  public RemappedList(@Nonnull IntUnaryOperator indexMapping, @Nonnull List<E> delegate, int size) {
+    this(delegate, Objects.requireNonNull(indexMapping, "indexMapping"), 0, 1, size);
+  }
+
+  private RemappedList(List<E> delegate, @Nullable IntUnaryOperator indexMapping, int offset, int stride, int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative but was: " + size);
+    }
+    this.delegate = delegate;
+    this.indexMapping = indexMapping;
+    this.offset = offset;
+    this.stride = stride;
+    this.size = size;
+  }
+
+  /**
+   * Creates a view on a list in reverse order.
+   *
+   * <p>The size of the view is fixed to the current size of {@code list}.</p>
+   *
+   * @param list the list to reverse
+   * @param <E> the element type
+   * @return a reversed view of {@code list}
+   */
+  public static <E> RemappedList<E> reverse(@Nonnull List<E> list) {
+    int size = list.size();
+    return new RemappedList<>(list, null, size - 1, -1, size);
+  }
+
+  /**
+   * Creates a view on every {@code step}-th element of a list starting
+   * at {@code start}.
+   *
+   * <p>The size of the view is fixed to the current size of {@code list}.</p>
+   *
+   * @param list the list to subsample
+   * @param start the index of the first element
+   * @param step the distance between two elements, must be positive
+   * @param <E> the element type
+   * @return a strided view of {@code list}
+   */
+  public static <E> RemappedList<E> stride(@Nonnull List<E> list, int start, int step) {
+    if (step <= 0) {
+      throw new IllegalArgumentException("step must be positive but was: " + step);
+    }
+    int listSize = list.size();
+    if (start < 0 || start > listSize) {
+      throw new IndexOutOfBoundsException("invalid start: " + start);
+    }
+    int size = (int) (((long) listSize - start + step - 1) / step);
+    return new RemappedList<>(list, null, start, step, size);
+  }
+
+  private int delegateIndex(int index) {
+    int affine = this.offset + this.stride * index;
+    if (this.indexMapping == null) {
+      return affine;
+    }
+    return this.indexMapping.applyAsInt(affine);
+  }
+
+  private boolean isPermutation() {
+    return this.indexMapping == null
+            && (this.stride == 1 || this.stride == -1)
+            && this.size == this.delegate.size();
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  @Override
+  public E get(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.size) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+    return this.delegate.get(this.delegateIndex(index));
+  }
+
+  /**
+   * Returns the first element of this list.
+   *
+   * @return the first element
+   * @throws NoSuchElementException if this list is empty
+   */
+  public E getFirst() {
+    if (this.size == 0) {
+      throw new NoSuchElementException();
+    }
+    return this.delegate.get(this.delegateIndex(0));
+  }
+
+  /**
+   * Returns the last element of this list.
+   *
+   * @return the last element
+   * @throws NoSuchElementException if this list is empty
+   */
+  public E getLast() {
+    if (this.size == 0) {
+      throw new NoSuchElementException();
+    }
+    return this.delegate.get(this.delegateIndex(this.size - 1));
+  }
+
+  /**
+   * Returns a view of this list in reverse order.
+   *
+   * @return a reversed view, reversing it again returns the original list
+   *  if this list is a reversed view
+   */
+  public List<E> reversed() {
+    if (this.indexMapping == null && this.stride == -1 && this.offset == this.size - 1 && this.size == this.delegate.size()) {
+      return this.delegate;
+    }
+    if (this.size == 0) {
+      return this;
+    }
+    return new RemappedList<>(this.delegate, this.indexMapping, this.offset + this.stride * (this.size - 1), -this.stride, this.size);
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (int i = 0; i < this.size; ++i) {
+      action.accept(this.delegate.get(this.delegateIndex(i)));
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (this.isPermutation()) {
+      return this.delegate.contains(o);
+    }
+    return this.indexOf(o) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    if (this.isPermutation() && this.stride == -1) {
+      int delegateIndex = this.delegate.lastIndexOf(o);
+      return delegateIndex == -1 ? -1 : this.size - 1 - delegateIndex;
+    }
+    for (int i = 0; i < this.size; ++i) {
+      if (Objects.equals(o, this.delegate.get(this.delegateIndex(i)))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    if (this.isPermutation() && this.stride == -1) {
+      int delegateIndex = this.delegate.indexOf(o);
+      return delegateIndex == -1 ? -1 : this.size - 1 - delegateIndex;
+    }
+    for (int i = this.size - 1; i >= 0; --i) {
+      if (Objects.equals(o, this.delegate.get(this.delegateIndex(i)))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < this.size; ++i) {
+      hashCode = 31 * hashCode + Objects.hashCode(this.delegate.get(this.delegateIndex(i)));
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    if (other.size() != this.size) {
+      return false;
+    }
+    Iterator<?> otherIterator = other.iterator();
+    for (int i = 0; i < this.size; ++i) {
+      if (!Objects.equals(this.delegate.get(this.delegateIndex(i)), otherIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] result = new Object[this.size];
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = this.delegate.get(this.delegateIndex(i));
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked") // because arrays don't play well with generics
+  @Override
+  public <T> T[] toArray(T[] a) {
+    T[] result;
+    if (a.length < this.size) {
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), this.size);
+    } else {
+      result = a;
+    }
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = (T) this.delegate.get(this.delegateIndex(i));
+    }
+    if (result.length > this.size) {
+      result[this.size] = null;
+    }
+    return result;
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > this.size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex == toIndex) {
+      return Collections.emptyList();
+    }
+    if (fromIndex == 0 && toIndex == this.size) {
+      return this;
+    }
+    return new RemappedList<>(this.delegate, this.indexMapping, this.offset + this.stride * fromIndex, this.stride, toIndex - fromIndex);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new RemappedIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new RemappedIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || index > this.size) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+    return new RemappedIterator(index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new IndexedSpliterator<>(this, 0, this.size, Spliterator.ORDERED);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  final class RemappedIterator implements ListIterator<E> {
+
+    private int index;
+
+    RemappedIterator(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < size;
+    }
+
+    @Override
+    public E next() {
+      if (this.index >= size) {
+        throw new NoSuchElementException();
+      }
+      E next = delegate.get(delegateIndex(this.index));
+      this.index += 1;
+      return next;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (this.index < size) {
+        action.accept(delegate.get(delegateIndex(this.index)));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.index > 0;
+    }
+
+    @Override
+    public E previous() {
+      if (this.index == 0) {
+        throw new NoSuchElementException();
+      }
+      this.index -= 1;
+      return delegate.get(delegateIndex(this.index));
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.index;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.index - 1;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+}
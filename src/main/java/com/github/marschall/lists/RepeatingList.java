@@ -1,6 +1,8 @@
 package com.github.marschall.lists;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.util.AbstractCollection;
 import java.util.Arrays;
@@ -15,6 +17,9 @@ import java.util.Objects;
 import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
@@ -25,12 +30,19 @@ import javax.annotation.concurrent.Immutable;
  *
  * <p>This list does not support modification.</p>
  *
+ * <p>If Java Flight Recorder is available slow {@link #toString()} and
+ * {@link #toArray()} calls are recorded as
+ * {@code com.github.marschall.lists.ListPass} events.</p>
+ *
  * @param <E> the element type
  */
 @Immutable
-public final class RepeatingList<E> extends AbstractCollection<E> implements List<E>, Serializable, RandomAccess {
+public final class RepeatingList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
   // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
 
+  // some VMs reserve header words in arrays, same limit as ArrayList
+  private static final int MAX_STRING_LENGTH = Integer.MAX_VALUE - 8;
+
   @CheckForNull
   private final E element;
 
@@ -61,6 +73,33 @@ public final class RepeatingList<E> extends AbstractCollection<E> implements Lis
     return this.element;
   }
 
+  /**
+   * Returns the repeated element.
+   *
+   * @return the repeated element
+   */
+  public E getFirst() {
+    return this.element;
+  }
+
+  /**
+   * Returns the repeated element.
+   *
+   * @return the repeated element
+   */
+  public E getLast() {
+    return this.element;
+  }
+
+  /**
+   * Returns this list as all elements are identical.
+   *
+   * @return this list
+   */
+  public List<E> reversed() {
+    return this;
+  }
+
   @Override
   public void forEach(Consumer<? super E> action) {
     for (int i = 0; i < this.repetitons; i++) {
@@ -68,6 +107,37 @@ public final class RepeatingList<E> extends AbstractCollection<E> implements Lis
     }
   }
 
+  @Override
+  public void forEachIndexed(ObjIntConsumer<? super E> action) {
+    for (int i = 0; i < this.repetitons; ++i) {
+      action.accept(this.element, i);
+    }
+  }
+
+  @Override
+  public void forEachInRange(int fromIndex, int toIndex, Consumer<? super E> action) {
+    Traversals.checkRange(fromIndex, toIndex, this.repetitons);
+    for (int i = fromIndex; i < toIndex; ++i) {
+      action.accept(this.element);
+    }
+  }
+
+  @Override
+  public void copyInto(Object[] destination, int destinationPosition, int fromIndex, int toIndex) {
+    Traversals.checkCopy(destination, destinationPosition, fromIndex, toIndex, this.repetitons);
+    Arrays.fill(destination, destinationPosition, destinationPosition + toIndex - fromIndex, this.element);
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super E> predicate) {
+    for (int i = 0; i < this.repetitons; ++i) {
+      if (!predicate.test(this.element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public int size() {
     return this.repetitons;
@@ -159,10 +229,15 @@ public final class RepeatingList<E> extends AbstractCollection<E> implements Lis
 
   @Override
   public String toString() {
+    Object event = FlightRecorderSupport.beginPass();
     // this.value will never be the same as this
     String stringValue = String.valueOf(this.element);
-    int finalSize = 2 + this.repetitons * stringValue.length() + (this.repetitons - 1) * 2;
-    StringBuilder buffer = new StringBuilder(finalSize);
+    // long to avoid overflow for many repetitions or long elements
+    long finalSize = 2L + (long) this.repetitons * stringValue.length() + (this.repetitons - 1L) * 2L;
+    if (finalSize > MAX_STRING_LENGTH) {
+      throw new OutOfMemoryError("string representation of length: " + finalSize + " too large, use #writeTo(Writer)");
+    }
+    StringBuilder buffer = new StringBuilder((int) finalSize);
     buffer.append('[');
     for (int i = 0; i < repetitons; ++i) {
       if (i > 0) {
@@ -171,31 +246,85 @@ public final class RepeatingList<E> extends AbstractCollection<E> implements Lis
       buffer.append(stringValue);
     }
     buffer.append(']');
-    return buffer.toString();
+    String result = buffer.toString();
+    FlightRecorderSupport.commitPass(event, RepeatingList.class, "toString", this.repetitons);
+    return result;
+  }
+
+  @Override
+  public void writeTo(Appendable out) throws IOException {
+    // this.value will never be the same as this
+    String stringValue = String.valueOf(this.element);
+    out.append('[');
+    for (int i = 0; i < this.repetitons; ++i) {
+      if (i > 0) {
+        out.append(',').append(' ');
+      }
+      out.append(stringValue);
+    }
+    out.append(']');
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The element is converted to a string only once and written in
+   * chunks containing several repetitions.</p>
+   */
+  @Override
+  public void writeTo(Writer out) throws IOException {
+    // this.value will never be the same as this
+    String stringValue = String.valueOf(this.element);
+    String separated = ", " + stringValue;
+    out.write('[');
+    out.write(stringValue);
+    int remaining = this.repetitons - 1;
+    if (remaining > 0) {
+      int perChunk = Math.max(1, Math.min(remaining, Traversals.CHUNK_SIZE / separated.length()));
+      StringBuilder chunk = new StringBuilder(perChunk * separated.length());
+      for (int i = 0; i < perChunk; ++i) {
+        chunk.append(separated);
+      }
+      String chunkString = chunk.toString();
+      while (remaining >= perChunk) {
+        out.write(chunkString);
+        remaining -= perChunk;
+      }
+      if (remaining > 0) {
+        out.write(chunkString, 0, remaining * separated.length());
+      }
+    }
+    out.write(']');
   }
 
   @Override
   public Object[] toArray() {
+    Object event = FlightRecorderSupport.beginPass();
     Object[] result = new Object[this.repetitons];
     Arrays.fill(result, this.element);
+    FlightRecorderSupport.commitPass(event, RepeatingList.class, "toArray", this.repetitons);
     return result;
   }
 
   @Override
   public <T> T[] toArray(T[] a) {
+    Object event = FlightRecorderSupport.beginPass();
     int length = a.length;
+    T[] result;
     if (length < this.repetitons) {
       @SuppressWarnings("unchecked") // because arrays don't play well with generics
-      T[] result = (T[]) Array.newInstance(a.getClass().getComponentType(), this.repetitons);
+      T[] newArray = (T[]) Array.newInstance(a.getClass().getComponentType(), this.repetitons);
+      result = newArray;
       Arrays.fill(result, 0, this.repetitons, this.element);
-      return result;
     } else {
       Arrays.fill(a, 0, this.repetitons, this.element);
       if (length > this.repetitons) {
         a[this.repetitons] = null;
       }
-      return a;
+      result = a;
     }
+    FlightRecorderSupport.commitPass(event, RepeatingList.class, "toArray", this.repetitons);
+    return result;
   }
 
   @Override
@@ -224,6 +353,30 @@ public final class RepeatingList<E> extends AbstractCollection<E> implements Lis
     return new RepeatingSpliterator<>(this.element, this.repetitons);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned stream answers operations like {@code count()},
+   * {@code distinct()}, {@code limit(long)} or {@code anyMatch(Predicate)}
+   * in constant time.</p>
+   */
+  @Override
+  public Stream<E> stream() {
+    return new RepeatingStream<>(this.element, this.repetitons, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned stream answers operations like {@code count()},
+   * {@code distinct()}, {@code limit(long)} or {@code anyMatch(Predicate)}
+   * in constant time.</p>
+   */
+  @Override
+  public Stream<E> parallelStream() {
+    return new RepeatingStream<>(this.element, this.repetitons, true);
+  }
+
   @Override
   public E remove(int index) {
     throw new UnsupportedOperationException();
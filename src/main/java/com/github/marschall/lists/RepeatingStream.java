@@ -0,0 +1,368 @@
+package com.github.marschall.lists;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.marschall.lists.RepeatingList.RepeatingSpliterator;
+
+/**
+ * A stream of one element repeated several times.
+ *
+ * <p>Operations whose result only depends on the element and the number
+ * of repetitions are answered in constant time, eg. {@link #count()},
+ * {@link #distinct()}, {@link #limit(long)} or {@link #anyMatch(Predicate)}.
+ * All other operations fall back to a regular stream pipeline.</p>
+ *
+ * <p>Unlike JDK streams this stream does not detect being
+ * operated upon more than once. Since it holds no state other than
+ * the element and the number of repetitions this can not be observed.</p>
+ *
+ * @param <E> the element type
+ */
+final class RepeatingStream<E> implements Stream<E> {
+
+  /**
+   * The accumulator of {@link Collectors#toSet()}, a non-capturing method
+   * reference and therefore the same instance for every collector returned.
+   * Other collectors, even if they collect into a set, may have accumulators
+   * that are not idempotent and go through the regular pipeline.
+   */
+  private static final BiConsumer<?, ?> TO_SET_ACCUMULATOR = Collectors.toSet().accumulator();
+
+  private final E element;
+
+  private final int repetitons;
+
+  private final boolean parallel;
+
+  /**
+   * Shared with all streams derived from this one, like a JDK pipeline.
+   */
+  private final CloseState closeState;
+
+  RepeatingStream(E element, int repetitons, boolean parallel) {
+    this(element, repetitons, parallel, new CloseState());
+  }
+
+  private RepeatingStream(E element, int repetitons, boolean parallel, CloseState closeState) {
+    this.element = element;
+    this.repetitons = repetitons;
+    this.parallel = parallel;
+    this.closeState = closeState;
+  }
+
+  private RepeatingStream<E> withRepetitions(int newRepetitions) {
+    if (newRepetitions == this.repetitons) {
+      return this;
+    }
+    return new RepeatingStream<>(this.element, newRepetitions, this.parallel, this.closeState);
+  }
+
+  private Stream<E> pipeline() {
+    return StreamSupport.stream(this.spliterator(), this.parallel).onClose(this.closeState::close);
+  }
+
+  private Optional<E> first() {
+    if (this.repetitons == 0) {
+      return Optional.empty();
+    }
+    // NPE for null like the JDK
+    return Optional.of(this.element);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return Spliterators.iterator(this.spliterator());
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new RepeatingSpliterator<>(this.element, this.repetitons);
+  }
+
+  @Override
+  public boolean isParallel() {
+    return this.parallel;
+  }
+
+  @Override
+  public Stream<E> sequential() {
+    if (!this.parallel) {
+      return this;
+    }
+    return new RepeatingStream<>(this.element, this.repetitons, false, this.closeState);
+  }
+
+  @Override
+  public Stream<E> parallel() {
+    if (this.parallel) {
+      return this;
+    }
+    return new RepeatingStream<>(this.element, this.repetitons, true, this.closeState);
+  }
+
+  @Override
+  public Stream<E> unordered() {
+    // all elements are identical, order can not be observed
+    return this;
+  }
+
+  @Override
+  public Stream<E> onClose(Runnable handler) {
+    this.closeState.add(handler);
+    return this;
+  }
+
+  private static Runnable compose(Runnable first, Runnable second) {
+    return () -> {
+      try {
+        first.run();
+      } catch (RuntimeException | Error e1) {
+        try {
+          second.run();
+        } catch (RuntimeException | Error e2) {
+          e1.addSuppressed(e2);
+        }
+        throw e1;
+      }
+      second.run();
+    };
+  }
+
+  @Override
+  public void close() {
+    this.closeState.close();
+  }
+
+  @Override
+  public Stream<E> filter(Predicate<? super E> predicate) {
+    return this.pipeline().filter(predicate);
+  }
+
+  @Override
+  public <R> Stream<R> map(Function<? super E, ? extends R> mapper) {
+    return this.pipeline().map(mapper);
+  }
+
+  @Override
+  public IntStream mapToInt(ToIntFunction<? super E> mapper) {
+    return this.pipeline().mapToInt(mapper);
+  }
+
+  @Override
+  public LongStream mapToLong(ToLongFunction<? super E> mapper) {
+    return this.pipeline().mapToLong(mapper);
+  }
+
+  @Override
+  public DoubleStream mapToDouble(ToDoubleFunction<? super E> mapper) {
+    return this.pipeline().mapToDouble(mapper);
+  }
+
+  @Override
+  public <R> Stream<R> flatMap(Function<? super E, ? extends Stream<? extends R>> mapper) {
+    return this.pipeline().flatMap(mapper);
+  }
+
+  @Override
+  public IntStream flatMapToInt(Function<? super E, ? extends IntStream> mapper) {
+    return this.pipeline().flatMapToInt(mapper);
+  }
+
+  @Override
+  public LongStream flatMapToLong(Function<? super E, ? extends LongStream> mapper) {
+    return this.pipeline().flatMapToLong(mapper);
+  }
+
+  @Override
+  public DoubleStream flatMapToDouble(Function<? super E, ? extends DoubleStream> mapper) {
+    return this.pipeline().flatMapToDouble(mapper);
+  }
+
+  @Override
+  public Stream<E> distinct() {
+    return this.withRepetitions(Math.min(this.repetitons, 1));
+  }
+
+  @Override
+  public Stream<E> sorted() {
+    // all elements are identical, any well behaved comparator will produce the same result
+    return this;
+  }
+
+  @Override
+  public Stream<E> sorted(Comparator<? super E> comparator) {
+    return this;
+  }
+
+  @Override
+  public Stream<E> peek(Consumer<? super E> action) {
+    return this.pipeline().peek(action);
+  }
+
+  @Override
+  public Stream<E> limit(long maxSize) {
+    if (maxSize < 0L) {
+      throw new IllegalArgumentException("maxSize must not be negative but was: " + maxSize);
+    }
+    return this.withRepetitions((int) Math.min(this.repetitons, maxSize));
+  }
+
+  @Override
+  public Stream<E> skip(long n) {
+    if (n < 0L) {
+      throw new IllegalArgumentException("n must not be negative but was: " + n);
+    }
+    return this.withRepetitions((int) Math.max(0L, this.repetitons - n));
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    if (this.parallel) {
+      this.pipeline().forEach(action);
+    } else {
+      for (int i = 0; i < this.repetitons; i++) {
+        action.accept(this.element);
+      }
+    }
+  }
+
+  @Override
+  public void forEachOrdered(Consumer<? super E> action) {
+    for (int i = 0; i < this.repetitons; i++) {
+      action.accept(this.element);
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] result = new Object[this.repetitons];
+    Arrays.fill(result, this.element);
+    return result;
+  }
+
+  @Override
+  public <A> A[] toArray(IntFunction<A[]> generator) {
+    A[] result = generator.apply(this.repetitons);
+    Arrays.fill(result, this.element);
+    return result;
+  }
+
+  @Override
+  public E reduce(E identity, BinaryOperator<E> accumulator) {
+    return this.pipeline().reduce(identity, accumulator);
+  }
+
+  @Override
+  public Optional<E> reduce(BinaryOperator<E> accumulator) {
+    return this.pipeline().reduce(accumulator);
+  }
+
+  @Override
+  public <U> U reduce(U identity, BiFunction<U, ? super E, U> accumulator, BinaryOperator<U> combiner) {
+    return this.pipeline().reduce(identity, accumulator, combiner);
+  }
+
+  @Override
+  public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super E> accumulator, BiConsumer<R, R> combiner) {
+    return this.pipeline().collect(supplier, accumulator, combiner);
+  }
+
+  @Override
+  public <R, A> R collect(Collector<? super E, A, R> collector) {
+    if (this.repetitons > 1 && collector.accumulator() == TO_SET_ACCUMULATOR) {
+      // adding the same element again to the set of Collectors.toSet() has no effect
+      A container = collector.supplier().get();
+      collector.accumulator().accept(container, this.element);
+      return collector.finisher().apply(container);
+    }
+    return this.pipeline().collect(collector);
+  }
+
+  @Override
+  public Optional<E> min(Comparator<? super E> comparator) {
+    return this.first();
+  }
+
+  @Override
+  public Optional<E> max(Comparator<? super E> comparator) {
+    return this.first();
+  }
+
+  @Override
+  public long count() {
+    return this.repetitons;
+  }
+
+  @Override
+  public boolean anyMatch(Predicate<? super E> predicate) {
+    return this.repetitons > 0 && predicate.test(this.element);
+  }
+
+  @Override
+  public boolean allMatch(Predicate<? super E> predicate) {
+    return this.repetitons == 0 || predicate.test(this.element);
+  }
+
+  @Override
+  public boolean noneMatch(Predicate<? super E> predicate) {
+    return this.repetitons == 0 || !predicate.test(this.element);
+  }
+
+  @Override
+  public Optional<E> findFirst() {
+    return this.first();
+  }
+
+  @Override
+  public Optional<E> findAny() {
+    return this.first();
+  }
+
+
+  static final class CloseState {
+
+    private Runnable handler;
+
+    void add(Runnable additional) {
+      if (this.handler == null) {
+        this.handler = additional;
+      } else {
+        this.handler = compose(this.handler, additional);
+      }
+    }
+
+    void close() {
+      Runnable toRun = this.handler;
+      if (toRun != null) {
+        // run at most once, no matter how many derived streams are closed
+        this.handler = null;
+        toRun.run();
+      }
+    }
+
+  }
+
+}
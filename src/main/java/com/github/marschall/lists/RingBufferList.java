@@ -0,0 +1,513 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A list with a fixed capacity that overwrites the oldest element
+ * when an element is added to a full list.
+ *
+ * <p>This class is intended to be used to keep the last <em>n</em> events.
+ * Unlike an {@link java.util.ArrayList} with {@code remove(0)} adding does
+ * not copy and unlike {@link java.util.ArrayDeque} this class implements
+ * {@link List}. Index {@code 0} is always the oldest element.</p>
+ *
+ * <p>{@link #add(Object)} and {@link #set(int, Object)} are supported,
+ * removing single elements is not.</p>
+ *
+ * <p>For a single thread adding and multiple threads reading
+ * use {@link SnapshotRingBuffer}.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * RingBufferList&lt;Event&gt; recentEvents = new RingBufferList&lt;&gt;(100);
+ * recentEvents.add(event);
+ * Event oldest = recentEvents.get(0);
+ * </code></pre>
+ *
+ * @param <E> the element type
+ */
+@NotThreadSafe
+public final class RingBufferList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+
+  private final Object[] elements;
+
+  /**
+   * Index into {@link #elements} of the oldest element.
+   */
+  private int head;
+
+  private int size;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity the maximum number of elements, must be positive
+   */
+  public RingBufferList(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive but was: " + capacity);
+    }
+    this.elements = new Object[capacity];
+  }
+
+  RingBufferList(Object[] elements, int head, int size) {
+    this.elements = elements;
+    this.head = head;
+    this.size = size;
+  }
+
+  /**
+   * Converts an index of this list to an index into {@link #elements}.
+   */
+  private int physicalIndex(int index) {
+    // avoid overflow of head + index for large capacities
+    int physical = index - (this.elements.length - this.head);
+    if (physical < 0) {
+      physical += this.elements.length;
+    }
+    return physical;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.size) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+  }
+
+  /**
+   * Returns the maximum number of elements this list can hold.
+   *
+   * @return the capacity
+   */
+  public int capacity() {
+    return this.elements.length;
+  }
+
+  /**
+   * Whether the next {@link #add(Object)} will overwrite the oldest element.
+   *
+   * @return whether the size is equal to the capacity
+   */
+  public boolean isFull() {
+    return this.size == this.elements.length;
+  }
+
+  /**
+   * Adds an element to the end of this list, if this list is full the
+   * oldest element is overwritten.
+   *
+   * @param e the element to add, can be {@code null}
+   * @return always {@code true}
+   */
+  @Override
+  public boolean add(@Nullable E e) {
+    if (this.size < this.elements.length) {
+      this.elements[this.physicalIndex(this.size)] = e;
+      this.size += 1;
+    } else {
+      this.elements[this.head] = e;
+      this.head += 1;
+      if (this.head == this.elements.length) {
+        this.head = 0;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    for (E each : c) {
+      this.add(each);
+    }
+    return !c.isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public E get(int index) {
+    this.checkIndex(index);
+    return (E) this.elements[this.physicalIndex(index)];
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public E set(int index, E element) {
+    this.checkIndex(index);
+    int physical = this.physicalIndex(index);
+    E old = (E) this.elements[physical];
+    this.elements[physical] = element;
+    return old;
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  @Override
+  public void clear() {
+    // the occupied part may wrap, clear everything to keep it simple
+    Arrays.fill(this.elements, null);
+    this.head = 0;
+    this.size = 0;
+  }
+
+  /**
+   * Returns the number of elements in the first segment, starting at
+   * {@link #head}, the rest starts at index {@code 0} of {@link #elements}.
+   */
+  private int firstSegmentLength() {
+    return Math.min(this.size, this.elements.length - this.head);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (int i = 0; i < this.size; ++i) {
+      action.accept((E) this.elements[this.physicalIndex(i)]);
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return this.indexOf(o) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    for (int i = 0; i < this.size; ++i) {
+      if (Objects.equals(o, this.elements[this.physicalIndex(i)])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    for (int i = this.size - 1; i >= 0; --i) {
+      if (Objects.equals(o, this.elements[this.physicalIndex(i)])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < this.size; ++i) {
+      hashCode = 31 * hashCode + Objects.hashCode(this.elements[this.physicalIndex(i)]);
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    if (other.size() != this.size) {
+      return false;
+    }
+    Iterator<?> otherIterator = other.iterator();
+    for (int i = 0; i < this.size; ++i) {
+      if (!Objects.equals(this.elements[this.physicalIndex(i)], otherIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] result = new Object[this.size];
+    this.copyTo(result);
+    return result;
+  }
+
+  @SuppressWarnings("unchecked") // because arrays don't play well with generics
+  @Override
+  public <T> T[] toArray(T[] a) {
+    T[] result;
+    if (a.length < this.size) {
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), this.size);
+    } else {
+      result = a;
+    }
+    this.copyTo(result);
+    if (result.length > this.size) {
+      result[this.size] = null;
+    }
+    return result;
+  }
+
+  private void copyTo(Object[] destination) {
+    int firstSegmentLength = this.firstSegmentLength();
+    System.arraycopy(this.elements, this.head, destination, 0, firstSegmentLength);
+    System.arraycopy(this.elements, 0, destination, firstSegmentLength, this.size - firstSegmentLength);
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > this.size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex == toIndex) {
+      return Collections.emptyList();
+    }
+    return new SubListView<>(this, fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new RingBufferIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new RingBufferIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || index > this.size) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+    return new RingBufferIterator(index);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If the elements wrap around the end of the internal array the first
+   * split happens at the wrap point, after that each part is a contiguous
+   * range of the array.</p>
+   */
+  @Override
+  public Spliterator<E> spliterator() {
+    return new RingBufferSpliterator<>(this.elements, this.head, this.size);
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  final class RingBufferIterator implements ListIterator<E> {
+
+    private int index;
+
+    private int lastReturned;
+
+    RingBufferIterator(int index) {
+      this.index = index;
+      this.lastReturned = -1;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < size;
+    }
+
+    @Override
+    public E next() {
+      if (this.index >= size) {
+        throw new NoSuchElementException();
+      }
+      E next = get(this.index);
+      this.lastReturned = this.index;
+      this.index += 1;
+      return next;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.index > 0;
+    }
+
+    @Override
+    public E previous() {
+      if (this.index == 0) {
+        throw new NoSuchElementException();
+      }
+      this.index -= 1;
+      this.lastReturned = this.index;
+      return get(this.index);
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.index;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.index - 1;
+    }
+
+    @Override
+    public void set(E e) {
+      if (this.lastReturned == -1) {
+        throw new IllegalStateException();
+      }
+      RingBufferList.this.set(this.lastReturned, e);
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+  static final class RingBufferSpliterator<E> implements Spliterator<E> {
+    // index is a physical index into elements, the remaining elements may
+    // wrap around the end of the array, never computes head + size which
+    // can overflow for large capacities
+
+    private final Object[] elements;
+    private int index;
+    private int remaining;
+
+    RingBufferSpliterator(Object[] elements, int index, int remaining) {
+      this.elements = elements;
+      this.index = index;
+      this.remaining = remaining;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      // first the part up to the end of the array then the wrapped part
+      int untilEnd = Math.min(this.remaining, this.elements.length - this.index);
+      int end = this.index + untilEnd;
+      for (int i = this.index; i < end; ++i) {
+        action.accept((E) this.elements[i]);
+      }
+      int wrapped = this.remaining - untilEnd;
+      for (int i = 0; i < wrapped; ++i) {
+        action.accept((E) this.elements[i]);
+      }
+      this.index = wrapped > 0 ? wrapped : end;
+      this.remaining = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      if (this.remaining > 0) {
+        E element = (E) this.elements[this.index];
+        this.index += 1;
+        if (this.index == this.elements.length) {
+          this.index = 0;
+        }
+        this.remaining -= 1;
+        action.accept(element);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      if (this.remaining <= 1) {
+        return null;
+      }
+      int start = this.index;
+      int untilEnd = this.elements.length - start;
+      int prefix;
+      if (this.remaining > untilEnd) {
+        // split at the wrap point so that both parts are contiguous
+        prefix = untilEnd;
+        this.index = 0;
+      } else {
+        prefix = this.remaining / 2;
+        this.index = start + prefix;
+      }
+      this.remaining -= prefix;
+      return new RingBufferSpliterator<>(this.elements, start, prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.remaining;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+      return this.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED
+              | Spliterator.SIZED
+              | Spliterator.SUBSIZED;
+    }
+
+  }
+
+}
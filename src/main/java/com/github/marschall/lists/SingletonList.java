@@ -14,6 +14,8 @@ import java.util.Objects;
 import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
@@ -27,7 +29,7 @@ import javax.annotation.concurrent.NotThreadSafe;
  * @param <E> the element type
  */
 @NotThreadSafe
-public final class SingletonList<E> extends AbstractCollection<E> implements List<E>, Serializable, RandomAccess {
+public final class SingletonList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
 
   @CheckForNull
   private E element;
@@ -59,11 +61,64 @@ public final class SingletonList<E> extends AbstractCollection<E> implements Lis
     return this.element;
   }
 
+  /**
+   * Returns the only element of this list.
+   *
+   * @return the only element
+   */
+  public E getFirst() {
+    return this.element;
+  }
+
+  /**
+   * Returns the only element of this list.
+   *
+   * @return the only element
+   */
+  public E getLast() {
+    return this.element;
+  }
+
+  /**
+   * Returns this list as the reverse of a single element list is the list itself.
+   *
+   * @return this list
+   */
+  public List<E> reversed() {
+    return this;
+  }
+
   @Override
   public void forEach(Consumer<? super E> action) {
     action.accept(this.element);
   }
 
+  @Override
+  public void forEachIndexed(ObjIntConsumer<? super E> action) {
+    action.accept(this.element, 0);
+  }
+
+  @Override
+  public void forEachInRange(int fromIndex, int toIndex, Consumer<? super E> action) {
+    Traversals.checkRange(fromIndex, toIndex, 1);
+    if (fromIndex < toIndex) {
+      action.accept(this.element);
+    }
+  }
+
+  @Override
+  public void copyInto(Object[] destination, int destinationPosition, int fromIndex, int toIndex) {
+    Traversals.checkCopy(destination, destinationPosition, fromIndex, toIndex, 1);
+    if (fromIndex < toIndex) {
+      destination[destinationPosition] = this.element;
+    }
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super E> predicate) {
+    return predicate.test(this.element);
+  }
+
   @Override
   public boolean contains(Object o) {
     return Objects.equals(this.element, o);
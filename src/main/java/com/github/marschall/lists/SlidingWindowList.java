@@ -0,0 +1,315 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A read only view on all windows of a fixed size of a list.
+ *
+ * <p>The element at index {@code i} of this list is the window
+ * {@code [i, i + windowSize)} of the underlying list. Every window is a
+ * {@link List#subList(int, int)} of the underlying list so no elements are
+ * copied. A list of size {@code n} has {@code n - windowSize + 1} windows,
+ * a list shorter than the window size has none.</p>
+ *
+ * <p>For moving sums, minima and maxima use the aggregation methods like
+ * {@link #sumAsLong(ToLongFunction)}. They visit every element of the
+ * underlying list once and update the aggregate incrementally instead of
+ * aggregating every window again.</p>
+ *
+ * <p>This list does not support modification.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;Measurement&gt; measurements = &hellip;;
+ * SlidingWindowList&lt;Measurement&gt; windows = new SlidingWindowList&lt;&gt;(measurements, 10);
+ * double[] movingSums = windows.sumAsDouble(Measurement::getValue);
+ * </code></pre>
+ *
+ * @param <E> the element type of the underlying list
+ */
+@NotThreadSafe
+public final class SlidingWindowList<E> extends AbstractList<List<E>> implements TraversableList<List<E>>, Serializable, RandomAccess {
+  // RandomAccess because likely the underlying list implements it as well (eg. ArrayList)
+
+  @Nonnull
+  private final List<E> delegate;
+
+  private final int windowSize;
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the list to slide over
+   * @param windowSize the number of elements in each window, must be positive
+   */
+  public SlidingWindowList(@Nonnull List<E> delegate, int windowSize) {
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("window size must be positive but was: " + windowSize);
+    }
+    this.delegate = delegate;
+    this.windowSize = windowSize;
+  }
+
+  @Override
+  public List<E> get(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.size()) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+    return this.delegate.subList(index, index + this.windowSize);
+  }
+
+  @Override
+  public int size() {
+    return Math.max(0, this.delegate.size() - this.windowSize + 1);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.delegate.size() < this.windowSize;
+  }
+
+  @Override
+  public void forEach(Consumer<? super List<E>> action) {
+    int size = this.size();
+    for (int i = 0; i < size; ++i) {
+      action.accept(this.delegate.subList(i, i + this.windowSize));
+    }
+  }
+
+  @Override
+  public List<List<E>> subList(int fromIndex, int toIndex) {
+    int size = this.size();
+    if (fromIndex < 0 || toIndex > size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex == toIndex) {
+      return Collections.emptyList();
+    }
+    if (fromIndex == 0 && toIndex == size) {
+      return this;
+    }
+    return new SlidingWindowList<>(this.delegate.subList(fromIndex, toIndex - 1 + this.windowSize), this.windowSize);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator is index based and splits exactly in the middle
+   * of the remaining windows.</p>
+   */
+  @Override
+  public Spliterator<List<E>> spliterator() {
+    return new IndexedSpliterator<>(this, 0, this.size(), Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+
+  /**
+   * Computes the sum of every window.
+   *
+   * <p>Runs in O(n) independent of the window size.</p>
+   *
+   * @param valueFunction the function extracting the value to sum from an element
+   * @return the sum of the window at index {@code i} at index {@code i}, the
+   *  length of the array is {@link #size()}
+   */
+  public long[] sumAsLong(@Nonnull ToLongFunction<? super E> valueFunction) {
+    long[] result = new long[this.size()];
+    if (result.length == 0) {
+      return result;
+    }
+    // the values leaving the window, avoids calling valueFunction twice per element
+    long[] window = new long[this.windowSize];
+    long sum = 0L;
+    int index = 0;
+    for (E each : this.delegate) {
+      long value = valueFunction.applyAsLong(each);
+      int slot = index % this.windowSize;
+      sum += value - window[slot];
+      window[slot] = value;
+      if (index >= this.windowSize - 1) {
+        result[index - this.windowSize + 1] = sum;
+      }
+      index += 1;
+    }
+    return result;
+  }
+
+  /**
+   * Computes the sum of every window.
+   *
+   * <p>Runs in O(n) independent of the window size. The sum is updated
+   * incrementally so rounding errors can accumulate over long lists.</p>
+   *
+   * @param valueFunction the function extracting the value to sum from an element
+   * @return the sum of the window at index {@code i} at index {@code i}, the
+   *  length of the array is {@link #size()}
+   */
+  public double[] sumAsDouble(@Nonnull ToDoubleFunction<? super E> valueFunction) {
+    double[] result = new double[this.size()];
+    if (result.length == 0) {
+      return result;
+    }
+    double[] window = new double[this.windowSize];
+    double sum = 0.0d;
+    int index = 0;
+    for (E each : this.delegate) {
+      double value = valueFunction.applyAsDouble(each);
+      int slot = index % this.windowSize;
+      sum += value - window[slot];
+      window[slot] = value;
+      if (index >= this.windowSize - 1) {
+        result[index - this.windowSize + 1] = sum;
+      }
+      index += 1;
+    }
+    return result;
+  }
+
+  /**
+   * Computes the minimum of every window.
+   *
+   * <p>Runs in O(n) independent of the window size.</p>
+   *
+   * @param valueFunction the function extracting the value from an element
+   * @return the minimum of the window at index {@code i} at index {@code i},
+   *  the length of the array is {@link #size()}
+   */
+  public long[] minAsLong(@Nonnull ToLongFunction<? super E> valueFunction) {
+    return this.extremaAsLong(valueFunction, false);
+  }
+
+  /**
+   * Computes the maximum of every window.
+   *
+   * <p>Runs in O(n) independent of the window size.</p>
+   *
+   * @param valueFunction the function extracting the value from an element
+   * @return the maximum of the window at index {@code i} at index {@code i},
+   *  the length of the array is {@link #size()}
+   */
+  public long[] maxAsLong(@Nonnull ToLongFunction<? super E> valueFunction) {
+    return this.extremaAsLong(valueFunction, true);
+  }
+
+  /**
+   * Computes the minimum of every window.
+   *
+   * <p>Runs in O(n) independent of the window size. Values are ordered
+   * by {@link Double#compare(double, double)}.</p>
+   *
+   * @param valueFunction the function extracting the value from an element
+   * @return the minimum of the window at index {@code i} at index {@code i},
+   *  the length of the array is {@link #size()}
+   */
+  public double[] minAsDouble(@Nonnull ToDoubleFunction<? super E> valueFunction) {
+    return this.extremaAsDouble(valueFunction, false);
+  }
+
+  /**
+   * Computes the maximum of every window.
+   *
+   * <p>Runs in O(n) independent of the window size. Values are ordered
+   * by {@link Double#compare(double, double)}.</p>
+   *
+   * @param valueFunction the function extracting the value from an element
+   * @return the maximum of the window at index {@code i} at index {@code i},
+   *  the length of the array is {@link #size()}
+   */
+  public double[] maxAsDouble(@Nonnull ToDoubleFunction<? super E> valueFunction) {
+    return this.extremaAsDouble(valueFunction, true);
+  }
+
+  private long[] extremaAsLong(ToLongFunction<? super E> valueFunction, boolean max) {
+    long[] result = new long[this.size()];
+    if (result.length == 0) {
+      return result;
+    }
+    // monotonic deque stored in a ring buffer, it never holds more than one window
+    // the front is the extremum of the current window
+    int[] dequeIndices = new int[this.windowSize];
+    long[] dequeValues = new long[this.windowSize];
+    int head = 0;
+    int count = 0;
+    int index = 0;
+    Iterator<E> iterator = this.delegate.iterator();
+    while (iterator.hasNext()) {
+      long value = valueFunction.applyAsLong(iterator.next());
+      if (count > 0 && dequeIndices[head] <= index - this.windowSize) {
+        // front left the window
+        head = (head + 1) % this.windowSize;
+        count -= 1;
+      }
+      while (count > 0) {
+        long back = dequeValues[(head + count - 1) % this.windowSize];
+        if (max ? back > value : back < value) {
+          break;
+        }
+        // can never be the extremum again
+        count -= 1;
+      }
+      int tail = (head + count) % this.windowSize;
+      dequeIndices[tail] = index;
+      dequeValues[tail] = value;
+      count += 1;
+      if (index >= this.windowSize - 1) {
+        result[index - this.windowSize + 1] = dequeValues[head];
+      }
+      index += 1;
+    }
+    return result;
+  }
+
+  private double[] extremaAsDouble(ToDoubleFunction<? super E> valueFunction, boolean max) {
+    double[] result = new double[this.size()];
+    if (result.length == 0) {
+      return result;
+    }
+    int[] dequeIndices = new int[this.windowSize];
+    double[] dequeValues = new double[this.windowSize];
+    int head = 0;
+    int count = 0;
+    int index = 0;
+    Iterator<E> iterator = this.delegate.iterator();
+    while (iterator.hasNext()) {
+      double value = valueFunction.applyAsDouble(iterator.next());
+      if (count > 0 && dequeIndices[head] <= index - this.windowSize) {
+        head = (head + 1) % this.windowSize;
+        count -= 1;
+      }
+      while (count > 0) {
+        int comparison = Double.compare(dequeValues[(head + count - 1) % this.windowSize], value);
+        if (max ? comparison > 0 : comparison < 0) {
+          break;
+        }
+        count -= 1;
+      }
+      int tail = (head + count) % this.windowSize;
+      dequeIndices[tail] = index;
+      dequeValues[tail] = value;
+      count += 1;
+      if (index >= this.windowSize - 1) {
+        result[index - this.windowSize + 1] = dequeValues[head];
+      }
+      index += 1;
+    }
+    return result;
+  }
+
+}
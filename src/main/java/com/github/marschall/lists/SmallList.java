@@ -0,0 +1,612 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A mutable list optimized for zero or one element that can grow.
+ *
+ * <p>Like {@link SingletonList} up to one element is stored in a field,
+ * no array is allocated. Only when a second element is added the
+ * elements are moved to an array of exactly two elements, after that the
+ * list grows like {@link java.util.ArrayList}. Unlike
+ * {@link java.util.ArrayList} this avoids allocating a ten element array
+ * on the first {@link #add(Object)}.</p>
+ *
+ * <p>Once an array has been allocated it is kept until {@link #clear()}
+ * even if elements are removed.</p>
+ *
+ * <p>{@link #subList(int, int)} does not support structural modification.</p>
+ *
+ * <p>Like {@link java.util.ArrayList} the iterators and spliterators are
+ * fail-fast, they throw {@link java.util.ConcurrentModificationException}
+ * on a best-effort basis if the list is structurally modified other than
+ * through the iterator. The spliterator is late-binding.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;Warning&gt; warnings = new SmallList&lt;&gt;();
+ * &hellip;
+ * warnings.add(warning);
+ * </code></pre>
+ *
+ * @param <E> the element type
+ */
+@NotThreadSafe
+public final class SmallList<E> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList, the modification count is tracked below
+
+  // only used as long as elements is null
+  @CheckForNull
+  private E element;
+
+  // null as long as there are at most one element
+  @CheckForNull
+  private Object[] elements;
+
+  private int size;
+
+  // incremented on every structural modification, checked by iterators and spliterators
+  private transient int modCount;
+
+  /**
+   * Constructs an empty list.
+   */
+  public SmallList() {
+    super();
+  }
+
+  /**
+   * Constructs a list containing a single element.
+   *
+   * @param element the element of the list, can be {@code null}
+   */
+  public SmallList(@Nullable E element) {
+    this.element = element;
+    this.size = 1;
+  }
+
+  private boolean isInline() {
+    return this.elements == null;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.size) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+  }
+
+  private void checkPositionIndex(int index) {
+    if (index < 0 || index > this.size) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+  }
+
+  @SuppressWarnings("unchecked") // only E is ever stored
+  private E elementAt(int index) {
+    return (E) this.elements[index];
+  }
+
+  private E elementOrInline(int index) {
+    if (this.isInline()) {
+      return this.element;
+    }
+    return this.elementAt(index);
+  }
+
+  /**
+   * Makes sure there is room for at least {@code capacity} elements,
+   * moves the inline element into an array if necessary.
+   */
+  private void ensureCapacity(int capacity) {
+    if (capacity <= 1) {
+      return;
+    }
+    if (this.isInline()) {
+      Object[] array = new Object[capacity];
+      if (this.size == 1) {
+        array[0] = this.element;
+        this.element = null;
+      }
+      this.elements = array;
+    } else if (capacity > this.elements.length) {
+      int newCapacity = this.elements.length + (this.elements.length >> 1);
+      if (newCapacity < capacity) {
+        newCapacity = capacity;
+      }
+      if (newCapacity < 0) {
+        // overflow
+        throw new OutOfMemoryError();
+      }
+      this.elements = Arrays.copyOf(this.elements, newCapacity);
+    }
+  }
+
+  @Override
+  public E get(int index) {
+    this.checkIndex(index);
+    return this.elementOrInline(index);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    this.checkIndex(index);
+    E old;
+    if (this.isInline()) {
+      old = this.element;
+      this.element = element;
+    } else {
+      old = this.elementAt(index);
+      this.elements[index] = element;
+    }
+    return old;
+  }
+
+  @Override
+  public boolean add(E e) {
+    if (this.isInline() && this.size == 0) {
+      this.element = e;
+    } else {
+      this.ensureCapacity(this.size + 1);
+      this.elements[this.size] = e;
+    }
+    this.size += 1;
+    this.modCount += 1;
+    return true;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    this.checkPositionIndex(index);
+    if (this.isInline() && this.size == 0) {
+      this.element = element;
+    } else {
+      this.ensureCapacity(this.size + 1);
+      System.arraycopy(this.elements, index, this.elements, index + 1, this.size - index);
+      this.elements[index] = element;
+    }
+    this.size += 1;
+    this.modCount += 1;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    return this.addAll(this.size, c);
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    this.checkPositionIndex(index);
+    Object[] added = c.toArray();
+    int addedLength = added.length;
+    if (addedLength == 0) {
+      return false;
+    }
+    if (this.isInline() && this.size == 0 && addedLength == 1) {
+      @SuppressWarnings("unchecked") // only E is in c
+      E onlyElement = (E) added[0];
+      this.element = onlyElement;
+    } else {
+      this.ensureCapacity(this.size + addedLength);
+      System.arraycopy(this.elements, index, this.elements, index + addedLength, this.size - index);
+      System.arraycopy(added, 0, this.elements, index, addedLength);
+    }
+    this.size += addedLength;
+    this.modCount += 1;
+    return true;
+  }
+
+  @Override
+  public E remove(int index) {
+    this.checkIndex(index);
+    E old;
+    if (this.isInline()) {
+      old = this.element;
+      this.element = null;
+    } else {
+      old = this.elementAt(index);
+      System.arraycopy(this.elements, index + 1, this.elements, index, this.size - index - 1);
+      this.elements[this.size - 1] = null;
+    }
+    this.size -= 1;
+    this.modCount += 1;
+    return old;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    int index = this.indexOf(o);
+    if (index == -1) {
+      return false;
+    }
+    this.remove(index);
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    // go back to storing the element in a field
+    this.element = null;
+    this.elements = null;
+    this.size = 0;
+    this.modCount += 1;
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    int expectedModCount = this.modCount;
+    if (this.isInline()) {
+      if (this.size == 1) {
+        action.accept(this.element);
+      }
+    } else {
+      for (int i = 0; i < this.size && this.modCount == expectedModCount; ++i) {
+        action.accept(this.elementAt(i));
+      }
+    }
+    if (this.modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return this.indexOf(o) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    if (this.isInline()) {
+      if (this.size == 1 && Objects.equals(this.element, o)) {
+        return 0;
+      }
+      return -1;
+    }
+    for (int i = 0; i < this.size; ++i) {
+      if (Objects.equals(o, this.elements[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    if (this.isInline()) {
+      return this.indexOf(o);
+    }
+    for (int i = this.size - 1; i >= 0; --i) {
+      if (Objects.equals(o, this.elements[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // only E is ever stored
+  public void sort(Comparator<? super E> c) {
+    if (!this.isInline()) {
+      Arrays.sort((E[]) this.elements, 0, this.size, c);
+      this.modCount += 1;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < this.size; ++i) {
+      hashCode = 31 * hashCode + Objects.hashCode(this.get(i));
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    if (other.size() != this.size) {
+      return false;
+    }
+    Iterator<?> otherIterator = other.iterator();
+    for (int i = 0; i < this.size; ++i) {
+      if (!Objects.equals(this.get(i), otherIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Object[] toArray() {
+    if (this.isInline()) {
+      if (this.size == 0) {
+        return new Object[0];
+      }
+      return new Object[]{this.element};
+    }
+    return Arrays.copyOf(this.elements, this.size);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // because arrays don't play well with generics
+  public <T> T[] toArray(T[] a) {
+    T[] result;
+    if (a.length < this.size) {
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), this.size);
+    } else {
+      result = a;
+    }
+    if (this.isInline()) {
+      if (this.size == 1) {
+        result[0] = (T) this.element;
+      }
+    } else {
+      System.arraycopy(this.elements, 0, result, 0, this.size);
+    }
+    if (result.length > this.size) {
+      result[this.size] = null;
+    }
+    return result;
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > this.size) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    return new SubListView<>(this, fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new SmallIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new SmallIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    this.checkPositionIndex(index);
+    return new SmallIterator(index);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator is late-binding, it reads the size and storage of
+   * this list on first traversal, split or size query.</p>
+   */
+  @Override
+  public Spliterator<E> spliterator() {
+    return new SmallSpliterator<>(this, 0, -1, 0);
+  }
+
+  final class SmallIterator implements ListIterator<E> {
+    // non-static because it can modify the list
+
+    private int index;
+
+    private int lastReturned;
+
+    private int expectedModCount;
+
+    SmallIterator(int index) {
+      this.index = index;
+      this.lastReturned = -1;
+      this.expectedModCount = modCount;
+    }
+
+    private void checkForComodification() {
+      if (modCount != this.expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < size;
+    }
+
+    @Override
+    public E next() {
+      this.checkForComodification();
+      if (this.index >= size) {
+        throw new NoSuchElementException();
+      }
+      E next = get(this.index);
+      this.lastReturned = this.index;
+      this.index += 1;
+      return next;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (this.index < size && modCount == this.expectedModCount) {
+        action.accept(get(this.index));
+        this.lastReturned = this.index;
+        this.index += 1;
+      }
+      this.checkForComodification();
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.index > 0;
+    }
+
+    @Override
+    public E previous() {
+      this.checkForComodification();
+      if (this.index <= 0) {
+        throw new NoSuchElementException();
+      }
+      this.index -= 1;
+      this.lastReturned = this.index;
+      return get(this.index);
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.index;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.index - 1;
+    }
+
+    @Override
+    public void remove() {
+      if (this.lastReturned == -1) {
+        throw new IllegalStateException();
+      }
+      this.checkForComodification();
+      SmallList.this.remove(this.lastReturned);
+      this.index = this.lastReturned;
+      this.lastReturned = -1;
+      this.expectedModCount = modCount;
+    }
+
+    @Override
+    public void set(E e) {
+      if (this.lastReturned == -1) {
+        throw new IllegalStateException();
+      }
+      this.checkForComodification();
+      SmallList.this.set(this.lastReturned, e);
+    }
+
+    @Override
+    public void add(E e) {
+      this.checkForComodification();
+      SmallList.this.add(this.index, e);
+      this.index += 1;
+      this.lastReturned = -1;
+      this.expectedModCount = modCount;
+    }
+
+  }
+
+  static final class SmallSpliterator<E> implements Spliterator<E> {
+    // index based like the one of ArrayList, binds on first use
+
+    private final SmallList<E> list;
+    private int index;
+    private int fence; // -1 until bound
+    private int expectedModCount; // set when bound
+
+    SmallSpliterator(SmallList<E> list, int index, int fence, int expectedModCount) {
+      this.list = list;
+      this.index = index;
+      this.fence = fence;
+      this.expectedModCount = expectedModCount;
+    }
+
+    private int getFence() {
+      if (this.fence < 0) {
+        this.expectedModCount = this.list.modCount;
+        this.fence = this.list.size;
+      }
+      return this.fence;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      int hi = this.getFence();
+      int left = hi - this.index;
+      if (left <= 1) {
+        return null;
+      }
+      int start = this.index;
+      this.index += left / 2;
+      return new SmallSpliterator<>(this.list, start, this.index, this.expectedModCount);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      int hi = this.getFence();
+      if (this.index < hi) {
+        E next = this.list.elementOrInline(this.index);
+        this.index += 1;
+        action.accept(next);
+        if (this.list.modCount != this.expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      int hi = this.getFence();
+      while (this.index < hi && this.list.modCount == this.expectedModCount) {
+        E next = this.list.elementOrInline(this.index);
+        this.index += 1;
+        action.accept(next);
+      }
+      if (this.list.modCount != this.expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.getFence() - this.index;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+      return this.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+  }
+
+}
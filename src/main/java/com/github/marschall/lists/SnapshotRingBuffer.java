@@ -0,0 +1,121 @@
+package com.github.marschall.lists;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A ring buffer with a fixed capacity for a single thread adding elements
+ * and any number of threads taking consistent snapshots without locking.
+ *
+ * <p>The adding thread never waits for readers. A reader copies the
+ * elements and retries if the adding thread overwrote an element it copied.
+ * The result of {@link #snapshot()} is a {@link RingBufferList} with the
+ * elements at the time the snapshot was started and is owned by the
+ * caller.</p>
+ *
+ * <p>Only a single thread may call {@link #add(Object)}, otherwise
+ * elements may be lost.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * SnapshotRingBuffer&lt;Event&gt; recentEvents = new SnapshotRingBuffer&lt;&gt;(100);
+ * // producer thread
+ * recentEvents.add(event);
+ * // any other thread
+ * List&lt;Event&gt; events = recentEvents.snapshot();
+ * </code></pre>
+ *
+ * @param <E> the element type
+ */
+@ThreadSafe
+public final class SnapshotRingBuffer<E> {
+
+  private final AtomicReferenceArray<E> elements;
+
+  /**
+   * The number of elements whose addition has started, written before the
+   * element so that a reader that sees an element also sees this.
+   */
+  private volatile long started;
+
+  /**
+   * The number of elements whose addition has completed, written after the element.
+   */
+  private volatile long completed;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity the maximum number of elements, must be positive
+   */
+  public SnapshotRingBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive but was: " + capacity);
+    }
+    this.elements = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Returns the maximum number of elements in this buffer.
+   *
+   * @return the capacity
+   */
+  public int capacity() {
+    return this.elements.length();
+  }
+
+  /**
+   * Returns the total number of elements ever added to this buffer.
+   *
+   * @return the number of added elements including overwritten ones
+   */
+  public long addedCount() {
+    return this.completed;
+  }
+
+  /**
+   * Adds an element, if the buffer is full the oldest element is overwritten.
+   *
+   * <p>Must only be called by a single thread.</p>
+   *
+   * @param e the element to add, can be {@code null}
+   */
+  public void add(@Nullable E e) {
+    long sequence = this.completed;
+    this.started = sequence + 1L;
+    this.elements.set((int) (sequence % this.elements.length()), e);
+    this.completed = sequence + 1L;
+  }
+
+  /**
+   * Copies the current elements, oldest first.
+   *
+   * <p>Never blocks the adding thread. Retries if the adding thread
+   * overwrites an element while it is being copied.</p>
+   *
+   * @return a new list with the current elements, the capacity is the
+   *  capacity of this buffer
+   */
+  @Nonnull
+  public RingBufferList<E> snapshot() {
+    int capacity = this.elements.length();
+    Object[] copy = new Object[capacity];
+    while (true) {
+      long end = this.completed;
+      long start = Math.max(0L, end - capacity);
+      int size = (int) (end - start);
+      for (int i = 0; i < size; ++i) {
+        copy[i] = this.elements.get((int) ((start + i) % capacity));
+      }
+      // the oldest element still present after the copy
+      long oldestRemaining = Math.max(0L, this.started - capacity);
+      if (oldestRemaining <= start) {
+        return new RingBufferList<>(copy, 0, size);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,132 @@
+package com.github.marschall.lists;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Binary search on sorted random access lists.
+ *
+ * <p>Unlike {@link java.util.Collections#binarySearch(List, Object, Comparator)}
+ * these methods return the bounds of the range of elements that compare
+ * equal and {@link #indexOf(List, Object, Comparator)} uses
+ * {@link Object#equals(Object)} within that range.</p>
+ *
+ * <p>Like {@link java.util.List#indexOf(Object)} {@link #indexOf(List, Object, Comparator)}
+ * and {@link #lastIndexOf(List, Object, Comparator)} return {@code -1} for
+ * objects that can not be compared with the elements, eg. {@code null}
+ * with natural ordering or an object of a different type.</p>
+ */
+final class SortedSearch {
+
+  private SortedSearch() {
+    throw new AssertionError("not instantiable");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> int compare(Comparator<? super E> comparator, E element, Object key) {
+    if (comparator == null) {
+      return ((Comparable<Object>) element).compareTo(key);
+    }
+    return comparator.compare(element, (E) key);
+  }
+
+  /**
+   * Returns the index of the first element not less than {@code key}.
+   *
+   * @return the index, {@code list.size()} if all elements are less
+   */
+  static <E> int lowerBound(List<E> list, Object key, Comparator<? super E> comparator) {
+    int low = 0;
+    int high = list.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (compare(comparator, list.get(middle), key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the index of the first element greater than {@code key}.
+   *
+   * @return the index, {@code list.size()} if no element is greater
+   */
+  static <E> int upperBound(List<E> list, Object key, Comparator<? super E> comparator) {
+    int low = 0;
+    int high = list.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (compare(comparator, list.get(middle), key) <= 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Checks whether an object can be compared with the elements of a list.
+   *
+   * @return {@code false} if the list is empty or a comparison would fail
+   */
+  private static <E> boolean isComparable(List<E> list, Object o, Comparator<? super E> comparator) {
+    if (list.isEmpty() || (o == null && comparator == null)) {
+      return false;
+    }
+    E first = list.get(0);
+    try {
+      compare(comparator, first, o);
+      return true;
+    } catch (ClassCastException e) {
+      return false;
+    }
+  }
+
+  static <E> int indexOf(List<E> list, Object o, Comparator<? super E> comparator) {
+    if (!isComparable(list, o, comparator)) {
+      return -1;
+    }
+    int size = list.size();
+    for (int i = lowerBound(list, o, comparator); i < size; ++i) {
+      E element = list.get(i);
+      if (Objects.equals(o, element)) {
+        return i;
+      }
+      if (compare(comparator, element, o) != 0) {
+        // past the elements that compare equal
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  static <E> int lastIndexOf(List<E> list, Object o, Comparator<? super E> comparator) {
+    if (!isComparable(list, o, comparator)) {
+      return -1;
+    }
+    for (int i = upperBound(list, o, comparator) - 1; i >= 0; --i) {
+      E element = list.get(i);
+      if (Objects.equals(o, element)) {
+        return i;
+      }
+      if (compare(comparator, element, o) != 0) {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  static <E> int headIndex(List<E> list, Object toElement, boolean inclusive, Comparator<? super E> comparator) {
+    return inclusive ? upperBound(list, toElement, comparator) : lowerBound(list, toElement, comparator);
+  }
+
+  static <E> int tailIndex(List<E> list, Object fromElement, boolean inclusive, Comparator<? super E> comparator) {
+    return inclusive ? lowerBound(list, fromElement, comparator) : upperBound(list, fromElement, comparator);
+  }
+
+}
@@ -0,0 +1,63 @@
+package com.github.marschall.lists;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+/**
+ * A view on a range of a random access list.
+ *
+ * <p>Used by lists that can not express an arbitrary range as
+ * an instance of their own class. {@link #set(int, Object)} writes
+ * through to the parent list, structural modification is not supported.</p>
+ *
+ * @param <E> the element type
+ */
+final class SubListView<E> extends AbstractList<E> implements RandomAccess {
+
+  private final List<E> parent;
+  private final int offset;
+  private final int size;
+
+  SubListView(List<E> parent, int offset, int size) {
+    this.parent = parent;
+    this.offset = offset;
+    this.size = size;
+  }
+
+  @Override
+  public E get(int index) {
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException("invalid index: " + index + " only 0 to " + (this.size - 1) + " allowed");
+    }
+    return this.parent.get(this.offset + index);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException("invalid index: " + index + " only 0 to " + (this.size - 1) + " allowed");
+    }
+    return this.parent.set(this.offset + index, element);
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    return this.parent.subList(this.offset + fromIndex, this.offset + toIndex);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new IndexedSpliterator<>(this.parent, this.offset, this.offset + this.size, Spliterator.ORDERED);
+  }
+
+}
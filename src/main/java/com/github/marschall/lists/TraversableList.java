@@ -0,0 +1,114 @@
+package com.github.marschall.lists;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * A list that supports internal iteration with an index, over a range
+ * and with early termination.
+ *
+ * <p>These methods avoid the {@link #subList(int, int)} view, the iterator
+ * and the manual {@link #get(int)} calls that are otherwise necessary.
+ * The default implementations use {@link #get(int)} for
+ * {@link java.util.RandomAccess} lists and an iterator otherwise, the
+ * lists in this package override them where a cheaper access path exists.
+ * None of the methods allocate unless the default implementation has to
+ * fall back to an iterator.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * TraversableList&lt;String&gt; names = &hellip;;
+ * names.forEachIndexed((name, index) -&gt; System.out.println(index + ": " + name));
+ * boolean allShort = names.forEachWhile(name -&gt; name.length() &lt; 10);
+ * </code></pre>
+ *
+ * @param <E> the element type
+ */
+public interface TraversableList<E> extends List<E> {
+
+  /**
+   * Performs an action for every element together with its index.
+   *
+   * @param action the action to perform, invoked with the element and its index
+   */
+  default void forEachIndexed(ObjIntConsumer<? super E> action) {
+    Traversals.forEachIndexed(this, 0, action);
+  }
+
+  /**
+   * Performs an action for every element in a range of indices.
+   *
+   * <p>Equivalent to {@code subList(fromIndex, toIndex).forEach(action)}
+   * without creating the sub list.</p>
+   *
+   * @param fromIndex the index of the first element, inclusive
+   * @param toIndex the index of the last element, exclusive
+   * @param action the action to perform
+   * @throws IndexOutOfBoundsException if the range is invalid
+   */
+  default void forEachInRange(int fromIndex, int toIndex, Consumer<? super E> action) {
+    Traversals.checkRange(fromIndex, toIndex, this.size());
+    Traversals.forEachInRange(this, fromIndex, toIndex, action);
+  }
+
+  /**
+   * Copies a range of elements into an existing array.
+   *
+   * <p>Unlike {@link #toArray(Object[])} this method never allocates an
+   * array and can write at any position, which allows reusing buffers.</p>
+   *
+   * @param destination the array to copy into
+   * @param destinationPosition the index in {@code destination} of the first copied element
+   * @param fromIndex the index of the first element to copy, inclusive
+   * @param toIndex the index of the last element to copy, exclusive
+   * @throws IndexOutOfBoundsException if the range is invalid or the
+   *  elements do not fit into {@code destination}
+   * @throws ArrayStoreException if an element can not be stored in {@code destination}
+   */
+  default void copyInto(Object[] destination, int destinationPosition, int fromIndex, int toIndex) {
+    Traversals.checkCopy(destination, destinationPosition, fromIndex, toIndex, this.size());
+    Traversals.copyInto(this, destination, destinationPosition, fromIndex, toIndex);
+  }
+
+  /**
+   * Writes the same representation as {@link #toString()} without
+   * building the complete string in memory.
+   *
+   * <p>Elements are appended one by one, use {@link #writeTo(Writer)}
+   * for unbuffered targets.</p>
+   *
+   * @param out where to write to
+   * @throws IOException if {@code out} throws an {@link IOException}
+   */
+  default void writeTo(Appendable out) throws IOException {
+    Traversals.writeTo(this, out);
+  }
+
+  /**
+   * Writes the same representation as {@link #toString()} in chunks of
+   * bounded size without building the complete string in memory.
+   *
+   * @param out where to write to, does not need to be buffered
+   * @throws IOException if {@code out} throws an {@link IOException}
+   */
+  default void writeTo(Writer out) throws IOException {
+    Traversals.writeTo(this, out);
+  }
+
+  /**
+   * Passes every element to a predicate in order until it returns
+   * {@code false}.
+   *
+   * @param predicate the action to perform, returns whether to continue
+   * @return {@code true} if the predicate returned {@code true} for every
+   *  element, {@code false} if the iteration stopped early
+   */
+  default boolean forEachWhile(Predicate<? super E> predicate) {
+    return Traversals.forEachWhile(this, predicate);
+  }
+
+}
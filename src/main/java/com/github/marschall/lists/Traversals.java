@@ -0,0 +1,169 @@
+package com.github.marschall.lists;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Implementations of the {@link TraversableList} methods for arbitrary lists.
+ */
+final class Traversals {
+
+  /**
+   * The number of characters collected before they are passed to a {@link Writer}.
+   */
+  static final int CHUNK_SIZE = 8192;
+
+  private Traversals() {
+    throw new AssertionError("not instantiable");
+  }
+
+  static void checkRange(int fromIndex, int toIndex, int size) {
+    if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+  }
+
+  /**
+   * Checks a slice of an array and returns its size, usable in a constructor call.
+   */
+  static int checkSlice(int fromIndex, int toIndex, int length) {
+    checkRange(fromIndex, toIndex, length);
+    return toIndex - fromIndex;
+  }
+
+  private static String elementToString(List<?> list, Object element) {
+    // same as AbstractCollection#toString
+    return element == list ? "(this Collection)" : String.valueOf(element);
+  }
+
+  static void writeTo(List<?> list, Appendable out) throws IOException {
+    out.append('[');
+    boolean first = true;
+    for (Object each : list) {
+      if (!first) {
+        out.append(',').append(' ');
+      }
+      first = false;
+      out.append(elementToString(list, each));
+    }
+    out.append(']');
+  }
+
+  static void writeTo(List<?> list, Writer out) throws IOException {
+    StringBuilder chunk = new StringBuilder(CHUNK_SIZE);
+    char[] buffer = new char[CHUNK_SIZE];
+    chunk.append('[');
+    boolean first = true;
+    for (Object each : list) {
+      if (!first) {
+        chunk.append(',').append(' ');
+      }
+      first = false;
+      chunk.append(elementToString(list, each));
+      if (chunk.length() >= CHUNK_SIZE) {
+        flush(chunk, buffer, out);
+      }
+    }
+    chunk.append(']');
+    flush(chunk, buffer, out);
+  }
+
+  private static void flush(StringBuilder chunk, char[] buffer, Writer out) throws IOException {
+    int length = chunk.length();
+    char[] target = buffer;
+    if (length > target.length) {
+      // a single element longer than a chunk
+      target = new char[length];
+    }
+    chunk.getChars(0, length, target, 0);
+    out.write(target, 0, length);
+    chunk.setLength(0);
+  }
+
+  static void checkCopy(Object[] destination, int destinationPosition, int fromIndex, int toIndex, int size) {
+    checkRange(fromIndex, toIndex, size);
+    if (destinationPosition < 0 || destinationPosition > destination.length - (toIndex - fromIndex)) {
+      throw new IndexOutOfBoundsException("invalid destination position: " + destinationPosition
+              + " for " + (toIndex - fromIndex) + " elements");
+    }
+  }
+
+  /**
+   * Copies a range of a list into an array, the range and destination must have been checked.
+   */
+  static <E> void copyInto(List<E> list, Object[] destination, int destinationPosition, int fromIndex, int toIndex) {
+    if (list instanceof RandomAccess) {
+      int offset = destinationPosition - fromIndex;
+      for (int i = fromIndex; i < toIndex; ++i) {
+        destination[offset + i] = list.get(i);
+      }
+    } else {
+      ListIterator<E> iterator = list.listIterator(fromIndex);
+      int end = destinationPosition + toIndex - fromIndex;
+      for (int i = destinationPosition; i < end; ++i) {
+        destination[i] = iterator.next();
+      }
+    }
+  }
+
+  /**
+   * Performs an action for every element of a list with the index shifted by {@code offset}.
+   */
+  static <E> void forEachIndexed(List<E> list, int offset, ObjIntConsumer<? super E> action) {
+    if (list instanceof RandomAccess) {
+      int size = list.size();
+      for (int i = 0; i < size; ++i) {
+        action.accept(list.get(i), offset + i);
+      }
+    } else {
+      int index = offset;
+      for (E each : list) {
+        action.accept(each, index);
+        index += 1;
+      }
+    }
+  }
+
+  /**
+   * Performs an action for a range of a list, the range must have been checked.
+   */
+  static <E> void forEachInRange(List<E> list, int fromIndex, int toIndex, Consumer<? super E> action) {
+    if (list instanceof RandomAccess) {
+      for (int i = fromIndex; i < toIndex; ++i) {
+        action.accept(list.get(i));
+      }
+    } else {
+      ListIterator<E> iterator = list.listIterator(fromIndex);
+      for (int i = fromIndex; i < toIndex; ++i) {
+        action.accept(iterator.next());
+      }
+    }
+  }
+
+  static <E> boolean forEachWhile(List<E> list, Predicate<? super E> predicate) {
+    if (list instanceof RandomAccess) {
+      int size = list.size();
+      for (int i = 0; i < size; ++i) {
+        if (!predicate.test(list.get(i))) {
+          return false;
+        }
+      }
+    } else {
+      Iterator<E> iterator = list.iterator();
+      while (iterator.hasNext()) {
+        if (!predicate.test(iterator.next())) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+}
@@ -0,0 +1,63 @@
+package com.github.marschall.lists;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Serialized form of a {@link MappedList} created with
+ * {@link MappedList#withValueSerialization()}.
+ *
+ * <p>Writes the size followed by the elements as they are produced by
+ * iteration, the list is never copied. Reads the elements in chunks so
+ * that a corrupt size does not allocate a huge array up front and
+ * resolves to an {@link ImmutableArrayList}.</p>
+ */
+final class ValueSnapshot implements Serializable {
+
+  static final int CHUNK_SIZE = 1024;
+
+  // only set when writing
+  private transient List<?> values;
+
+  // only set when reading
+  private transient Object[] elements;
+
+  ValueSnapshot(List<?> values) {
+    this.values = values;
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeInt(this.values.size());
+    for (Object each : this.values) {
+      out.writeObject(each);
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int size = in.readInt();
+    if (size < 0) {
+      throw new InvalidObjectException("negative size: " + size);
+    }
+    Object[] read = new Object[Math.min(size, CHUNK_SIZE)];
+    for (int i = 0; i < size; ++i) {
+      if (i == read.length) {
+        // grow with the elements actually present in the stream
+        read = Arrays.copyOf(read, (int) Math.min(size, read.length * 2L));
+      }
+      read[i] = in.readObject();
+    }
+    this.elements = read;
+  }
+
+  private Object readResolve() {
+    return new ImmutableArrayList<>(this.elements);
+  }
+
+}
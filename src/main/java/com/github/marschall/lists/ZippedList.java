@@ -0,0 +1,413 @@
+package com.github.marschall.lists;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A read only view on two lists after combining the elements at the same
+ * index with a function.
+ *
+ * <p>This class is intended to be used when you already have two
+ * potentially large parallel lists, for example keys and values, and want
+ * another list based on combining them without creating an intermediate
+ * list of pairs. Items in this list do not take up additional space as they
+ * are created on demand and not stored.</p>
+ *
+ * <p>The size of this list is the size of the shorter of the two lists.</p>
+ *
+ * <p>This list does not support modification.</p>
+ *
+ * <h3>Example</h3>
+ * <pre><code>
+ * List&lt;Instant&gt; timestamps = &hellip;;
+ * List&lt;Double&gt; readings = &hellip;;
+ * List&lt;Measurement&gt; measurements = new ZippedList&lt;&gt;(Measurement::new, timestamps, readings);
+ * </code></pre>
+ *
+ * @param <E> the type of elements in this list
+ * @param <A> the element type of the first underlying list
+ * @param <B> the element type of the second underlying list
+ */
+@NotThreadSafe
+public final class ZippedList<E, A, B> extends AbstractCollection<E> implements TraversableList<E>, Serializable, RandomAccess {
+  // extend AbstractCollection instead of AbstractList to avoid the unused modcount instance variable
+  // RandomAccess because likely the underlying lists implement it as well (eg. ArrayList)
+
+  @Nonnull
+  private final BiFunction<A, B, E> zipFunction;
+
+  @Nonnull
+  private final List<A> first;
+
+  @Nonnull
+  private final List<B> second;
+
+  /**
+   * Constructor.
+   *
+   * @param zipFunction the function to produce the items in this list
+   * @param first the list providing the first argument to {@code zipFunction}
+   * @param second the list providing the second argument to {@code zipFunction}
+   */
+  public ZippedList(@Nonnull BiFunction<A, B, E> zipFunction, @Nonnull List<A> first, @Nonnull List<B> second) {
+    this.zipFunction = zipFunction;
+    this.first = first;
+    this.second = second;
+  }
+
+  @Override
+  public int size() {
+    return Math.min(this.first.size(), this.second.size());
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.first.isEmpty() || this.second.isEmpty();
+  }
+
+  @Override
+  public E get(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("negative index: " + index);
+    }
+    if (index >= this.size()) {
+      throw new IndexOutOfBoundsException("index: " + index + " too large");
+    }
+    return this.zipFunction.apply(this.first.get(index), this.second.get(index));
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    Iterator<A> firstIterator = this.first.iterator();
+    Iterator<B> secondIterator = this.second.iterator();
+    while (firstIterator.hasNext() && secondIterator.hasNext()) {
+      action.accept(this.zipFunction.apply(firstIterator.next(), secondIterator.next()));
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return this.indexOf(o) != -1;
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    for (Object o : c) {
+      if (!this.contains(o)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    int size = this.size();
+    for (int i = 0; i < size; ++i) {
+      if (Objects.equals(o, this.zipFunction.apply(this.first.get(i), this.second.get(i)))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    for (int i = this.size() - 1; i >= 0; --i) {
+      if (Objects.equals(o, this.zipFunction.apply(this.first.get(i), this.second.get(i)))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    int size = this.size();
+    for (int i = 0; i < size; ++i) {
+      hashCode = 31 * hashCode + Objects.hashCode(this.zipFunction.apply(this.first.get(i), this.second.get(i)));
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof List)) {
+      return false;
+    }
+    List<?> other = (List<?>) obj;
+    int size = this.size();
+    if (size != other.size()) {
+      return false;
+    }
+    Iterator<?> otherIterator = other.iterator();
+    for (int i = 0; i < size; ++i) {
+      if (!Objects.equals(this.zipFunction.apply(this.first.get(i), this.second.get(i)), otherIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Object[] toArray() {
+    int size = this.size();
+    Object[] result = new Object[size];
+    for (int i = 0; i < size; ++i) {
+      result[i] = this.zipFunction.apply(this.first.get(i), this.second.get(i));
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked") // because arrays don't play well with generics
+  @Override
+  public <T> T[] toArray(T[] a) {
+    int size = this.size();
+    T[] result;
+    if (a.length < size) {
+      result = (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+    } else {
+      result = a;
+    }
+    for (int i = 0; i < size; ++i) {
+      result[i] = (T) this.zipFunction.apply(this.first.get(i), this.second.get(i));
+    }
+    if (result.length > size) {
+      result[size] = null;
+    }
+    return result;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new ZippedListIterator<>(this.zipFunction, this.first.listIterator(), this.second.listIterator());
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return new ZippedListIterator<>(this.zipFunction, this.first.listIterator(), this.second.listIterator());
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    if (index < 0 || index > this.size()) {
+      throw new IndexOutOfBoundsException("invalid index: " + index);
+    }
+    return new ZippedListIterator<>(this.zipFunction, this.first.listIterator(index), this.second.listIterator(index));
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > this.size()) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("invalid from index: " + fromIndex + " to index: " + toIndex);
+    }
+    return new ZippedList<>(this.zipFunction, this.first.subList(fromIndex, toIndex), this.second.subList(fromIndex, toIndex));
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return new ZippedSpliterator<>(this.zipFunction, this.first, this.second, 0, this.size());
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E set(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(int index, E element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public E remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  static final class ZippedListIterator<E, A, B> implements ListIterator<E> {
+
+    private final BiFunction<A, B, E> zipFunction;
+    private final ListIterator<A> first;
+    private final ListIterator<B> second;
+
+    ZippedListIterator(BiFunction<A, B, E> zipFunction, ListIterator<A> first, ListIterator<B> second) {
+      this.zipFunction = zipFunction;
+      this.first = first;
+      this.second = second;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.first.hasNext() && this.second.hasNext();
+    }
+
+    @Override
+    public E next() {
+      return this.zipFunction.apply(this.first.next(), this.second.next());
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (this.first.hasNext() && this.second.hasNext()) {
+        action.accept(this.zipFunction.apply(this.first.next(), this.second.next()));
+      }
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.first.hasPrevious();
+    }
+
+    @Override
+    public E previous() {
+      return this.zipFunction.apply(this.first.previous(), this.second.previous());
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.first.nextIndex();
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.first.previousIndex();
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(E e) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+  static final class ZippedSpliterator<E, A, B> implements Spliterator<E> {
+    // index based so that both lists are always split at the same index
+
+    private final BiFunction<A, B, E> zipFunction;
+    private final List<A> first;
+    private final List<B> second;
+    private int index;
+    private final int fence;
+
+    ZippedSpliterator(BiFunction<A, B, E> zipFunction, List<A> first, List<B> second, int index, int fence) {
+      this.zipFunction = zipFunction;
+      this.first = first;
+      this.second = second;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (this.index < this.fence) {
+        action.accept(this.zipFunction.apply(this.first.get(this.index), this.second.get(this.index)));
+        this.index += 1;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      if (this.index < this.fence) {
+        action.accept(this.zipFunction.apply(this.first.get(this.index), this.second.get(this.index)));
+        this.index += 1;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      int left = this.fence - this.index;
+      if (left <= 1) {
+        return null;
+      }
+      int start = this.index;
+      this.index += left / 2;
+      return new ZippedSpliterator<>(this.zipFunction, this.first, this.second, start, this.index);
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.fence - this.index;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+      return this.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED
+              | Spliterator.SIZED
+              | Spliterator.SUBSIZED;
+    }
+
+  }
+
+}
@@ -0,0 +1,100 @@
+package com.github.marschall.lists;
+
+import java.util.List;
+import java.util.function.Function;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * The Java Flight Recorder events, must only be accessed through
+ * {@link FlightRecorderSupport}.
+ *
+ * <p>Compiled only on JDK 11 or later by the {@code jfr} profile.</p>
+ *
+ * <p>The thresholds can be changed in the JFR settings like for any
+ * other event, eg. {@code com.github.marschall.lists.ListMapping#threshold=100 us}.</p>
+ */
+final class ListEvents implements ListEventEmitter {
+
+  ListEvents() {
+    // instantiated reflectively by FlightRecorderSupport
+  }
+
+  @Override
+  public <O, E> E map(Function<O, E> mapFunction, O element, List<?> list, String operation) {
+    ListMappingEvent event = new ListMappingEvent();
+    if (!event.isEnabled()) {
+      return mapFunction.apply(element);
+    }
+    event.begin();
+    E result = mapFunction.apply(element);
+    event.end();
+    if (event.shouldCommit()) {
+      event.operation = operation;
+      event.size = list.size();
+      event.commit();
+    }
+    return result;
+  }
+
+  @Override
+  public Object beginPass() {
+    ListPassEvent event = new ListPassEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public void commitPass(Object event, Class<?> listClass, String operation, int size) {
+    ListPassEvent passEvent = (ListPassEvent) event;
+    passEvent.end();
+    if (passEvent.shouldCommit()) {
+      passEvent.listClass = listClass;
+      passEvent.operation = operation;
+      passEvent.size = size;
+      passEvent.commit();
+    }
+  }
+
+  @Name("com.github.marschall.lists.ListMapping")
+  @Label("List Mapping")
+  @Description("A slow invocation of the mapping function of a MappedList")
+  @Category({"Java Application", "Lists"})
+  @Threshold("1 ms")
+  static final class ListMappingEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("List Size")
+    int size;
+
+  }
+
+  @Name("com.github.marschall.lists.ListPass")
+  @Label("List Pass")
+  @Description("A slow operation visiting every element of a list")
+  @Category({"Java Application", "Lists"})
+  @Threshold("10 ms")
+  static final class ListPassEvent extends Event {
+
+    @Label("List Class")
+    Class<?> listClass;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("List Size")
+    int size;
+
+  }
+
+}
@@ -0,0 +1,111 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class ArrayMappedListTest {
+
+  @Test
+  public void intList() {
+    int[] array = {1, 2, 3, 4, 5};
+    List<String> list = new IntArrayMappedList<>(Integer::toString, array);
+    assertEquals(Arrays.asList("1", "2", "3", "4", "5"), list);
+    assertEquals("3", list.get(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    assertThrows(UnsupportedOperationException.class, () -> list.set(0, "0"));
+
+    // changes to the array are visible
+    array[0] = 10;
+    assertEquals("10", list.get(0));
+  }
+
+  @Test
+  public void slice() {
+    int[] array = {1, 2, 3, 4, 5};
+    List<Integer> list = new IntArrayMappedList<>(i -> i * 10, array, 1, 4);
+    assertEquals(Arrays.asList(20, 30, 40), list);
+    assertEquals(Arrays.asList(30, 40), list.subList(1, 3));
+    assertEquals(Arrays.asList(30), list.subList(1, 3).subList(0, 1));
+    assertEquals(1, list.indexOf(30));
+    assertEquals(-1, list.indexOf(10));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, 4));
+    assertThrows(IndexOutOfBoundsException.class, () -> new IntArrayMappedList<>(i -> i, array, 2, 6));
+    assertThrows(IndexOutOfBoundsException.class, () -> new IntArrayMappedList<>(i -> i, array, 3, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> new IntArrayMappedList<>(i -> i, array, -1, 2));
+    assertTrue(new IntArrayMappedList<>(i -> i, array, 2, 2).isEmpty());
+  }
+
+  @Test
+  public void longList() {
+    long[] array = {1L, 1L << 40, 3L};
+    List<Long> list = new LongArrayMappedList<>(l -> l + 1L, array);
+    assertEquals(Arrays.asList(2L, (1L << 40) + 1L, 4L), list);
+    assertEquals(Arrays.asList(4L), list.subList(2, 3));
+    assertEquals(list, list.parallelStream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void doubleList() {
+    double[] array = {0.5d, 1.5d, 2.5d, 3.5d};
+    List<String> list = new DoubleArrayMappedList<>(d -> d > 1.0d ? Double.toString(d) : null, array, 0, 3);
+    assertEquals(Arrays.asList(null, "1.5", "2.5"), list);
+    assertNull(list.get(0));
+    assertEquals(list, list.parallelStream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void iterator() {
+    List<Integer> list = new IntArrayMappedList<>(i -> -i, new int[] {1, 2, 3, 4}, 1, 4);
+    ListIterator<Integer> iterator = list.listIterator(1);
+    assertTrue(iterator.hasPrevious());
+    assertEquals(-2, iterator.previous().intValue());
+    assertEquals(-2, iterator.next().intValue());
+    assertEquals(-3, iterator.next().intValue());
+    assertEquals(-4, iterator.next().intValue());
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, iterator::next);
+    assertThrows(UnsupportedOperationException.class, iterator::remove);
+  }
+
+  @Test
+  public void spliterator() {
+    int[] array = new int[1_000_001];
+    for (int i = 0; i < array.length; ++i) {
+      array[i] = i;
+    }
+    List<Integer> list = new IntArrayMappedList<>(i -> i, array, 1, array.length);
+    Spliterator<Integer> spliterator = list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+    Spliterator<Integer> prefix = spliterator.trySplit();
+    assertEquals(500_000L, prefix.getExactSizeIfKnown());
+    assertEquals(500_000L, spliterator.getExactSizeIfKnown());
+    List<Integer> first = new ArrayList<>();
+    prefix.tryAdvance(first::add);
+    spliterator.tryAdvance(first::add);
+    assertEquals(Arrays.asList(1, 500_001), first);
+    assertEquals(500_000_500_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+  }
+
+  @Test
+  public void notImmutable() {
+    // the array is shared with the caller
+    assertFalse(new IntArrayMappedList<>(i -> i, new int[] {1}).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+    assertFalse(new LongArrayMappedList<>(l -> l, new long[] {1L}).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+    assertFalse(new DoubleArrayMappedList<>(d -> d, new double[] {1.0d}).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+  }
+
+}
@@ -0,0 +1,161 @@
+package com.github.marschall.lists;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CyclingListTest {
+
+  private List<String> list;
+  private List<String> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.list = new CyclingList<>(Arrays.asList("a", "b", "c"), 3);
+    this.equalList = Arrays.asList("a", "b", "c", "a", "b", "c", "a", "b", "c");
+  }
+
+  @Test
+  public void size() {
+    assertThat(this.list, hasSize(9));
+    assertTrue(new CyclingList<>(Collections.emptyList(), 5).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> new CyclingList<>(Arrays.asList("a", "b"), Integer.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> new CyclingList<>(Arrays.asList("a", "b"), 0));
+  }
+
+  @Test
+  public void get() {
+    for (int i = 0; i < this.equalList.size(); ++i) {
+      assertEquals(this.equalList.get(i), this.list.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(9));
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void contains() {
+    assertTrue(this.list.contains("c"));
+    assertFalse(this.list.contains("d"));
+  }
+
+  @Test
+  public void indexOf() {
+    assertEquals(1, this.list.indexOf("b"));
+    assertEquals(7, this.list.lastIndexOf("b"));
+    assertEquals(-1, this.list.indexOf("d"));
+    assertEquals(-1, this.list.lastIndexOf("d"));
+  }
+
+  @Test
+  public void equals() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertFalse(this.list.equals(this.equalList.subList(0, 8)));
+  }
+
+  @Test
+  public void testHashCode() {
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+    for (int cycles = 1; cycles < 20; ++cycles) {
+      List<String> base = Arrays.asList("a", null, "c", "d");
+      assertEquals(new ArrayList<>(new CyclingList<>(base, cycles)).hashCode(), new CyclingList<>(base, cycles).hashCode());
+    }
+    assertEquals(1, new CyclingList<>(Collections.emptyList(), 3).hashCode());
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals(this.equalList.toString(), this.list.toString());
+  }
+
+  @Test
+  public void toArray() {
+    assertArrayEquals(this.equalList.toArray(), this.list.toArray());
+    assertArrayEquals(this.equalList.toArray(new String[0]), this.list.toArray(new String[0]));
+    String[] longEnough = new String[10];
+    assertSame(longEnough, this.list.toArray(longEnough));
+    assertArrayEquals(this.equalList.toArray(new String[10]), longEnough);
+  }
+
+  @Test
+  public void subList() {
+    assertEquals(this.equalList.subList(3, 9), this.list.subList(3, 9));
+    assertTrue(this.list.subList(3, 9) instanceof CyclingList);
+    assertSame(this.list, this.list.subList(0, 9));
+    assertEquals(this.equalList.subList(4, 6), this.list.subList(4, 6));
+    assertEquals(this.equalList.subList(2, 7), this.list.subList(2, 7));
+    assertEquals(this.equalList.subList(3, 4), this.list.subList(2, 7).subList(1, 2));
+    assertEquals(Collections.emptyList(), this.list.subList(4, 4));
+
+    assertThrows(UnsupportedOperationException.class, () -> this.list.subList(4, 6).set(0, "x"));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(-1, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(0, 10));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(1, 0));
+  }
+
+  @Test
+  public void listIterator() {
+    ListIterator<String> iterator = this.list.listIterator(4);
+    assertEquals("b", iterator.next());
+    assertEquals("c", iterator.next());
+    assertEquals("c", iterator.previous());
+    assertEquals(5, iterator.nextIndex());
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+  }
+
+  @Test
+  public void spliterator() {
+    assertEquals(this.equalList, this.list.stream().collect(Collectors.toList()));
+    assertEquals(this.equalList, this.list.parallelStream().collect(Collectors.toList()));
+    assertEquals(9L, this.list.stream().count());
+
+    Spliterator<String> spliterator = this.list.spliterator();
+    assertEquals(9L, spliterator.getExactSizeIfKnown());
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertEquals(3L, prefix.getExactSizeIfKnown());
+    assertEquals(6L, spliterator.getExactSizeIfKnown());
+
+    assertTrue(spliterator.tryAdvance(each -> assertEquals("a", each)));
+    assertEquals(5L, spliterator.getExactSizeIfKnown());
+    Spliterator<String> inProgress = spliterator.trySplit();
+    assertEquals(2L, inProgress.getExactSizeIfKnown());
+    assertEquals(3L, spliterator.getExactSizeIfKnown());
+  }
+
+  @Test
+  public void largeParallel() {
+    List<Integer> base = Arrays.asList(1, 2, 3, 4, 5, 6, 7);
+    List<Integer> list = new CyclingList<>(base, 100_000);
+    assertEquals(28L * 100_000, list.parallelStream().mapToLong(Integer::longValue).sum());
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.set(0, "x"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add("x"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.remove(0));
+  }
+
+}
@@ -0,0 +1,108 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DeclaredSortedListTest {
+
+  private DeclaredSortedList<String> list;
+  private List<String> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.equalList = Arrays.asList("a", "b", "b", "c", "e");
+    this.list = new DeclaredSortedList<>(this.equalList, null);
+  }
+
+  @Test
+  public void search() {
+    assertTrue(this.list.contains("c"));
+    assertFalse(this.list.contains("d"));
+    assertEquals(1, this.list.indexOf("b"));
+    assertEquals(2, this.list.lastIndexOf("b"));
+    assertEquals(-1, this.list.indexOf("f"));
+    assertEquals(-1, this.list.lastIndexOf("0"));
+  }
+
+  @Test
+  public void searchIncomparable() {
+    assertFalse(this.list.contains(null));
+    assertEquals(-1, this.list.indexOf(null));
+    assertEquals(-1, this.list.lastIndexOf(null));
+    assertFalse(this.list.contains(1));
+    assertEquals(-1, this.list.indexOf(1));
+    assertEquals(-1, this.list.lastIndexOf(1));
+  }
+
+  @Test
+  public void ranges() {
+    assertEquals(1, this.list.headIndex("b", false));
+    assertEquals(3, this.list.headIndex("b", true));
+    assertEquals(1, this.list.tailIndex("b", true));
+    assertEquals(3, this.list.tailIndex("b", false));
+    assertEquals(4, this.list.tailIndex("d", true));
+    assertEquals(Arrays.asList("b", "b", "c"), this.list.subList(this.list.tailIndex("b", true), this.list.headIndex("d", false)));
+  }
+
+  @Test
+  public void comparator() {
+    DeclaredSortedList<String> reversed = new DeclaredSortedList<>(Arrays.asList("e", "c", "b", "a"), Comparator.reverseOrder());
+    assertEquals(1, reversed.indexOf("c"));
+    assertEquals(2, reversed.tailIndex("b", true));
+    assertTrue(reversed.spliterator().hasCharacteristics(Spliterator.SORTED));
+    assertSame(reversed.comparator(), reversed.spliterator().getComparator());
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+    assertEquals(this.equalList.toString(), this.list.toString());
+  }
+
+  @Test
+  public void subList() {
+    assertEquals(this.equalList.subList(1, 4), this.list.subList(1, 4));
+    assertEquals(1, this.list.subList(1, 4).lastIndexOf("b"));
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void forEach() {
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+    assertEquals(this.equalList, ListTestUtil.collect(this.list.stream()));
+  }
+
+  @Test
+  public void spliterator() {
+    Spliterator<String> spliterator = this.list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.SIZED));
+    assertEquals(null, spliterator.getComparator());
+    // sorted() is a no-op for naturally sorted spliterators
+    assertEquals(this.equalList, ListTestUtil.collect(this.list.stream().sorted()));
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.set(0, "a"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add("a"));
+  }
+
+}
@@ -0,0 +1,213 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DictionaryListTest {
+
+  private List<String> list;
+  private List<String> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.equalList = Arrays.asList("CHF", "EUR", "CHF", null, "USD", "EUR");
+    this.list = DictionaryList.copyOf(this.equalList);
+  }
+
+  @Test
+  public void get() {
+    for (int i = 0; i < this.equalList.size(); ++i) {
+      assertEquals(this.equalList.get(i), this.list.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(6));
+    assertEquals(6, this.list.size());
+    assertTrue(DictionaryList.copyOf(new ArrayList<>()).isEmpty());
+  }
+
+  @Test
+  public void distinctValues() {
+    assertEquals(Arrays.asList("CHF", "EUR", null, "USD"), ((DictionaryList<String>) this.list).distinctValues());
+  }
+
+  @Test
+  public void contains() {
+    assertTrue(this.list.contains("EUR"));
+    assertTrue(this.list.contains(null));
+    assertFalse(this.list.contains("GBP"));
+    assertEquals(1, this.list.indexOf("EUR"));
+    assertEquals(5, this.list.lastIndexOf("EUR"));
+    assertEquals(-1, this.list.indexOf("GBP"));
+    List<String> subList = this.list.subList(2, 5);
+    assertFalse(subList.contains("EUR"));
+    assertEquals(0, subList.indexOf("CHF"));
+    assertEquals(0, subList.lastIndexOf("CHF"));
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+    assertEquals(this.equalList.toString(), this.list.toString());
+    assertEquals(this.equalList.subList(1, 4), this.list.subList(1, 4));
+    assertEquals(this.equalList.subList(1, 4).hashCode(), this.list.subList(1, 4).hashCode());
+    assertEquals(this.list.subList(0, 1), this.list.subList(2, 3));
+    assertFalse(this.list.subList(0, 1).equals(this.list.subList(1, 2)));
+  }
+
+  @Test
+  public void toArray() {
+    assertArrayEquals(this.equalList.toArray(), this.list.toArray());
+    String[] array = new String[7];
+    array[6] = "x";
+    assertArrayEquals(this.equalList.toArray(new String[0]), this.list.toArray(new String[0]));
+    this.list.toArray(array);
+    assertNull(array[6]);
+  }
+
+  @Test
+  public void iteration() {
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+    assertEquals(this.equalList, ListTestUtil.collect(this.list.stream()));
+    assertEquals(this.equalList, this.list.parallelStream().collect(Collectors.toList()));
+    ListIterator<String> iterator = this.list.listIterator(6);
+    assertEquals("EUR", iterator.previous());
+    assertEquals(4, iterator.previousIndex());
+  }
+
+  @Test
+  public void spliterator() {
+    Spliterator<String> spliterator = this.list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    assertEquals(3L, prefix.estimateSize());
+    assertEquals(3L, spliterator.estimateSize());
+    assertEquals(this.equalList.subList(0, 3), StreamSupport.stream(prefix, false).collect(Collectors.toList()));
+    assertEquals(this.equalList.subList(3, 6), StreamSupport.stream(spliterator, false).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void subList() {
+    assertEquals(this.equalList.subList(1, 5), this.list.subList(1, 5));
+    assertEquals(this.equalList.subList(2, 3), this.list.subList(1, 5).subList(1, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(-1, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(3, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(0, 7));
+  }
+
+  @Test
+  public void shortCodes() {
+    List<Integer> expected = IntStream.range(0, 10_000)
+            .mapToObj(i -> i % 1000)
+            .collect(Collectors.toList());
+    DictionaryList<Integer> encoded = expected.stream().collect(DictionaryList.toDictionaryList());
+    assertEquals(expected, encoded);
+    assertEquals(1000, encoded.distinctValues().size());
+    assertEquals(999, encoded.indexOf(999));
+    assertEquals(9999, encoded.lastIndexOf(999));
+    assertEquals(expected.hashCode(), encoded.hashCode());
+
+    DictionaryList<Integer> parallel = expected.parallelStream().collect(DictionaryList.toDictionaryList());
+    assertEquals(expected, parallel);
+  }
+
+  @Test
+  public void lookup() {
+    // "Aa" and "BB" have the same hash code
+    DictionaryList<String> collisions = DictionaryList.copyOf(Arrays.asList("Aa", "BB", "Aa", "C"));
+    assertEquals(1, collisions.indexOf("BB"));
+    assertEquals(2, collisions.lastIndexOf("Aa"));
+    assertEquals(-1, collisions.indexOf("Bb"));
+
+    DictionaryList.Builder<Integer> builder = DictionaryList.builder();
+    for (int i = 0; i < DictionaryList.MAX_SHORT_CARDINALITY; ++i) {
+      builder.add(i);
+    }
+    DictionaryList<Integer> full = builder.build();
+    for (int i = 0; i < DictionaryList.MAX_SHORT_CARDINALITY; i += 97) {
+      assertEquals(i, full.indexOf(i));
+    }
+    assertFalse(full.contains(-1));
+    assertEquals(Arrays.asList(2, 3), full.subList(2, 4));
+    assertEquals(1, full.subList(2, 4).indexOf(3));
+  }
+
+  @Test
+  public void hashCodeCached() {
+    AtomicInteger invocations = new AtomicInteger();
+    class Counting {
+      @Override
+      public int hashCode() {
+        invocations.incrementAndGet();
+        return 1;
+      }
+    }
+    Counting element = new Counting();
+    DictionaryList<Counting> list = DictionaryList.copyOf(Arrays.asList(element, element, element));
+    int built = invocations.get();
+    assertEquals(Arrays.asList(element, element, element).hashCode(), list.hashCode());
+    assertEquals(built + 3, invocations.get());
+    list.hashCode();
+    list.subList(0, 2).hashCode();
+    assertEquals(built + 3, invocations.get());
+  }
+
+  @Test
+  public void addAllSelf() {
+    DictionaryList.Builder<String> builder = DictionaryList.builder();
+    builder.add("CHF").add("EUR");
+    builder.addAll(builder);
+    assertEquals(Arrays.asList("CHF", "EUR", "CHF", "EUR"), builder.build());
+  }
+
+  @Test
+  public void tooManyDistinctValues() {
+    DictionaryList.Builder<Integer> builder = DictionaryList.builder();
+    for (int i = 0; i < DictionaryList.MAX_SHORT_CARDINALITY; ++i) {
+      builder.add(i);
+    }
+    assertThrows(IllegalArgumentException.class, () -> builder.add(-1));
+    builder.add(0);
+    assertEquals(DictionaryList.MAX_SHORT_CARDINALITY + 1, builder.build().size());
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    List<String> copy = (List<String>) ListTestUtil.copy(this.list);
+    assertEquals(this.equalList, copy);
+    assertEquals(this.equalList.hashCode(), copy.hashCode());
+    assertEquals(4, copy.indexOf("USD"));
+    assertTrue(copy.contains(null));
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add("GBP"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.set(0, "GBP"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.remove(0));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.clear());
+  }
+
+}
@@ -0,0 +1,80 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class FieldListTest {
+
+  private static List<List<String>> lists() {
+    return Arrays.asList(
+            new PairList<>("0", "1"),
+            new TripleList<>("0", "1", "2"),
+            new QuadrupleList<>("0", "1", "2", "3"),
+            new QuintupleList<>("0", "1", "2", "3", "4"),
+            new SextupleList<>("0", "1", "2", "3", "4", "5"),
+            new SeptupleList<>("0", "1", "2", "3", "4", "5", "6"),
+            new OctupleList<>("0", "1", "2", "3", "4", "5", "6", "7"));
+  }
+
+  private static List<String> expected(int size) {
+    List<String> expected = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) {
+      expected.add(Integer.toString(i));
+    }
+    return expected;
+  }
+
+  @Test
+  public void sameAsArrayList() {
+    for (List<String> list : lists()) {
+      List<String> expected = expected(list.size());
+
+      assertEquals(expected, list);
+      assertEquals(list, expected);
+      assertEquals(expected.hashCode(), list.hashCode());
+      assertEquals(expected.toString(), list.toString());
+      assertArrayEquals(expected.toArray(), list.toArray());
+      assertArrayEquals(expected.toArray(new String[0]), list.toArray(new String[0]));
+      assertEquals(expected, ListTestUtil.collect(list));
+      assertEquals(expected, ListTestUtil.collect(list.stream()));
+      assertEquals(expected, list.parallelStream().collect(Collectors.toList()));
+      assertEquals(expected.subList(1, list.size() - 1), list.subList(1, list.size() - 1));
+      for (int i = 0; i < list.size(); ++i) {
+        assertEquals(expected.get(i), list.get(i));
+        assertEquals(i, list.indexOf(expected.get(i)));
+        assertEquals(i, list.lastIndexOf(expected.get(i)));
+      }
+    }
+  }
+
+  @Test
+  public void set() {
+    for (List<String> list : lists()) {
+      int size = list.size();
+      for (int i = 0; i < size; ++i) {
+        assertEquals(Integer.toString(i), list.set(i, "x" + i));
+        assertEquals("x" + i, list.get(i));
+      }
+      assertThrows(IndexOutOfBoundsException.class, () -> list.set(size, "x"));
+      assertThrows(IndexOutOfBoundsException.class, () -> list.get(size));
+      assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    for (List<String> list : lists()) {
+      assertEquals(list, ListTestUtil.copy(list));
+    }
+  }
+
+}
@@ -0,0 +1,156 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FilteredListTest {
+
+  private List<Integer> list;
+  private List<Integer> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.list = new FilteredList<>(even(), Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8));
+    this.equalList = Arrays.asList(0, 2, 4, 6, 8);
+  }
+
+  private static Predicate<Integer> even() {
+    return (Predicate<Integer> & Serializable) i -> i % 2 == 0;
+  }
+
+  @Test
+  public void lazy() {
+    AtomicInteger tested = new AtomicInteger();
+    List<Integer> lazy = new FilteredList<>(i -> {
+      tested.incrementAndGet();
+      return i % 2 == 0;
+    }, Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8));
+
+    assertEquals(Integer.valueOf(2), lazy.get(1));
+    assertEquals(3, tested.get());
+    assertEquals(Integer.valueOf(0), lazy.get(0));
+    assertEquals(3, tested.get());
+    assertFalse(lazy.isEmpty());
+    assertEquals(3, tested.get());
+
+    assertEquals(5, lazy.size());
+    assertEquals(9, tested.get());
+    assertEquals(Integer.valueOf(6), lazy.get(3));
+    assertEquals(9, tested.get());
+  }
+
+  @Test
+  public void get() {
+    for (int i = 0; i < this.equalList.size(); ++i) {
+      assertEquals(this.equalList.get(i), this.list.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(5));
+  }
+
+  @Test
+  public void size() {
+    assertEquals(5, this.list.size());
+    assertTrue(new FilteredList<>(even(), Arrays.asList(1, 3)).isEmpty());
+    assertTrue(new FilteredList<>(even(), Collections.emptyList()).isEmpty());
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    this.list.get(2);
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void contains() {
+    assertTrue(this.list.contains(4));
+    assertFalse(this.list.contains(3));
+    assertEquals(2, this.list.indexOf(4));
+    assertEquals(-1, this.list.indexOf(3));
+    assertEquals(2, this.list.lastIndexOf(4));
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+    assertEquals(this.equalList.toString(), this.list.toString());
+  }
+
+  @Test
+  public void toArray() {
+    assertArrayEquals(this.equalList.toArray(), this.list.toArray());
+    assertArrayEquals(this.equalList.toArray(new Integer[0]), this.list.toArray(new Integer[0]));
+  }
+
+  @Test
+  public void iterator() {
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+    ListIterator<Integer> iterator = this.list.listIterator(3);
+    assertEquals(Integer.valueOf(6), iterator.next());
+    assertEquals(Integer.valueOf(8), iterator.next());
+    assertFalse(iterator.hasNext());
+    assertEquals(Integer.valueOf(8), iterator.previous());
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.listIterator(6));
+  }
+
+  @Test
+  public void subList() {
+    assertEquals(this.equalList.subList(1, 4), this.list.subList(1, 4));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(0, 6));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(2, 1));
+  }
+
+  @Test
+  public void spliterator() {
+    List<Integer> fresh = new FilteredList<>(even(), Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8));
+    Spliterator<Integer> filtering = fresh.spliterator();
+    assertFalse(filtering.hasCharacteristics(Spliterator.SIZED));
+    assertEquals(this.equalList, fresh.stream().collect(Collectors.toList()));
+
+    fresh.size();
+    Spliterator<Integer> indexed = fresh.spliterator();
+    assertTrue(indexed.hasCharacteristics(Spliterator.SIZED));
+    assertEquals(5L, indexed.getExactSizeIfKnown());
+    assertEquals(this.equalList, fresh.stream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void parallel() {
+    List<Integer> source = new ArrayList<>();
+    IntStream.range(0, 100_000).forEach(source::add);
+    List<Integer> filtered = new FilteredList<>(i -> i % 3 == 0, source);
+    List<Integer> expected = source.stream().filter(i -> i % 3 == 0).collect(Collectors.toList());
+    assertEquals(expected, filtered.parallelStream().collect(Collectors.toList()));
+    assertEquals(expected.size(), filtered.size());
+    assertEquals(expected, filtered.parallelStream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.set(0, 1));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add(1));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.remove(0));
+  }
+
+}
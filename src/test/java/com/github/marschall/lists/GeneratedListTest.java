@@ -0,0 +1,133 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GeneratedListTest {
+
+  private List<String> list;
+  private List<String> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.list = new GeneratedList<>(5, generator());
+    this.equalList = Arrays.asList("0", "1", "2", "3", "4");
+  }
+
+  private static IntFunction<String> generator() {
+    return (IntFunction<String> & Serializable) Integer::toString;
+  }
+
+  @Test
+  public void size() {
+    assertEquals(5, this.list.size());
+    assertFalse(this.list.isEmpty());
+    assertTrue(new GeneratedList<>(0, generator()).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> new GeneratedList<>(-1, generator()));
+  }
+
+  @Test
+  public void get() {
+    for (int i = 0; i < this.equalList.size(); ++i) {
+      assertEquals(this.equalList.get(i), this.list.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(5));
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void contains() {
+    assertTrue(this.list.contains("3"));
+    assertFalse(this.list.contains("5"));
+    assertEquals(3, this.list.indexOf("3"));
+    assertEquals(3, this.list.lastIndexOf("3"));
+    assertEquals(-1, this.list.indexOf("5"));
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+    assertEquals(this.equalList.toString(), this.list.toString());
+  }
+
+  @Test
+  public void toArray() {
+    assertArrayEquals(this.equalList.toArray(), this.list.toArray());
+    assertArrayEquals(this.equalList.toArray(new String[0]), this.list.toArray(new String[0]));
+    String[] longEnough = new String[] {"x", "x", "x", "x", "x", "x"};
+    assertSame(longEnough, this.list.toArray(longEnough));
+    assertNull(longEnough[5]);
+  }
+
+  @Test
+  public void subList() {
+    List<String> subList = this.list.subList(1, 4);
+    assertEquals(this.equalList.subList(1, 4), subList);
+    assertTrue(subList instanceof GeneratedList);
+    assertEquals(this.equalList.subList(2, 3), subList.subList(1, 2));
+    assertEquals(Collections.emptyList(), this.list.subList(2, 2));
+    assertSame(this.list, this.list.subList(0, 5));
+
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(-1, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(0, 6));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(3, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> subList.get(3));
+  }
+
+  @Test
+  public void listIterator() {
+    ListIterator<String> iterator = this.list.subList(1, 4).listIterator(1);
+    assertEquals("2", iterator.next());
+    assertEquals("3", iterator.next());
+    assertFalse(iterator.hasNext());
+    assertEquals("3", iterator.previous());
+    assertEquals(2, iterator.nextIndex());
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+  }
+
+  @Test
+  public void spliterator() {
+    assertEquals(this.equalList, this.list.stream().collect(Collectors.toList()));
+    assertEquals(this.equalList.subList(1, 4), this.list.subList(1, 4).parallelStream().collect(Collectors.toList()));
+
+    Spliterator<String> spliterator = this.list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED | Spliterator.IMMUTABLE));
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertEquals(2L, prefix.getExactSizeIfKnown());
+    assertEquals(3L, spliterator.getExactSizeIfKnown());
+    assertTrue(spliterator.tryAdvance(each -> assertEquals("2", each)));
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.set(0, "x"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add("x"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.sort(null));
+  }
+
+}
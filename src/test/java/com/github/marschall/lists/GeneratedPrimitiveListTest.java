@@ -0,0 +1,56 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class GeneratedPrimitiveListTest {
+
+  @Test
+  public void intList() {
+    GeneratedIntList list = new GeneratedIntList(5, i -> i * i);
+    assertEquals(Arrays.asList(0, 1, 4, 9, 16), list);
+    assertEquals(9, list.getInt(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(5));
+    assertArrayEquals(new int[] {1, 4, 9}, ((GeneratedIntList) list.subList(1, 4)).intStream().toArray());
+    assertEquals(30, list.intStream().sum());
+    assertEquals(30, list.stream().mapToInt(Integer::intValue).sum());
+    assertTrue(list.spliterator().hasCharacteristics(Spliterator.NONNULL | Spliterator.SUBSIZED));
+  }
+
+  @Test
+  public void longList() {
+    GeneratedLongList list = new GeneratedLongList(4, i -> 1L << (i * 20));
+    assertEquals(Arrays.asList(1L, 1L << 20, 1L << 40, 1L << 60), list);
+    assertEquals(1L << 40, list.getLong(2));
+    assertEquals(1L << 60, ((GeneratedLongList) list.subList(2, 4)).getLong(1));
+    assertEquals(list.stream().mapToLong(Long::longValue).sum(), list.longStream().sum());
+  }
+
+  @Test
+  public void doubleList() {
+    GeneratedDoubleList list = new GeneratedDoubleList(4, i -> i * 0.5d);
+    assertEquals(Arrays.asList(0.0d, 0.5d, 1.0d, 1.5d), list);
+    assertEquals(1.0d, list.getDouble(2));
+    assertEquals(3.0d, list.doubleStream().sum());
+    assertEquals(list, list.parallelStream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void parallel() {
+    GeneratedLongList list = new GeneratedLongList(1_000_000, i -> i);
+    Spliterator.OfLong spliterator = list.longSpliterator();
+    Spliterator.OfLong prefix = spliterator.trySplit();
+    assertEquals(500_000L, prefix.getExactSizeIfKnown());
+    assertEquals(500_000L, spliterator.getExactSizeIfKnown());
+    assertEquals(499_999_500_000L, list.parallelStream().mapToLong(Long::longValue).sum());
+  }
+
+}
@@ -0,0 +1,150 @@
+package com.github.marschall.lists;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ListChannelsTest {
+
+  private static <E> byte[] write(List<? extends E> list, ElementCodec<? super E> codec, int bufferSize) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ListChannels.write(list, codec, Channels.newChannel(output), ByteBuffer.allocateDirect(bufferSize));
+    return output.toByteArray();
+  }
+
+  private static <E> List<E> read(byte[] bytes, ElementCodec<E> codec, int bufferSize) throws IOException {
+    return ListChannels.read(Channels.newChannel(new ByteArrayInputStream(bytes)), codec, ByteBuffer.allocate(bufferSize));
+  }
+
+  @Test
+  public void integers() throws IOException {
+    List<Integer> list = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+    byte[] bytes = write(list, ElementCodecs.integers(), 64);
+    assertEquals(ListChannels.HEADER_SIZE + 4 * 1000, bytes.length);
+    assertEquals(list, read(bytes, ElementCodecs.integers(), 64));
+    assertEquals(list, read(bytes, ElementCodecs.integers(), ListChannels.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  public void mappedList() throws IOException {
+    List<Long> list = new MappedList<>(i -> i * 3L, Arrays.asList(1, 2, 3));
+    assertEquals(list, read(write(list, ElementCodecs.longs(), 16), ElementCodecs.longs(), 16));
+    List<Double> doubles = new MappedList<>(i -> i / 2.0d, Arrays.asList(1, 2, 3));
+    assertEquals(doubles, read(write(doubles, ElementCodecs.doubles(), 16), ElementCodecs.doubles(), 16));
+  }
+
+  @Test
+  public void strings() throws IOException {
+    List<String> list = Arrays.asList("a", "", "ä€😀", "\ud800", "longer than the buffer size");
+    for (String each : list) {
+      assertEquals(each.getBytes(StandardCharsets.UTF_8).length, ElementCodecs.strings().encodedSize(each));
+    }
+    byte[] bytes = write(list, ElementCodecs.strings(), 16);
+    List<String> expected = new ArrayList<>(list);
+    // unpaired surrogates can not be encoded
+    expected.set(3, "?");
+    assertEquals(expected, read(bytes, ElementCodecs.strings(), 16));
+  }
+
+  @Test
+  public void nullable() throws IOException {
+    List<Integer> list = Arrays.asList(1, null, 3);
+    ElementCodec<Integer> codec = ElementCodecs.nullable(ElementCodecs.integers());
+    byte[] bytes = write(list, codec, 16);
+    assertEquals(ListChannels.HEADER_SIZE + 5 * 3, bytes.length);
+    assertEquals(list, read(bytes, codec, 16));
+
+    List<String> strings = Arrays.asList("a", null);
+    ElementCodec<String> stringCodec = ElementCodecs.nullable(ElementCodecs.strings());
+    assertEquals(strings, read(write(strings, stringCodec, 16), stringCodec, 16));
+  }
+
+  @Test
+  public void repeating() throws IOException {
+    List<String> list = new RepeatingList<>("value", 1_000_000);
+    byte[] bytes = write(list, ElementCodecs.strings(), 64);
+    assertEquals(ListChannels.HEADER_SIZE + 4 + 5, bytes.length);
+    List<String> read = read(bytes, ElementCodecs.strings(), 64);
+    assertTrue(read instanceof RepeatingList);
+    assertEquals(list, read);
+  }
+
+  @Test
+  public void empty() throws IOException {
+    byte[] bytes = write(Collections.<Integer>emptyList(), ElementCodecs.integers(), 16);
+    assertEquals(Collections.emptyList(), read(bytes, ElementCodecs.integers(), 16));
+  }
+
+  @Test
+  public void corrupted() throws IOException {
+    byte[] bytes = write(Arrays.asList(1, 2), ElementCodecs.integers(), 16);
+    assertThrows(EOFException.class, () -> read(Arrays.copyOf(bytes, bytes.length - 1), ElementCodecs.integers(), 16));
+    bytes[0] = 0;
+    assertThrows(StreamCorruptedException.class, () -> read(bytes, ElementCodecs.integers(), 16));
+  }
+
+  @Test
+  public void map() throws IOException {
+    Path file = Files.createTempFile("list", ".bin");
+    try {
+      List<String> list = Arrays.asList("one", "two", "three");
+      try (FileChannel channel = FileChannel.open(file, WRITE, TRUNCATE_EXISTING)) {
+        ListChannels.write(list, ElementCodecs.strings(), channel);
+      }
+      List<String> view;
+      try (FileChannel channel = FileChannel.open(file, READ)) {
+        view = ListChannels.map(channel, ElementCodecs.strings());
+      }
+      assertEquals(list, view);
+      assertEquals("three", view.get(2));
+      assertEquals(list, view.parallelStream().collect(Collectors.toList()));
+      assertThrows(IndexOutOfBoundsException.class, () -> view.get(3));
+      assertThrows(UnsupportedOperationException.class, () -> view.set(0, "zero"));
+
+      List<Long> longs = Arrays.asList(1L, 2L, 3L);
+      try (FileChannel channel = FileChannel.open(file, WRITE, TRUNCATE_EXISTING)) {
+        ListChannels.write(longs, ElementCodecs.longs(), channel);
+      }
+      try (FileChannel channel = FileChannel.open(file, READ)) {
+        assertEquals(longs, ListChannels.map(channel, ElementCodecs.longs()));
+      }
+
+      try (FileChannel channel = FileChannel.open(file, WRITE, TRUNCATE_EXISTING)) {
+        ListChannels.write(new RepeatingList<>(7L, 3), ElementCodecs.longs(), channel);
+      }
+      try (FileChannel channel = FileChannel.open(file, READ)) {
+        List<Long> repeating = ListChannels.map(channel, ElementCodecs.longs());
+        assertTrue(repeating instanceof RepeatingList);
+        assertEquals(Arrays.asList(7L, 7L, 7L), repeating);
+      }
+    } finally {
+      Files.delete(file);
+    }
+    assertFalse(Files.exists(file));
+  }
+
+}
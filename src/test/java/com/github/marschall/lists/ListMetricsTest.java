@@ -0,0 +1,105 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ListMetricsTest {
+
+  private ListMetrics metrics;
+  private List<String> list;
+
+  @BeforeEach
+  public void setUp() {
+    this.metrics = new ListMetrics("test");
+    this.list = this.metrics.instrument(new MappedList<>(this.metrics.instrument(Object::toString), Arrays.asList(1, 2, 3)));
+  }
+
+  @Test
+  public void counts() {
+    assertEquals("2", this.list.get(1));
+    assertEquals(3, this.list.size());
+    assertTrue(this.list.contains("3"));
+    assertTrue(this.list.equals(Arrays.asList("1", "2", "3")));
+    ListTestUtil.collect(this.list);
+
+    assertEquals(1L, this.metrics.getStatistics(ListOperation.GET).getCount());
+    assertEquals(1L, this.metrics.getStatistics(ListOperation.SIZE).getCount());
+    assertEquals(1L, this.metrics.getStatistics(ListOperation.CONTAINS).getCount());
+    assertEquals(1L, this.metrics.getStatistics(ListOperation.EQUALS).getCount());
+    assertEquals(1L, this.metrics.getStatistics(ListOperation.FOR_EACH).getCount());
+    // get, contains, equals and forEach
+    assertEquals(1L + 3L + 3L + 3L, this.metrics.getStatistics(ListOperation.MAP).getCount());
+    assertEquals(3L, this.metrics.getTraversalCount());
+
+    OperationStatistics get = this.metrics.getStatistics(ListOperation.GET);
+    long timed = Arrays.stream(get.getHistogram()).sum();
+    assertEquals(1L, timed);
+    assertTrue(get.getPercentileNanos(0.99d) >= get.getTotalNanos());
+  }
+
+  @Test
+  public void subList() {
+    List<String> subList = this.list.subList(1, 3);
+    assertEquals("3", subList.get(1));
+    assertEquals(1L, this.metrics.getStatistics(ListOperation.SUB_LIST).getCount());
+    assertEquals(1L, this.metrics.getStatistics(ListOperation.GET).getCount());
+  }
+
+  @Test
+  public void disabled() {
+    this.metrics.setEnabled(false);
+    assertFalse(this.metrics.isEnabled());
+    assertEquals("2", this.list.get(1));
+    this.list.iterator();
+    for (OperationStatistics statistics : this.metrics.snapshot().values()) {
+      assertEquals(0L, statistics.getCount());
+    }
+  }
+
+  @Test
+  public void reset() {
+    this.list.get(0);
+    this.metrics.reset();
+    assertEquals(0L, this.metrics.getStatistics(ListOperation.GET).getCount());
+    assertEquals(0L, this.metrics.getStatistics(ListOperation.GET).getHistogram()[0]);
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    Object copy = ListTestUtil.copy(this.metrics.instrument(Arrays.asList("1", "2")));
+    assertEquals(Arrays.asList("1", "2"), copy);
+    assertFalse(copy.getClass().getName().endsWith("InstrumentedList"));
+  }
+
+  @Test
+  public void mbean() throws JMException {
+    ObjectName objectName = this.metrics.registerMBean();
+    try {
+      this.list.get(0);
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      assertEquals(Boolean.TRUE, server.getAttribute(objectName, "Enabled"));
+      assertEquals(0L, server.getAttribute(objectName, "TraversalCount"));
+      Map<String, Long> counts = this.metrics.getCounts();
+      assertEquals(Long.valueOf(1L), counts.get("GET"));
+      server.invoke(objectName, "reset", new Object[0], new String[0]);
+      assertEquals(Long.valueOf(0L), this.metrics.getCounts().get("GET"));
+    } finally {
+      this.metrics.unregisterMBean();
+    }
+  }
+
+}
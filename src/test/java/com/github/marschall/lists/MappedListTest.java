@@ -3,23 +3,33 @@ package com.github.marschall.lists;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.github.marschall.lists.MappedList.MappedSpliterator;
+
 public class MappedListTest {
 
   private List<String> list;
@@ -67,6 +77,28 @@ public class MappedListTest {
     assertEquals(this.equalList, ListTestUtil.copy(this.list));
   }
 
+  @Test
+  public void serializeValues() throws ClassNotFoundException, IOException {
+    // neither the function nor the delegate are serializable
+    Object source = new Object();
+    Function<Integer, String> notSerializable = i -> source.hashCode() > Integer.MIN_VALUE ? i.toString() : null;
+    List<Integer> delegate = Collections.unmodifiableList(new ArrayList<>(Collections.nCopies(2500, 7)));
+    MappedList<String, Integer> mapped = new MappedList<>(notSerializable, delegate).withValueSerialization();
+    assertSame(mapped, mapped.withValueSerialization());
+
+    @SuppressWarnings("unchecked")
+    List<String> copy = (List<String>) ListTestUtil.copy(mapped);
+    assertEquals(mapped, copy);
+    assertEquals(Collections.nCopies(2500, "7"), copy);
+    assertThrows(UnsupportedOperationException.class, () -> copy.set(0, "8"));
+    assertTrue(copy.spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+
+    // sub lists and reversed views keep the mode
+    assertEquals(Collections.nCopies(3, "7"), ListTestUtil.copy(mapped.subList(1, 4)));
+    assertEquals(Collections.emptyList(), ListTestUtil.copy(mapped.subList(1, 1)));
+    assertEquals(Collections.nCopies(2500, "7"), ListTestUtil.copy(mapped.reversed()));
+  }
+
   @Test
   public void isEmpty() {
     assertFalse(this.list.isEmpty());
@@ -220,6 +252,136 @@ public class MappedListTest {
     assertSame(longEnough, this.list.toArray(longEnough));
   }
 
+  @Test
+  public void reversed() {
+    MappedList<String, Integer> mapped = new MappedList<>(identity(), Arrays.asList(0, 1, 2),
+            MappingProperties.<String>none().sorted(null).distinct());
+    assertEquals(Arrays.asList("2", "1", "0"), mapped.reversed());
+    assertEquals("0", mapped.getFirst());
+    assertEquals("2", mapped.getLast());
+    Spliterator<String> spliterator = mapped.reversed().spliterator();
+    assertFalse(spliterator.hasCharacteristics(Spliterator.SORTED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+    assertThrows(NoSuchElementException.class, () -> new MappedList<>(identity(), Collections.emptyList()).getFirst());
+  }
+
+  @Test
+  public void spliteratorCharacteristics() {
+    List<Integer> delegate = new ArrayList<>(new TreeSet<>(Arrays.asList(0, 1, 2)));
+    Spliterator<String> spliterator = new MappedList<>(identity(), delegate).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+    assertFalse(spliterator.hasCharacteristics(Spliterator.SORTED));
+    assertFalse(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+    assertFalse(spliterator.hasCharacteristics(Spliterator.NONNULL));
+    assertThrows(IllegalStateException.class, () -> spliterator.getComparator());
+
+    // the source reports SORTED and DISTINCT but the mapping is arbitrary
+    Spliterator<String> fromSet = new MappedSpliterator<>(identity(), new TreeSet<>(delegate).spliterator(), MappingProperties.none());
+    assertFalse(fromSet.hasCharacteristics(Spliterator.SORTED));
+    assertFalse(fromSet.hasCharacteristics(Spliterator.DISTINCT));
+  }
+
+  @Test
+  public void declaredProperties() {
+    List<Integer> delegate = Arrays.asList(0, 1, 2);
+    MappingProperties<String> properties = MappingProperties.<String>none().sorted(null).distinct().nonNull();
+    List<String> mapped = new MappedList<>(identity(), delegate, properties);
+
+    Spliterator<String> spliterator = mapped.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+    assertNull(spliterator.getComparator());
+
+    Spliterator<String> subSpliterator = mapped.subList(1, 3).spliterator();
+    assertTrue(subSpliterator.hasCharacteristics(Spliterator.SORTED));
+
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertTrue(prefix.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT));
+
+    assertEquals(Arrays.asList("0", "1", "2"), mapped.stream().sorted().distinct().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void injectiveAndMonotone() {
+    TreeSet<Integer> source = new TreeSet<>(Arrays.asList(0, 1, 2));
+    MappingProperties<String> properties = MappingProperties.<String>none()
+            .injective()
+            .monotone(Comparator.comparing(Integer::valueOf));
+
+    Spliterator<String> spliterator = new MappedSpliterator<>(identity(), source.spliterator(), properties);
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+    assertFalse(spliterator.hasCharacteristics(Spliterator.NONNULL));
+    assertNotNull(spliterator.getComparator());
+
+    // ArrayList does not report DISTINCT or SORTED
+    Spliterator<String> fromList = new MappedList<>(identity(), new ArrayList<>(source), properties).spliterator();
+    assertFalse(fromList.hasCharacteristics(Spliterator.SORTED));
+    assertFalse(fromList.hasCharacteristics(Spliterator.DISTINCT));
+  }
+
+  @Test
+  public void serializeProperties() throws ClassNotFoundException, IOException {
+    assertSame(MappingProperties.none(), ListTestUtil.copy(MappingProperties.none()));
+    List<String> mapped = new MappedList<>(identity(), Arrays.asList(0, 1), MappingProperties.<String>none().distinct());
+    @SuppressWarnings("unchecked")
+    List<String> copy = (List<String>) ListTestUtil.copy(mapped);
+    assertTrue(copy.spliterator().hasCharacteristics(Spliterator.DISTINCT));
+  }
+
+  @Test
+  public void binarySearchDeclaredSorted() {
+    List<Integer> source = new ArrayList<>();
+    for (int i = 0; i < 1_000; ++i) {
+      source.add(i / 2);
+    }
+    AtomicInteger invocations = new AtomicInteger();
+    MappedList<Integer, Integer> doubled = new MappedList<>(i -> {
+      invocations.incrementAndGet();
+      return i * 2;
+    }, source, MappingProperties.<Integer>none().sorted(null));
+
+    assertEquals(200, doubled.indexOf(200));
+    assertEquals(201, doubled.lastIndexOf(200));
+    assertTrue(doubled.contains(998));
+    assertFalse(doubled.contains(201));
+    assertEquals(-1, doubled.indexOf(-2));
+    assertEquals(200, doubled.tailIndex(200, true));
+    assertEquals(202, doubled.tailIndex(200, false));
+    assertEquals(202, doubled.headIndex(200, true));
+    assertEquals(200, doubled.headIndex(200, false));
+    assertEquals(1_000, doubled.tailIndex(5_000, true));
+    assertTrue(invocations.get() < 150, "mapping applied " + invocations.get() + " times");
+  }
+
+  @Test
+  public void binarySearchMonotone() {
+    DeclaredSortedList<Integer> source = new DeclaredSortedList<>(Arrays.asList(1, 2, 3, 4), null);
+    MappedList<String, Integer> mapped = new MappedList<>(i -> "v" + i, source,
+            MappingProperties.<String>none().monotone(null));
+    assertEquals(2, mapped.indexOf("v3"));
+    assertEquals(3, mapped.tailIndex("v4", true));
+    assertThrows(IllegalStateException.class, () -> new MappedList<>(identity(), source).headIndex("1", true));
+    // monotone over an undeclared list is linear but still correct
+    MappedList<String, Integer> undeclared = new MappedList<>(i -> "v" + i, Arrays.asList(4, 3),
+            MappingProperties.<String>none().monotone(null));
+    assertEquals(1, undeclared.indexOf("v3"));
+  }
+
+  @Test
+  public void binarySearchIncomparable() {
+    MappedList<String, Integer> mapped = new MappedList<>(i -> "v" + i, Arrays.asList(1, 2, 3),
+            MappingProperties.<String>none().sorted(null));
+    assertEquals(-1, mapped.indexOf(null));
+    assertEquals(-1, mapped.lastIndexOf(null));
+    assertFalse(mapped.contains(null));
+    assertEquals(-1, mapped.indexOf(1));
+    assertEquals(-1, mapped.lastIndexOf(1));
+    assertFalse(mapped.contains(1));
+  }
+
   public void example() {
     List<Class<?>> classes = Collections.emptyList();
     List<String> classNames = new MappedList<>(clazz -> clazz.getName(), classes);
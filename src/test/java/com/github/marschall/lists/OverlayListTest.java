@@ -0,0 +1,237 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OverlayListTest {
+
+  private OverlayList<String> list;
+  private List<String> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.list = new OverlayList<>(new RepeatingList<>("a", 6));
+    this.list.set(4, "e");
+    this.list.set(1, "b");
+    this.list.set(5, "f");
+    this.equalList = Arrays.asList("a", "b", "a", "a", "e", "f");
+  }
+
+  @Test
+  public void get() {
+    for (int i = 0; i < this.equalList.size(); ++i) {
+      assertEquals(this.equalList.get(i), this.list.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(6));
+    assertEquals(6, this.list.size());
+  }
+
+  @Test
+  public void set() {
+    assertEquals("b", this.list.set(1, "B"));
+    assertEquals("a", this.list.set(0, null));
+    assertNull(this.list.get(0));
+    assertEquals("B", this.list.get(1));
+    assertEquals(4, this.list.overrideCount());
+    assertTrue(this.list.isOverridden(0));
+    assertFalse(this.list.isOverridden(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.set(6, "x"));
+  }
+
+  @Test
+  public void revert() {
+    assertTrue(this.list.revert(4));
+    assertFalse(this.list.revert(4));
+    assertEquals("a", this.list.get(4));
+    assertEquals("f", this.list.get(5));
+    assertEquals(2, this.list.overrideCount());
+  }
+
+  @Test
+  public void manyOverrides() {
+    List<Integer> expected = new ArrayList<>();
+    OverlayList<Integer> overlay = new OverlayList<>(new RepeatingList<>(0, 100));
+    for (int i = 0; i < 100; ++i) {
+      expected.add(0);
+    }
+    for (int i = 99; i >= 0; i -= 3) {
+      overlay.set(i, i);
+      expected.set(i, i);
+    }
+    assertEquals(expected, overlay);
+    assertEquals(expected, ListTestUtil.collect(overlay));
+    assertEquals(expected, overlay.parallelStream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void linkedBase() {
+    OverlayList<String> overlay = new OverlayList<>(new LinkedList<>(Arrays.asList("a", "a", "a", "a", "a", "a")));
+    overlay.set(4, "e");
+    overlay.set(1, "b");
+    overlay.set(5, "f");
+    assertEquals(this.equalList, overlay);
+    assertEquals(this.equalList, ListTestUtil.collect(overlay.stream()));
+    assertEquals(this.equalList.hashCode(), overlay.hashCode());
+  }
+
+  @Test
+  public void mappedBase() {
+    OverlayList<String> overlay = new OverlayList<>(new MappedList<>(Object::toString, Arrays.asList(1, 2, 3)));
+    overlay.set(1, "two");
+    assertEquals(Arrays.asList("1", "two", "3"), overlay);
+  }
+
+  @Test
+  public void contains() {
+    assertTrue(this.list.contains("e"));
+    assertFalse(this.list.contains("c"));
+    assertEquals(0, this.list.indexOf("a"));
+    assertEquals(3, this.list.lastIndexOf("a"));
+    assertEquals(-1, this.list.indexOf("c"));
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertFalse(this.list.equals(Arrays.asList("a", "b", "a", "a", "e", "g")));
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+    assertEquals(this.equalList.toString(), this.list.toString());
+  }
+
+  @Test
+  public void toArray() {
+    assertArrayEquals(this.equalList.toArray(), this.list.toArray());
+    assertArrayEquals(this.equalList.toArray(new String[0]), this.list.toArray(new String[0]));
+  }
+
+  @Test
+  public void iterator() {
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+    ListIterator<String> iterator = this.list.listIterator(2);
+    assertEquals("a", iterator.next());
+    iterator.set("c");
+    assertEquals("c", this.list.get(2));
+    assertEquals("c", iterator.previous());
+    assertEquals("b", iterator.previous());
+    assertThrows(UnsupportedOperationException.class, () -> this.list.iterator().remove());
+  }
+
+  @Test
+  public void iteratorMerge() {
+    for (OverlayList<String> overlay : Arrays.asList(this.list,
+            overlay(new LinkedList<>(Arrays.asList("a", "a", "a", "a", "a", "a"))))) {
+      ListIterator<String> iterator = overlay.listIterator();
+      List<String> forward = new ArrayList<>();
+      while (iterator.hasNext()) {
+        forward.add(iterator.next());
+      }
+      assertEquals(this.equalList, forward);
+      List<String> backward = new ArrayList<>();
+      while (iterator.hasPrevious()) {
+        backward.add(0, iterator.previous());
+      }
+      assertEquals(this.equalList, backward);
+
+      // overrides added and reverted during iteration are seen
+      assertEquals("a", iterator.next());
+      overlay.set(2, "c");
+      overlay.revert(1);
+      assertEquals("a", iterator.next());
+      assertEquals("c", iterator.next());
+      assertEquals("c", iterator.previous());
+      assertEquals("a", iterator.previous());
+      overlay.set(0, "z");
+      assertEquals("z", iterator.previous());
+      assertEquals(Arrays.asList("z", "a", "c", "a", "e", "f"), ListTestUtil.collect(overlay));
+    }
+  }
+
+  private static OverlayList<String> overlay(List<String> base) {
+    OverlayList<String> overlay = new OverlayList<>(base);
+    overlay.set(4, "e");
+    overlay.set(1, "b");
+    overlay.set(5, "f");
+    return overlay;
+  }
+
+  @Test
+  public void tryAdvance() {
+    List<Integer> mapped = new ArrayList<>();
+    OverlayList<String> overlay = new OverlayList<>(new MappedList<>(i -> {
+      mapped.add(i);
+      return i.toString();
+    }, Arrays.asList(0, 1, 2, 3)));
+    overlay.set(1, "one");
+    overlay.set(3, "three");
+    // set returns the previous element
+    mapped.clear();
+    Spliterator<String> spliterator = overlay.spliterator();
+    List<String> elements = new ArrayList<>();
+    while (spliterator.tryAdvance(elements::add)) {
+      // consume one element at a time
+    }
+    assertEquals(Arrays.asList("0", "one", "2", "three"), elements);
+    // overridden elements are not computed from the base list
+    assertEquals(Arrays.asList(0, 2), mapped);
+  }
+
+  @Test
+  public void spliterator() {
+    Spliterator<String> spliterator = this.list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertEquals(this.equalList.subList(0, 3), StreamSupport.stream(prefix, false).collect(Collectors.toList()));
+    assertEquals(this.equalList.subList(3, 6), StreamSupport.stream(spliterator, false).collect(Collectors.toList()));
+    assertEquals(this.equalList, this.list.parallelStream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void forEachWhile() {
+    List<String> seen = new ArrayList<>();
+    assertFalse(this.list.forEachWhile(each -> {
+      seen.add(each);
+      return !each.equals("b");
+    }));
+    assertEquals(Arrays.asList("a", "b"), seen);
+  }
+
+  @Test
+  public void subList() {
+    List<String> subList = this.list.subList(1, 5);
+    assertEquals(this.equalList.subList(1, 5), subList);
+    subList.set(1, "c");
+    assertEquals("c", this.list.get(2));
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add("x"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.remove(0));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.clear());
+  }
+
+}
@@ -0,0 +1,208 @@
+package com.github.marschall.lists;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PairListTest {
+
+  private List<String> list;
+  private List<String> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.list = new PairList<>("1", "2");
+    this.equalList = Arrays.asList("1", "2");
+  }
+
+  @Test
+  public void size() {
+    assertThat(this.list, hasSize(2));
+    assertFalse(this.list.isEmpty());
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void testNull() {
+    List<String> customList = new PairList<>(null, null);
+    List<String> jdkList = Arrays.asList(null, null);
+
+    assertEquals(jdkList, customList);
+    assertEquals(customList, jdkList);
+    assertEquals(jdkList.hashCode(), customList.hashCode());
+    assertEquals(jdkList.toString(), customList.toString());
+
+    assertTrue(customList.contains(null));
+    assertEquals(0, customList.indexOf(null));
+    assertEquals(1, customList.lastIndexOf(null));
+  }
+
+  @Test
+  public void get() {
+    assertEquals("1", this.list.get(0));
+    assertEquals("2", this.list.get(1));
+
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(2));
+  }
+
+  @Test
+  public void set() {
+    assertEquals("2", this.list.set(1, "3"));
+    assertEquals(Arrays.asList("1", "3"), this.list);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.set(2, "3"));
+  }
+
+  @Test
+  public void sort() {
+    List<String> list = new PairList<>("2", "1");
+    list.sort(String::compareTo);
+    assertEquals(Arrays.asList("1", "2"), list);
+  }
+
+  @Test
+  public void equals() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertFalse(this.list.equals(Arrays.asList("2", "1")));
+    assertFalse(this.list.equals(Collections.singletonList("1")));
+  }
+
+  @Test
+  public void contains() {
+    assertTrue(this.list.contains("1"));
+    assertTrue(this.list.contains("2"));
+    assertFalse(this.list.contains("3"));
+  }
+
+  @Test
+  public void indexOf() {
+    List<String> list = new PairList<>("1", "1");
+    assertEquals(0, list.indexOf("1"));
+    assertEquals(1, list.lastIndexOf("1"));
+    assertEquals(-1, list.indexOf("2"));
+    assertEquals(-1, list.lastIndexOf("2"));
+  }
+
+  @Test
+  public void testHashCode() {
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals(this.equalList.toString(), this.list.toString());
+
+    List<Object> reference = Arrays.asList(new Object(), "1");
+    reference.set(0, reference);
+    List<Object> actual = new PairList<Object>(new Object(), "1");
+    actual.set(0, actual);
+    assertEquals(reference.toString(), actual.toString());
+  }
+
+  @Test
+  public void toArray() {
+    assertArrayEquals(this.equalList.toArray(), this.list.toArray());
+  }
+
+  @Test
+  public void toArrayArgument() {
+    String[] tooShort = new String[] {"foo"};
+    assertArrayEquals(new String[] {"1", "2"}, this.list.toArray(tooShort));
+    assertEquals(String[].class, this.list.toArray(tooShort).getClass());
+
+    assertArrayEquals(new String[] {"1", "2", null, "6"}, this.list.toArray(new String[] {"6", "6", "6", "6"}));
+
+    String[] longEnough = new String[] {"6", "6"};
+    assertArrayEquals(new String[] {"1", "2"}, this.list.toArray(longEnough));
+    assertSame(longEnough, this.list.toArray(longEnough));
+  }
+
+  @Test
+  public void listIterator() {
+    ListIterator<String> iterator = this.list.listIterator();
+    assertThrows(IllegalStateException.class, () -> iterator.set("0"));
+    assertFalse(iterator.hasPrevious());
+    assertEquals("1", iterator.next());
+    assertEquals("2", iterator.next());
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, () -> iterator.next());
+    iterator.set("3");
+    assertEquals("3", iterator.previous());
+    assertEquals(0, iterator.previousIndex());
+    assertEquals(1, iterator.nextIndex());
+    assertEquals(Arrays.asList("1", "3"), this.list);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.listIterator(3));
+    assertFalse(this.list.listIterator(2).hasNext());
+  }
+
+  @Test
+  public void subList() {
+    assertEquals(Collections.emptyList(), this.list.subList(1, 1));
+    assertSame(this.list, this.list.subList(0, 2));
+    List<String> subList = this.list.subList(1, 2);
+    assertEquals(Collections.singletonList("2"), subList);
+    subList.set(0, "3");
+    assertEquals(Arrays.asList("1", "3"), this.list);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(-1, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(0, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(1, 0));
+  }
+
+  @Test
+  public void spliterator() {
+    assertEquals(this.equalList, this.list.stream().collect(Collectors.toList()));
+    assertEquals(2L, this.list.stream().count());
+
+    Spliterator<String> spliterator = this.list.spliterator();
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertEquals(1L, prefix.getExactSizeIfKnown());
+    assertEquals(1L, spliterator.getExactSizeIfKnown());
+    assertNull(spliterator.trySplit());
+    assertTrue(prefix.tryAdvance(each -> assertEquals("1", each)));
+    assertTrue(spliterator.tryAdvance(each -> assertEquals("2", each)));
+  }
+
+  @Test
+  public void forEach() {
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+  }
+
+  @Test
+  public void forEachStream() {
+    assertEquals(this.equalList, ListTestUtil.collect(this.list.stream()));
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add("3"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.remove(0));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.clear());
+  }
+
+}
@@ -0,0 +1,124 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PartitionedListTest {
+
+  private List<List<Integer>> list;
+  private List<List<Integer>> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.list = new PartitionedList<>(Arrays.asList(0, 1, 2, 3, 4, 5, 6), 3);
+    this.equalList = Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5), Arrays.asList(6));
+  }
+
+  @Test
+  public void size() {
+    assertEquals(3, this.list.size());
+    assertEquals(2, new PartitionedList<>(Arrays.asList(0, 1, 2, 3, 4, 5), 3).size());
+    assertTrue(new PartitionedList<>(Collections.emptyList(), 3).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> new PartitionedList<>(Collections.emptyList(), 0));
+  }
+
+  @Test
+  public void get() {
+    assertEquals(this.equalList.get(0), this.list.get(0));
+    assertEquals(this.equalList.get(2), this.list.get(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(3));
+    List<List<Integer>> large = new PartitionedList<>(new RepeatingList<>(1, Integer.MAX_VALUE), Integer.MAX_VALUE - 1);
+    assertEquals(2, large.size());
+    assertEquals(Collections.singletonList(1), large.get(1));
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+    assertEquals(this.equalList.toString(), this.list.toString());
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void forEach() {
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+    assertEquals(this.equalList, ListTestUtil.collect(this.list.stream()));
+  }
+
+  @Test
+  public void subList() {
+    assertEquals(this.equalList.subList(1, 3), this.list.subList(1, 3));
+    assertEquals(this.equalList.subList(0, 2), this.list.subList(0, 2));
+    assertEquals(Collections.emptyList(), this.list.subList(1, 1));
+    assertEquals(Collections.emptyList(), this.list.subList(3, 3));
+    assertEquals(this.equalList.subList(2, 3), this.list.subList(2, 3));
+    List<List<Integer>> large = new PartitionedList<>(new RepeatingList<>(1, 10), Integer.MAX_VALUE);
+    assertEquals(Collections.emptyList(), large.subList(1, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(0, 4));
+  }
+
+  @Test
+  public void repeatingBatches() {
+    List<List<String>> batches = new PartitionedList<>(new RepeatingList<>("1", 10), 4);
+    assertTrue(batches.get(0) instanceof RepeatingList);
+    assertEquals(new RepeatingList<>("1", 2), batches.get(2));
+  }
+
+  @Test
+  public void mappedBatches() {
+    AtomicInteger invocations = new AtomicInteger();
+    List<String> mapped = new MappedList<>(i -> {
+      invocations.incrementAndGet();
+      return i.toString();
+    }, Arrays.asList(0, 1, 2, 3, 4, 5, 6));
+    List<List<String>> batches = new PartitionedList<>(mapped, 3);
+    assertTrue(batches.get(1) instanceof MappedList);
+    assertEquals(0, invocations.get());
+    assertEquals("4", batches.get(1).get(1));
+    assertEquals(1, invocations.get());
+  }
+
+  @Test
+  public void spliterator() {
+    List<Integer> source = new ArrayList<>();
+    IntStream.range(0, 10_000).forEach(source::add);
+    List<List<Integer>> batches = new PartitionedList<>(source, 100);
+    Spliterator<List<Integer>> spliterator = batches.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(100L, spliterator.getExactSizeIfKnown());
+    assertEquals(50L, spliterator.trySplit().getExactSizeIfKnown());
+
+    assertEquals(49_995_000L, batches.parallelStream()
+            .mapToLong(batch -> batch.stream().mapToLong(Integer::longValue).sum())
+            .sum());
+    assertEquals(Collections.nCopies(100, 100), batches.parallelStream().map(List::size).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.set(0, Collections.emptyList()));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add(Collections.emptyList()));
+  }
+
+}
@@ -0,0 +1,136 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PermutedListTest {
+
+  private List<String> list;
+  private List<String> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.list = PermutedList.sortedBy(Arrays.asList("ccc", "a", "bb", "dddd"), String::length, null, false);
+    this.equalList = Arrays.asList("a", "bb", "ccc", "dddd");
+  }
+
+  @Test
+  public void get() {
+    assertEquals("a", this.list.get(0));
+    assertEquals("dddd", this.list.get(3));
+    assertEquals(2, ((PermutedList<String>) this.list).delegateIndex(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(4));
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+    assertEquals(this.equalList.toString(), this.list.toString());
+  }
+
+  @Test
+  public void contains() {
+    assertTrue(this.list.contains("bb"));
+    assertFalse(this.list.contains("b"));
+    assertEquals(1, this.list.indexOf("bb"));
+    assertEquals(3, this.list.lastIndexOf("dddd"));
+    assertFalse(this.list.subList(0, 2).contains("ccc"));
+  }
+
+  @Test
+  public void subList() {
+    assertEquals(this.equalList.subList(1, 3), this.list.subList(1, 3));
+    assertEquals(this.equalList.subList(1, 3).subList(1, 2), this.list.subList(1, 3).subList(1, 2));
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void forEach() {
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+    assertEquals(this.equalList, ListTestUtil.collect(this.list.stream()));
+    assertEquals(this.equalList, new ArrayList<>(this.list));
+  }
+
+  @Test
+  public void stable() {
+    List<String> values = Arrays.asList("b2", "a1", "b1", "a2", "c1");
+    List<String> expected = Arrays.asList("a1", "a2", "b2", "b1", "c1");
+    assertEquals(expected, PermutedList.sortedBy(values, s -> s.charAt(0), null, false));
+    assertEquals(expected, PermutedList.sortedByInt(values, s -> s.charAt(0), false));
+    assertEquals(expected, PermutedList.sortedByLong(values, s -> s.charAt(0), false));
+    assertEquals(expected, PermutedList.sortedByDouble(values, s -> s.charAt(0), false));
+  }
+
+  @Test
+  public void largeMatchesCollectionsSort() {
+    Random random = new Random(7L);
+    List<Integer> values = new ArrayList<>();
+    for (int i = 0; i < 50_000; ++i) {
+      values.add(random.nextInt(1_000) - 500);
+    }
+    List<Integer> expected = new ArrayList<>(values);
+    Collections.sort(expected);
+    for (boolean parallel : new boolean[] {false, true}) {
+      assertEquals(expected, PermutedList.sortedBy(values, i -> i, null, parallel));
+      assertEquals(expected, PermutedList.sortedByInt(values, Integer::intValue, parallel));
+      assertEquals(expected, PermutedList.sortedByLong(values, Integer::longValue, parallel));
+      assertEquals(expected, PermutedList.sortedByDouble(values, Integer::doubleValue, parallel));
+    }
+    Collections.reverse(expected);
+    assertEquals(expected, PermutedList.sortedBy(values, i -> i, Comparator.reverseOrder(), true));
+  }
+
+  @Test
+  public void mappedListSortedView() {
+    AtomicInteger invocations = new AtomicInteger();
+    MappedList<String, Integer> mapped = new MappedList<>(i -> {
+      invocations.incrementAndGet();
+      return Integer.toString(i);
+    }, Arrays.asList(3, 10, 2, 1));
+    MappedList<String, Integer> sorted = mapped.sortedView(null, false);
+    // the keys are computed once
+    assertEquals(4, invocations.get());
+    assertEquals(Arrays.asList("1", "10", "2", "3"), sorted);
+
+    Spliterator<String> spliterator = sorted.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED));
+    assertEquals(null, spliterator.getComparator());
+  }
+
+  @Test
+  public void spliterator() {
+    Spliterator<String> spliterator = this.list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(4L, spliterator.getExactSizeIfKnown());
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.set(0, "a"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add("a"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.sort(null));
+  }
+
+}
@@ -31,6 +31,15 @@ public class PrefixedListTest {
     this.equalList = Arrays.asList("0", "1", "2", "3", "4");
   }
 
+  @Test
+  public void reversed() {
+    PrefixedList<String> list = new PrefixedList<>("0", new ArrayList<>(Arrays.asList("1", "2")));
+    assertEquals(Arrays.asList("2", "1", "0"), list.reversed());
+    assertEquals("0", list.getFirst());
+    assertEquals("2", list.getLast());
+    assertEquals("0", new PrefixedList<>("0", Collections.emptyList()).getLast());
+  }
+
   @Test
   public void get() {
     assertEquals("0", this.list.get(0));
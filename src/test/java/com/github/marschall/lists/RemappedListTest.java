@@ -0,0 +1,134 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RemappedListTest {
+
+  private List<String> source;
+
+  @BeforeEach
+  public void setUp() {
+    this.source = Arrays.asList("0", "1", "2", "3", "4", "5", "6");
+  }
+
+  @Test
+  public void reverse() {
+    RemappedList<String> reversed = RemappedList.reverse(this.source);
+    List<String> expected = new ArrayList<>(this.source);
+    Collections.reverse(expected);
+
+    assertEquals(expected, reversed);
+    assertEquals(expected.hashCode(), reversed.hashCode());
+    assertEquals(expected.toString(), reversed.toString());
+    assertArrayEquals(expected.toArray(), reversed.toArray());
+    assertEquals(expected, ListTestUtil.collect(reversed));
+    assertEquals(expected, reversed.parallelStream().collect(Collectors.toList()));
+    assertEquals("6", reversed.getFirst());
+    assertEquals("0", reversed.getLast());
+    assertSame(this.source, reversed.reversed());
+  }
+
+  @Test
+  public void reverseIndexOf() {
+    RemappedList<String> reversed = RemappedList.reverse(Arrays.asList("a", "b", "a", "c"));
+    assertEquals(1, reversed.indexOf("a"));
+    assertEquals(3, reversed.lastIndexOf("a"));
+    assertEquals(0, reversed.indexOf("c"));
+    assertEquals(-1, reversed.indexOf("d"));
+    assertTrue(reversed.contains("b"));
+    assertFalse(reversed.contains("d"));
+  }
+
+  @Test
+  public void stride() {
+    assertEquals(Arrays.asList("0", "3", "6"), RemappedList.stride(this.source, 0, 3));
+    assertEquals(Arrays.asList("1", "4"), RemappedList.stride(this.source, 1, 3));
+    assertEquals(Arrays.asList("2", "5"), RemappedList.stride(this.source, 2, 3));
+    assertEquals(Collections.emptyList(), RemappedList.stride(this.source, 7, 3));
+    assertEquals(this.source, RemappedList.stride(this.source, 0, 1));
+
+    RemappedList<String> strided = RemappedList.stride(this.source, 1, 2);
+    assertEquals(Arrays.asList("5", "3", "1"), strided.reversed());
+    assertEquals(Arrays.asList("3", "5"), strided.subList(1, 3));
+    assertEquals(Arrays.asList("3"), strided.reversed().subList(1, 2));
+    assertEquals(1, strided.indexOf("3"));
+    assertFalse(strided.contains("2"));
+
+    assertThrows(IllegalArgumentException.class, () -> RemappedList.stride(this.source, 0, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> RemappedList.stride(this.source, 8, 1));
+  }
+
+  @Test
+  public void general() {
+    List<String> swapped = new RemappedList<>(i -> i ^ 1, this.source, 6);
+    assertEquals(Arrays.asList("1", "0", "3", "2", "5", "4"), swapped);
+    assertEquals(Arrays.asList("4", "5", "2", "3", "0", "1"), ((RemappedList<String>) swapped).reversed());
+    assertEquals(Arrays.asList("3", "2"), swapped.subList(2, 4));
+    assertEquals(4, swapped.indexOf("5"));
+  }
+
+  @Test
+  public void get() {
+    RemappedList<String> reversed = RemappedList.reverse(this.source);
+    assertThrows(IndexOutOfBoundsException.class, () -> reversed.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> reversed.get(7));
+    assertThrows(NoSuchElementException.class, () -> RemappedList.reverse(Collections.emptyList()).getFirst());
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(RemappedList.stride(this.source, 1, 2), ListTestUtil.copy(RemappedList.stride(this.source, 1, 2)));
+    List<String> general = new RemappedList<>((IntUnaryOperator & Serializable) i -> i * 2, this.source, 3);
+    assertEquals(general, ListTestUtil.copy(general));
+  }
+
+  @Test
+  public void listIterator() {
+    ListIterator<String> iterator = RemappedList.reverse(this.source).listIterator(5);
+    assertEquals("1", iterator.next());
+    assertEquals("0", iterator.next());
+    assertFalse(iterator.hasNext());
+    assertEquals("0", iterator.previous());
+    assertEquals(6, iterator.nextIndex());
+  }
+
+  @Test
+  public void spliterator() {
+    List<Integer> large = new ArrayList<>();
+    IntStream.range(0, 10_000).forEach(large::add);
+    Spliterator<Integer> spliterator = RemappedList.stride(large, 0, 10).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(1_000L, spliterator.getExactSizeIfKnown());
+    assertEquals(500L, spliterator.trySplit().getExactSizeIfKnown());
+    assertEquals(49_995_000L, RemappedList.reverse(large).parallelStream().mapToLong(Integer::longValue).sum());
+  }
+
+  @Test
+  public void unsupported() {
+    RemappedList<String> reversed = RemappedList.reverse(this.source);
+    assertThrows(UnsupportedOperationException.class, () -> reversed.set(0, "x"));
+    assertThrows(UnsupportedOperationException.class, () -> reversed.add("x"));
+  }
+
+}
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -42,6 +43,27 @@ public class RepeatingListTest {
     assertEquals(new RepeatingList<>("1", 3), ListTestUtil.copy(this.list));
   }
 
+  @Test
+  public void toStringOverflow() {
+    // the length does not fit into an int
+    RepeatingList<String> huge = new RepeatingList<>("12", Integer.MAX_VALUE);
+    assertThrows(OutOfMemoryError.class, () -> huge.toString());
+  }
+
+  @Test
+  public void writeTo() throws IOException {
+    for (int repetitions : new int[] {1, 2, 3, 3000, 4096, 10_000}) {
+      RepeatingList<String> repeating = new RepeatingList<>("ab", repetitions);
+      StringWriter writer = new StringWriter();
+      repeating.writeTo(writer);
+      assertEquals(Collections.nCopies(repetitions, "ab").toString(), writer.toString());
+
+      StringBuilder builder = new StringBuilder();
+      repeating.writeTo(builder);
+      assertEquals(writer.toString(), builder.toString());
+    }
+  }
+
   @Test
   public void testNull() {
     List<String> customList = new RepeatingList<>(null, 3);
@@ -162,6 +184,14 @@ public class RepeatingListTest {
     assertEquals(Collections.singletonList("1"), distinct);
   }
 
+  @Test
+  public void reversed() {
+    RepeatingList<String> list = new RepeatingList<>("1", 3);
+    assertSame(list, list.reversed());
+    assertEquals("1", list.getFirst());
+    assertEquals("1", list.getLast());
+  }
+
   @Test
   public void forEach() {
     assertEquals(Arrays.asList("1", "1", "1"), ListTestUtil.collect(new RepeatingList<>("1", 3)));
@@ -0,0 +1,152 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class RepeatingStreamTest {
+
+  private static final int LARGE = Integer.MAX_VALUE;
+
+  @Test
+  public void count() {
+    assertEquals(LARGE, new RepeatingList<>("1", LARGE).stream().count());
+    assertEquals(3L, new RepeatingList<>("1", 3).parallelStream().count());
+  }
+
+  @Test
+  public void distinct() {
+    assertEquals(Collections.singletonList("1"), new RepeatingList<>("1", LARGE).stream().distinct().collect(Collectors.toList()));
+    assertEquals(0L, new RepeatingList<>("1", 3).stream().skip(3L).distinct().count());
+  }
+
+  @Test
+  public void sorted() {
+    Stream<String> stream = new RepeatingList<>("1", 3).stream();
+    assertSame(stream, stream.sorted());
+    assertEquals(Arrays.asList("1", "1", "1"), stream.sorted(String::compareTo).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void skipAndLimit() {
+    assertEquals(2L, new RepeatingList<>("1", LARGE).stream().skip(LARGE - 2L).count());
+    assertEquals(0L, new RepeatingList<>("1", 3).stream().skip(Long.MAX_VALUE).count());
+    assertEquals(Arrays.asList("1", "1"), new RepeatingList<>("1", LARGE).stream().limit(2L).collect(Collectors.toList()));
+    assertEquals(3L, new RepeatingList<>("1", 3).stream().limit(Long.MAX_VALUE).count());
+
+    assertThrows(IllegalArgumentException.class, () -> new RepeatingList<>("1", 3).stream().skip(-1L));
+    assertThrows(IllegalArgumentException.class, () -> new RepeatingList<>("1", 3).stream().limit(-1L));
+  }
+
+  @Test
+  public void match() {
+    AtomicInteger invocations = new AtomicInteger();
+    assertTrue(new RepeatingList<>("1", LARGE).stream().allMatch(s -> {
+      invocations.incrementAndGet();
+      return "1".equals(s);
+    }));
+    assertEquals(1, invocations.get());
+
+    assertTrue(new RepeatingList<>("1", LARGE).stream().anyMatch("1"::equals));
+    assertFalse(new RepeatingList<>("1", LARGE).stream().noneMatch("1"::equals));
+    assertFalse(new RepeatingList<>("1", 3).stream().skip(3L).anyMatch("1"::equals));
+    assertTrue(new RepeatingList<>("1", 3).stream().skip(3L).allMatch("2"::equals));
+  }
+
+  @Test
+  public void minMax() {
+    assertEquals(Optional.of("1"), new RepeatingList<>("1", LARGE).stream().min(String::compareTo));
+    assertEquals(Optional.of("1"), new RepeatingList<>("1", LARGE).stream().max(String::compareTo));
+    assertEquals(Optional.of("1"), new RepeatingList<>("1", LARGE).stream().findFirst());
+    assertEquals(Optional.empty(), new RepeatingList<>("1", 3).stream().limit(0L).findAny());
+    assertThrows(NullPointerException.class, () -> new RepeatingList<>(null, 3).stream().findFirst());
+  }
+
+  @Test
+  public void collect() {
+    assertEquals(Collections.singleton("1"), new RepeatingList<>("1", LARGE).stream().collect(Collectors.toSet()));
+    assertEquals(Arrays.asList("1", "1", "1"), new RepeatingList<>("1", 3).stream().collect(Collectors.toList()));
+    assertEquals("1,1,1", new RepeatingList<>("1", 3).stream().collect(Collectors.joining(",")));
+
+    // the accumulator of a set collector is not necessarily idempotent
+    AtomicInteger counter = new AtomicInteger();
+    Collector<String, Set<Integer>, Set<Integer>> counting = Collector.of(HashSet::new,
+            (set, element) -> set.add(counter.getAndIncrement()),
+            (left, right) -> {
+              left.addAll(right);
+              return left;
+            },
+            Collector.Characteristics.IDENTITY_FINISH);
+    assertEquals(new HashSet<>(Arrays.asList(0, 1, 2)), new RepeatingList<>("x", 3).stream().collect(counting));
+  }
+
+  @Test
+  public void toArray() {
+    assertArrayEquals(new Object[] {"1", "1", "1"}, new RepeatingList<>("1", 3).stream().toArray());
+    assertArrayEquals(new String[] {"1", "1"}, new RepeatingList<>("1", 3).stream().skip(1L).toArray(String[]::new));
+  }
+
+  @Test
+  public void fallback() {
+    List<Integer> lengths = new RepeatingList<>("11", 3).stream().map(String::length).collect(Collectors.toList());
+    assertEquals(Arrays.asList(2, 2, 2), lengths);
+    assertEquals(6, new RepeatingList<>("11", 3).parallelStream().mapToInt(String::length).sum());
+    assertEquals(0L, new RepeatingList<>("1", 3).stream().filter("2"::equals).count());
+  }
+
+  @Test
+  public void parallel() {
+    Stream<String> stream = new RepeatingList<>("1", 3).stream();
+    assertFalse(stream.isParallel());
+    assertTrue(stream.parallel().isParallel());
+    assertTrue(stream.parallel().limit(2L).isParallel());
+    assertFalse(stream.parallel().sequential().isParallel());
+  }
+
+  @Test
+  public void onClose() {
+    AtomicInteger closed = new AtomicInteger();
+    try (Stream<String> stream = new RepeatingList<>("1", 3).stream().onClose(closed::incrementAndGet).onClose(closed::incrementAndGet)) {
+      assertEquals(1L, stream.distinct().count());
+    }
+    assertEquals(2, closed.get());
+
+    AtomicInteger fallbackClosed = new AtomicInteger();
+    try (Stream<Integer> stream = new RepeatingList<>("1", 3).stream().onClose(fallbackClosed::incrementAndGet).map(String::length)) {
+      assertEquals(3L, stream.count());
+    }
+    assertEquals(1, fallbackClosed.get());
+  }
+
+  @Test
+  public void onCloseShared() {
+    AtomicInteger closed = new AtomicInteger();
+    Stream<String> stream = new RepeatingList<>("1", 5).stream().onClose(closed::incrementAndGet);
+    Stream<String> limited = stream.limit(3);
+    Stream<Integer> mapped = stream.parallel().map(String::length);
+    // added after deriving, still seen by the derived streams
+    stream.onClose(closed::incrementAndGet);
+    limited.close();
+    assertEquals(2, closed.get());
+    stream.close();
+    mapped.close();
+    assertEquals(2, closed.get());
+  }
+
+}
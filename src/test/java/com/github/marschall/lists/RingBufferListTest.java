@@ -0,0 +1,168 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RingBufferListTest {
+
+  private RingBufferList<String> list;
+  private List<String> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.list = new RingBufferList<>(4);
+    // wraps around
+    this.list.addAll(Arrays.asList("0", "1", "2", "3", "4", "5"));
+    this.equalList = Arrays.asList("2", "3", "4", "5");
+  }
+
+  @Test
+  public void add() {
+    RingBufferList<String> ringBuffer = new RingBufferList<>(2);
+    assertTrue(ringBuffer.isEmpty());
+    ringBuffer.add("a");
+    assertEquals(Collections.singletonList("a"), ringBuffer);
+    assertFalse(ringBuffer.isFull());
+    ringBuffer.add("b");
+    assertTrue(ringBuffer.isFull());
+    ringBuffer.add("c");
+    assertEquals(Arrays.asList("b", "c"), ringBuffer);
+    assertEquals(2, ringBuffer.capacity());
+    assertThrows(IllegalArgumentException.class, () -> new RingBufferList<>(0));
+  }
+
+  @Test
+  public void get() {
+    assertEquals("2", this.list.get(0));
+    assertEquals("5", this.list.get(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(4));
+  }
+
+  @Test
+  public void set() {
+    assertEquals("5", this.list.set(3, "x"));
+    assertEquals(Arrays.asList("2", "3", "4", "x"), this.list);
+    ListIterator<String> iterator = this.list.listIterator();
+    iterator.next();
+    iterator.set("y");
+    assertEquals(Arrays.asList("y", "3", "4", "x"), this.list);
+  }
+
+  @Test
+  public void clear() {
+    this.list.clear();
+    assertTrue(this.list.isEmpty());
+    this.list.add("a");
+    assertEquals(Collections.singletonList("a"), this.list);
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+    assertEquals(this.equalList.toString(), this.list.toString());
+  }
+
+  @Test
+  public void contains() {
+    assertTrue(this.list.contains("2"));
+    assertFalse(this.list.contains("1"));
+    assertEquals(1, this.list.indexOf("3"));
+    assertEquals(3, this.list.lastIndexOf("5"));
+    assertEquals(-1, this.list.indexOf("0"));
+  }
+
+  @Test
+  public void toArray() {
+    assertArrayEquals(this.equalList.toArray(), this.list.toArray());
+    assertArrayEquals(this.equalList.toArray(new String[0]), this.list.toArray(new String[0]));
+    String[] array = new String[] {"a", "b", "c", "d", "e", "f"};
+    this.list.toArray(array);
+    assertArrayEquals(new String[] {"2", "3", "4", "5", null, "f"}, array);
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void forEach() {
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+    assertEquals(this.equalList, ListTestUtil.collect(this.list.stream()));
+  }
+
+  @Test
+  public void subList() {
+    assertEquals(this.equalList.subList(1, 3), this.list.subList(1, 3));
+    this.list.subList(1, 3).set(0, "x");
+    assertEquals("x", this.list.get(1));
+  }
+
+  @Test
+  public void spliterator() {
+    Spliterator<String> spliterator = this.list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(4L, spliterator.getExactSizeIfKnown());
+    // splits at the wrap point
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertEquals(2L, prefix.getExactSizeIfKnown());
+    assertEquals(Arrays.asList("2", "3"), StreamSupport.stream(prefix, false).collect(Collectors.toList()));
+    assertEquals(Arrays.asList("4", "5"), StreamSupport.stream(spliterator, false).collect(Collectors.toList()));
+
+    RingBufferList<Integer> large = new RingBufferList<>(1_000);
+    for (int i = 0; i < 1_500; ++i) {
+      large.add(i);
+    }
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 500; i < 1_500; ++i) {
+      expected.add(i);
+    }
+    assertEquals(expected, large.parallelStream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void spliteratorWrapped() {
+    // one element at a time across the wrap point
+    Spliterator<String> spliterator = this.list.spliterator();
+    List<String> elements = new ArrayList<>();
+    while (spliterator.tryAdvance(elements::add)) {
+      assertEquals(4L - elements.size(), spliterator.estimateSize());
+    }
+    assertEquals(this.equalList, elements);
+
+    // rest of a wrapping spliterator after some elements were consumed
+    Spliterator<String> partial = this.list.spliterator();
+    partial.tryAdvance(each -> { });
+    assertEquals(Arrays.asList("3", "4", "5"), StreamSupport.stream(partial, false).collect(Collectors.toList()));
+    assertEquals(0L, partial.estimateSize());
+    assertNull(partial.trySplit());
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.remove(0));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.remove("2"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add(0, "a"));
+  }
+
+}
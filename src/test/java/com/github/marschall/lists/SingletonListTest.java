@@ -197,6 +197,14 @@ public class SingletonListTest {
     assertEquals(1L, this.list.stream().count());
   }
 
+  @Test
+  public void reversed() {
+    SingletonList<String> list = new SingletonList<>("1");
+    assertSame(list, list.reversed());
+    assertEquals("1", list.getFirst());
+    assertEquals("1", list.getLast());
+  }
+
   @Test
   public void forEach() {
     assertEquals(this.equalList, ListTestUtil.collect(this.list));
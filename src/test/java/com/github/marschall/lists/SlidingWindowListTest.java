@@ -0,0 +1,142 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SlidingWindowListTest {
+
+  private SlidingWindowList<Integer> list;
+  private List<List<Integer>> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    this.list = new SlidingWindowList<>(Arrays.asList(3, 1, 4, 1, 5), 3);
+    this.equalList = Arrays.asList(Arrays.asList(3, 1, 4), Arrays.asList(1, 4, 1), Arrays.asList(4, 1, 5));
+  }
+
+  @Test
+  public void size() {
+    assertEquals(3, this.list.size());
+    assertEquals(0, new SlidingWindowList<>(Arrays.asList(1, 2), 3).size());
+    assertTrue(new SlidingWindowList<>(Arrays.asList(1, 2), 3).isEmpty());
+    assertEquals(1, new SlidingWindowList<>(Arrays.asList(1, 2, 3), 3).size());
+    assertThrows(IllegalArgumentException.class, () -> new SlidingWindowList<>(Collections.emptyList(), 0));
+  }
+
+  @Test
+  public void get() {
+    assertEquals(this.equalList.get(1), this.list.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(3));
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void forEach() {
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+    assertEquals(this.equalList, ListTestUtil.collect(this.list.stream()));
+  }
+
+  @Test
+  public void subList() {
+    assertEquals(this.equalList.subList(1, 3), this.list.subList(1, 3));
+    assertEquals(this.equalList.subList(0, 1), this.list.subList(0, 1));
+    assertEquals(Collections.emptyList(), this.list.subList(2, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(0, 4));
+  }
+
+  @Test
+  public void mappedWindows() {
+    List<String> mapped = new MappedList<>(Object::toString, Arrays.asList(1, 2, 3, 4));
+    assertTrue(new SlidingWindowList<>(mapped, 2).get(1) instanceof MappedList);
+  }
+
+  @Test
+  public void sums() {
+    assertArrayEquals(new long[] {8L, 6L, 10L}, this.list.sumAsLong(Integer::longValue));
+    assertArrayEquals(new double[] {8.0d, 6.0d, 10.0d}, this.list.sumAsDouble(Integer::doubleValue));
+    assertArrayEquals(new long[0], new SlidingWindowList<>(Arrays.asList(1), 2).sumAsLong(Integer::longValue));
+  }
+
+  @Test
+  public void extrema() {
+    assertArrayEquals(new long[] {1L, 1L, 1L}, this.list.minAsLong(Integer::longValue));
+    assertArrayEquals(new long[] {4L, 4L, 5L}, this.list.maxAsLong(Integer::longValue));
+    assertArrayEquals(new double[] {1.0d, 1.0d, 1.0d}, this.list.minAsDouble(Integer::doubleValue));
+    assertArrayEquals(new double[] {4.0d, 4.0d, 5.0d}, this.list.maxAsDouble(Integer::doubleValue));
+  }
+
+  @Test
+  public void aggregatesMatchNaive() {
+    Random random = new Random(42L);
+    List<Integer> values = new LinkedList<>();
+    for (int i = 0; i < 500; ++i) {
+      values.add(random.nextInt(100) - 50);
+    }
+    for (int windowSize : new int[] {1, 2, 7, 64, 500}) {
+      SlidingWindowList<Integer> windows = new SlidingWindowList<>(values, windowSize);
+      long[] sums = windows.sumAsLong(Integer::longValue);
+      long[] minima = windows.minAsLong(Integer::longValue);
+      double[] maxima = windows.maxAsDouble(Integer::doubleValue);
+      for (int i = 0; i < windows.size(); ++i) {
+        List<Integer> window = windows.get(i);
+        assertEquals(window.stream().mapToLong(Integer::longValue).sum(), sums[i]);
+        assertEquals((long) Collections.min(window), minima[i]);
+        assertEquals(Collections.max(window).doubleValue(), maxima[i]);
+      }
+    }
+  }
+
+  @Test
+  public void spliterator() {
+    List<Integer> source = new ArrayList<>();
+    for (int i = 0; i < 1_000; ++i) {
+      source.add(i);
+    }
+    SlidingWindowList<Integer> windows = new SlidingWindowList<>(source, 10);
+    Spliterator<List<Integer>> spliterator = windows.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(991L, spliterator.getExactSizeIfKnown());
+    assertEquals(495L, spliterator.trySplit().getExactSizeIfKnown());
+
+    List<Integer> sums = windows.parallelStream()
+            .map(window -> window.stream().mapToInt(Integer::intValue).sum())
+            .collect(Collectors.toList());
+    assertEquals(991, sums.size());
+    assertEquals(Integer.valueOf(45), sums.get(0));
+    assertEquals(Integer.valueOf(9945), sums.get(990));
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.set(0, Collections.emptyList()));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add(Collections.emptyList()));
+  }
+
+}
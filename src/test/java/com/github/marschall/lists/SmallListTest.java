@@ -0,0 +1,201 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class SmallListTest {
+
+  @Test
+  public void empty() {
+    List<String> list = new SmallList<>();
+    assertTrue(list.isEmpty());
+    assertEquals(Collections.emptyList(), list);
+    assertEquals(1, list.hashCode());
+    assertFalse(list.iterator().hasNext());
+    assertEquals(0L, list.spliterator().estimateSize());
+    assertArrayEquals(new Object[0], list.toArray());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+    assertEquals(-1, list.indexOf(null));
+  }
+
+  @Test
+  public void single() {
+    List<String> list = new SmallList<>();
+    list.add("a");
+    assertEquals(Collections.singletonList("a"), list);
+    assertEquals(Collections.singletonList("a").hashCode(), list.hashCode());
+    assertEquals("a", list.get(0));
+    assertEquals("a", list.set(0, "b"));
+    assertEquals(0, list.indexOf("b"));
+    assertEquals(0, list.lastIndexOf("b"));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    assertEquals(new SmallList<>("b"), list);
+
+    Spliterator<String> spliterator = list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+    assertEquals(1L, spliterator.estimateSize());
+
+    String[] array = new String[] {"x", "x"};
+    list.toArray(array);
+    assertArrayEquals(new String[] {"b", null}, array);
+
+    assertEquals("b", list.remove(0));
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  public void inflate() {
+    List<String> list = new SmallList<>("a");
+    list.add("b");
+    list.add(1, "c");
+    list.add(0, "d");
+    List<String> expected = Arrays.asList("d", "a", "c", "b");
+    assertEquals(expected, list);
+    assertEquals(expected.hashCode(), list.hashCode());
+    assertEquals(expected.toString(), list.toString());
+    assertArrayEquals(expected.toArray(), list.toArray());
+    assertArrayEquals(expected.toArray(new String[0]), list.toArray(new String[0]));
+    assertEquals(expected, list.stream().collect(Collectors.toList()));
+    assertEquals(expected, ListTestUtil.collect(list));
+    assertEquals(expected.subList(1, 3), list.subList(1, 3));
+
+    assertTrue(list.remove("a"));
+    assertFalse(list.remove("a"));
+    assertEquals("d", list.remove(0));
+    assertEquals(Arrays.asList("c", "b"), list);
+
+    list.sort(null);
+    assertEquals(Arrays.asList("b", "c"), list);
+
+    list.clear();
+    assertTrue(list.isEmpty());
+    list.add("e");
+    assertEquals(Collections.singletonList("e"), list);
+  }
+
+  @Test
+  public void addAll() {
+    List<Integer> list = new SmallList<>();
+    assertFalse(list.addAll(Collections.emptyList()));
+    assertTrue(list.addAll(Collections.singletonList(1)));
+    assertTrue(list.addAll(Arrays.asList(4, 5)));
+    assertTrue(list.addAll(1, Arrays.asList(2, 3)));
+    assertEquals(Arrays.asList(1, 2, 3, 4, 5), list);
+
+    List<Integer> expected = new ArrayList<>(list);
+    for (int i = 6; i < 100; ++i) {
+      list.add(i);
+      expected.add(i);
+    }
+    assertEquals(expected, list);
+  }
+
+  @Test
+  public void iterator() {
+    List<String> list = new SmallList<>("a");
+    ListIterator<String> iterator = list.listIterator();
+    assertThrows(IllegalStateException.class, () -> iterator.set("x"));
+    assertEquals("a", iterator.next());
+    iterator.set("b");
+    iterator.add("c");
+    assertEquals(Arrays.asList("b", "c"), list);
+    assertFalse(iterator.hasNext());
+    assertEquals("c", iterator.previous());
+    iterator.remove();
+    assertEquals(Collections.singletonList("b"), list);
+
+    Iterator<String> second = list.iterator();
+    second.next();
+    second.remove();
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  public void lateBindingSpliterator() {
+    List<String> list = new SmallList<>();
+    Stream<String> stream = list.stream();
+    list.add("a");
+    assertEquals(1L, stream.count());
+
+    Spliterator<String> spliterator = list.spliterator();
+    list.add("b");
+    list.add("c");
+    assertEquals(3L, spliterator.estimateSize());
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertEquals(Collections.singletonList("a"), collect(prefix));
+    assertEquals(Arrays.asList("b", "c"), collect(spliterator));
+  }
+
+  private static List<String> collect(Spliterator<String> spliterator) {
+    List<String> collected = new ArrayList<>();
+    spliterator.forEachRemaining(collected::add);
+    return collected;
+  }
+
+  @Test
+  public void failFast() {
+    List<String> list = new SmallList<>("a");
+    Iterator<String> iterator = list.iterator();
+    list.add("b");
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+
+    assertThrows(ConcurrentModificationException.class, () -> {
+      for (String each : list) {
+        list.add(each);
+      }
+    });
+    assertThrows(ConcurrentModificationException.class, () -> list.forEach(list::add));
+
+    Spliterator<String> spliterator = list.spliterator();
+    assertTrue(spliterator.tryAdvance(each -> { }));
+    list.remove(0);
+    assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining(each -> { }));
+
+    // modification through the iterator is allowed
+    ListIterator<String> listIterator = list.listIterator();
+    while (listIterator.hasNext()) {
+      listIterator.next();
+      listIterator.remove();
+    }
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  public void nullElements() {
+    List<String> list = new SmallList<>(null);
+    assertEquals(1, list.size());
+    assertNull(list.get(0));
+    assertTrue(list.contains(null));
+    list.add(null);
+    assertEquals(Arrays.asList(null, null), list);
+    assertEquals(1, list.lastIndexOf(null));
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    List<String> list = new SmallList<>("a");
+    assertEquals(list, ListTestUtil.copy(list));
+    list.add("b");
+    assertEquals(list, ListTestUtil.copy(list));
+  }
+
+}
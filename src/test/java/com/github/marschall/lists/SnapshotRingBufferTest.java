@@ -0,0 +1,56 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class SnapshotRingBufferTest {
+
+  @Test
+  public void snapshot() {
+    SnapshotRingBuffer<String> buffer = new SnapshotRingBuffer<>(3);
+    assertTrue(buffer.snapshot().isEmpty());
+    buffer.add("a");
+    buffer.add("b");
+    assertEquals(Arrays.asList("a", "b"), buffer.snapshot());
+    buffer.add("c");
+    buffer.add("d");
+    RingBufferList<String> snapshot = buffer.snapshot();
+    assertEquals(Arrays.asList("b", "c", "d"), snapshot);
+    assertEquals(3, snapshot.capacity());
+    assertEquals(4L, buffer.addedCount());
+    assertThrows(IllegalArgumentException.class, () -> new SnapshotRingBuffer<>(0));
+  }
+
+  @Test
+  public void concurrentSnapshots() throws InterruptedException {
+    SnapshotRingBuffer<Integer> buffer = new SnapshotRingBuffer<>(16);
+    AtomicBoolean running = new AtomicBoolean(true);
+    Thread producer = new Thread(() -> {
+      int i = 0;
+      while (running.get()) {
+        buffer.add(i++);
+      }
+    });
+    producer.start();
+    try {
+      for (int i = 0; i < 10_000; ++i) {
+        List<Integer> snapshot = buffer.snapshot();
+        // every snapshot is a contiguous range of the added elements
+        for (int j = 1; j < snapshot.size(); ++j) {
+          assertEquals(snapshot.get(j - 1) + 1, snapshot.get(j).intValue());
+        }
+      }
+    } finally {
+      running.set(false);
+      producer.join();
+    }
+  }
+
+}
@@ -0,0 +1,153 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TraversableListTest {
+
+  private static List<TraversableList<String>> lists() {
+    List<TraversableList<String>> lists = new ArrayList<>();
+    lists.add(new SingletonList<>("a"));
+    lists.add(new RepeatingList<>("a", 4));
+    lists.add(new MappedList<>(Object::toString, Arrays.asList(1, 2, 3, 4, 5)));
+    lists.add(new MappedList<>(Object::toString, new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5))));
+    lists.add(new PrefixedList<>("a", new PrefixedList<>("b", new ArrayList<>(Arrays.asList("c", "d")))));
+    lists.add(new PrefixedList<>("a", new PrefixedList<>("b", new LinkedList<>(Arrays.asList("c", "d")))));
+    lists.add(new PrefixedList<>("a", new RepeatingList<>("b", 3)));
+    lists.add(new TripleList<>("a", "b", "c"));
+    lists.add(new CyclingList<>(Arrays.asList("a", "b"), 3));
+    lists.add(new FilteredList<>(s -> !s.equals("b"), Arrays.asList("a", "b", "c", "d")));
+    lists.add(RemappedList.reverse(Arrays.asList("a", "b", "c")));
+    lists.add(new GeneratedList<>(5, Integer::toString));
+    lists.add(DictionaryList.copyOf(Arrays.asList("a", "b", "a", "c")));
+    lists.add(new IntArrayMappedList<>(Integer::toString, new int[] {0, 1, 2, 3, 4}, 1, 4));
+    lists.add(new LongArrayMappedList<>(Long::toString, new long[] {1L, 2L, 3L}));
+    lists.add(new DoubleArrayMappedList<>(Double::toString, new double[] {0.5d, 1.5d}));
+    return lists;
+  }
+
+  @Test
+  public void forEachIndexed() {
+    for (TraversableList<String> list : lists()) {
+      List<String> elements = new ArrayList<>();
+      List<Integer> indices = new ArrayList<>();
+      list.forEachIndexed((element, index) -> {
+        elements.add(element);
+        indices.add(index);
+      });
+      assertEquals(new ArrayList<>(list), elements, list.getClass().getName());
+      for (int i = 0; i < indices.size(); ++i) {
+        assertEquals(Integer.valueOf(i), indices.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void forEachInRange() {
+    for (TraversableList<String> list : lists()) {
+      int size = list.size();
+      for (int from = 0; from <= size; ++from) {
+        for (int to = from; to <= size; ++to) {
+          List<String> elements = new ArrayList<>();
+          list.forEachInRange(from, to, elements::add);
+          assertEquals(list.subList(from, to), elements, list.getClass().getName());
+        }
+      }
+      assertThrows(IndexOutOfBoundsException.class, () -> list.forEachInRange(-1, 0, e -> { }));
+      assertThrows(IndexOutOfBoundsException.class, () -> list.forEachInRange(0, size + 1, e -> { }));
+      assertThrows(IndexOutOfBoundsException.class, () -> list.forEachInRange(1, 0, e -> { }));
+    }
+  }
+
+  @Test
+  public void copyInto() {
+    for (TraversableList<String> list : lists()) {
+      int size = list.size();
+      for (int from = 0; from <= size; ++from) {
+        for (int to = from; to <= size; ++to) {
+          String[] destination = new String[to - from + 2];
+          list.copyInto(destination, 1, from, to);
+          assertNull(destination[0]);
+          assertEquals(list.subList(from, to), Arrays.asList(destination).subList(1, to - from + 1), list.getClass().getName());
+          assertNull(destination[destination.length - 1]);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void copyIntoInvalid() {
+    for (TraversableList<String> list : lists()) {
+      int size = list.size();
+      assertThrows(IndexOutOfBoundsException.class, () -> list.copyInto(new Object[size], 1, 0, size));
+      assertThrows(IndexOutOfBoundsException.class, () -> list.copyInto(new Object[size], -1, 0, 0));
+      assertThrows(IndexOutOfBoundsException.class, () -> list.copyInto(new Object[size + 1], 0, 0, size + 1));
+      assertThrows(ArrayStoreException.class, () -> list.copyInto(new Integer[size], 0, 0, size));
+    }
+  }
+
+  @Test
+  public void writeTo() throws IOException {
+    for (TraversableList<String> list : lists()) {
+      StringBuilder builder = new StringBuilder();
+      list.writeTo(builder);
+      assertEquals(list.toString(), builder.toString(), list.getClass().getName());
+
+      StringWriter writer = new StringWriter();
+      list.writeTo(writer);
+      assertEquals(list.toString(), writer.toString(), list.getClass().getName());
+    }
+  }
+
+  @Test
+  public void writeToChunked() throws IOException {
+    TraversableList<String> list = new GeneratedList<>(10_000, Integer::toString);
+    StringWriter writer = new StringWriter();
+    list.writeTo(writer);
+    assertEquals(list.toString(), writer.toString());
+  }
+
+  @Test
+  public void forEachWhile() {
+    for (TraversableList<String> list : lists()) {
+      List<String> elements = new ArrayList<>();
+      assertTrue(list.forEachWhile(elements::add));
+      assertEquals(new ArrayList<>(list), elements, list.getClass().getName());
+
+      List<String> first = new ArrayList<>();
+      assertFalse(list.forEachWhile(e -> {
+        first.add(e);
+        return false;
+      }));
+      assertEquals(list.subList(0, 1), first, list.getClass().getName());
+    }
+  }
+
+  @Test
+  public void filteredListWhileIsLazy() {
+    List<Integer> source = new ArrayList<>();
+    for (int i = 0; i < 1_000; ++i) {
+      source.add(i);
+    }
+    List<Integer> tested = new ArrayList<>();
+    FilteredList<Integer> filtered = new FilteredList<>(i -> {
+      tested.add(i);
+      return i % 2 == 0;
+    }, source);
+    assertFalse(filtered.forEachWhile(i -> i < 4));
+    assertEquals(5, tested.size());
+  }
+
+}
@@ -0,0 +1,155 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ZippedListTest {
+
+  private List<String> list;
+  private List<String> equalList;
+
+  @BeforeEach
+  public void setUp() {
+    List<String> keys = Arrays.asList("a", "b", "c", "d");
+    List<Integer> values = Arrays.asList(1, 2, 3, 4, 5);
+    this.list = new ZippedList<>(concat(), keys, values);
+    this.equalList = Arrays.asList("a=1", "b=2", "c=3", "d=4");
+  }
+
+  private static BiFunction<String, Integer, String> concat() {
+    return (BiFunction<String, Integer, String> & Serializable) (k, v) -> k + '=' + v;
+  }
+
+  @Test
+  public void size() {
+    assertEquals(4, this.list.size());
+    assertFalse(this.list.isEmpty());
+    assertTrue(new ZippedList<>(concat(), Collections.emptyList(), Arrays.asList(1)).isEmpty());
+  }
+
+  @Test
+  public void get() {
+    for (int i = 0; i < this.equalList.size(); ++i) {
+      assertEquals(this.equalList.get(i), this.list.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(4));
+  }
+
+  @Test
+  public void serialize() throws ClassNotFoundException, IOException {
+    assertEquals(this.equalList, ListTestUtil.copy(this.list));
+  }
+
+  @Test
+  public void contains() {
+    assertTrue(this.list.contains("c=3"));
+    assertFalse(this.list.contains("e=5"));
+    assertEquals(2, this.list.indexOf("c=3"));
+    assertEquals(2, this.list.lastIndexOf("c=3"));
+    assertEquals(-1, this.list.lastIndexOf("e=5"));
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    assertEquals(this.equalList, this.list);
+    assertEquals(this.list, this.equalList);
+    assertEquals(this.equalList.hashCode(), this.list.hashCode());
+    assertEquals(this.equalList.toString(), this.list.toString());
+  }
+
+  @Test
+  public void toArray() {
+    assertArrayEquals(this.equalList.toArray(), this.list.toArray());
+    assertArrayEquals(this.equalList.toArray(new String[0]), this.list.toArray(new String[0]));
+    String[] longEnough = new String[] {"x", "x", "x", "x", "x"};
+    assertSame(longEnough, this.list.toArray(longEnough));
+    assertNull(longEnough[4]);
+  }
+
+  @Test
+  public void iterator() {
+    Iterator<String> iterator = this.list.iterator();
+    for (String each : this.equalList) {
+      assertTrue(iterator.hasNext());
+      assertEquals(each, iterator.next());
+    }
+    assertFalse(iterator.hasNext());
+    assertEquals(this.equalList, ListTestUtil.collect(this.list));
+  }
+
+  @Test
+  public void listIterator() {
+    ListIterator<String> iterator = this.list.listIterator(2);
+    assertTrue(iterator.hasPrevious());
+    assertEquals(2, iterator.nextIndex());
+    assertEquals("c=3", iterator.next());
+    assertEquals("d=4", iterator.next());
+    assertFalse(iterator.hasNext());
+    assertEquals("d=4", iterator.previous());
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.listIterator(5));
+    assertThrows(NoSuchElementException.class, () -> this.list.listIterator(0).previous());
+  }
+
+  @Test
+  public void subList() {
+    assertEquals(this.equalList.subList(1, 3), this.list.subList(1, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(0, 5));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.list.subList(2, 1));
+  }
+
+  @Test
+  public void spliterator() {
+    assertEquals(this.equalList, this.list.stream().collect(Collectors.toList()));
+
+    Spliterator<String> spliterator = this.list.spliterator();
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertEquals(2L, prefix.getExactSizeIfKnown());
+    assertEquals(2L, spliterator.getExactSizeIfKnown());
+    assertTrue(prefix.tryAdvance(each -> assertEquals("a=1", each)));
+    assertTrue(spliterator.tryAdvance(each -> assertEquals("c=3", each)));
+  }
+
+  @Test
+  public void parallelAlignment() {
+    List<Integer> left = new ArrayList<>();
+    List<Integer> right = new ArrayList<>();
+    IntStream.range(0, 100_000).forEach(i -> {
+      left.add(i);
+      right.add(-i);
+    });
+    List<Integer> sums = new ZippedList<>(Integer::sum, left, right);
+    assertTrue(sums.parallelStream().allMatch(i -> i == 0));
+    assertEquals(100_000L, sums.parallelStream().count());
+  }
+
+  @Test
+  public void unsupported() {
+    assertThrows(UnsupportedOperationException.class, () -> this.list.set(0, "x"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.add("x"));
+    assertThrows(UnsupportedOperationException.class, () -> this.list.remove(0));
+  }
+
+}
@@ -0,0 +1,81 @@
+package com.github.marschall.lists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class ListEventsTest {
+
+  private static List<RecordedEvent> record(Runnable action) throws IOException {
+    Path file = Files.createTempFile("lists", ".jfr");
+    try {
+      try (Recording recording = new Recording()) {
+        recording.enable("com.github.marschall.lists.ListMapping").withThreshold(Duration.ZERO);
+        recording.enable("com.github.marschall.lists.ListPass").withThreshold(Duration.ZERO);
+        recording.start();
+        action.run();
+        recording.stop();
+        recording.dump(file);
+      }
+      return RecordingFile.readAllEvents(file).stream()
+              .filter(event -> event.getEventType().getName().startsWith("com.github.marschall.lists."))
+              .collect(Collectors.toList());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void mappedList() throws IOException {
+    assertTrue(FlightRecorderSupport.ENABLED);
+    // switched on by the jfr profile
+    assertTrue(FlightRecorderSupport.MAPPING_ENABLED);
+    List<String> list = new MappedList<>(Object::toString, Arrays.asList(1, 2, 3));
+    List<RecordedEvent> events = record(() -> {
+      list.get(1);
+      list.toArray();
+      list.hashCode();
+    });
+    assertEquals(3, events.size());
+
+    RecordedEvent mapping = events.get(0);
+    assertEquals("com.github.marschall.lists.ListMapping", mapping.getEventType().getName());
+    assertEquals("get", mapping.getString("operation"));
+    assertEquals(3, mapping.getInt("size"));
+
+    RecordedEvent toArray = events.get(1);
+    assertEquals("com.github.marschall.lists.ListPass", toArray.getEventType().getName());
+    assertEquals("toArray", toArray.getString("operation"));
+    assertEquals(3, toArray.getInt("size"));
+    assertEquals(MappedList.class.getName(), toArray.getClass("listClass").getName());
+
+    assertEquals("hashCode", events.get(2).getString("operation"));
+  }
+
+  @Test
+  public void repeatingList() throws IOException {
+    List<String> list = new RepeatingList<>("a", 1_000);
+    List<RecordedEvent> events = record(() -> {
+      list.toString();
+      list.toArray(new String[0]);
+    });
+    assertEquals(2, events.size());
+    assertEquals("toString", events.get(0).getString("operation"));
+    assertEquals(1_000, events.get(0).getInt("size"));
+    assertEquals("toArray", events.get(1).getString("operation"));
+  }
+
+}